@@ -0,0 +1,687 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.set;
+
+import com.google.common.collect.ImmutableMap;
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.ResynthModPlants;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import com.ki11erwolf.resynth.plant.set.properties.AbstractCrystallineProperties;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Direction;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.world.ForgeChunkManager;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStartedEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Plays out scripted Resynth farms on a headless dedicated server
+ * and checks that they behave.
+ *
+ * <p/>When the server starts with {@code -Dresynth.integration.ticks=<ticks>}
+ * set, the harness builds two rows of plants for one working plant set of
+ * each type - one left to grow and one auto-farmed with hoppers - as well
+ * as a pool of water filled with crystalline shards that expire straight
+ * away. The server is then run for the given number of ticks, with the
+ * time and memory allocated by every tick recorded, after which the
+ * harness checks that the plants grew, the hoppers were filled with
+ * produce and the shards dropped about as many seeds as their seed
+ * chance predicts. The time and memory taken per tick are checked
+ * against the checked-in {@value #PERFORMANCE_BASELINE}, and may not
+ * be more than its tolerance above it. It also checks that the plant
+ * set resources generated by {@link PlantSetResourcePack} match the
+ * static assets they replaced, byte for byte, for every plant set
+ * definition - including those of mods that aren't loaded.
+ *
+ * <p/>Running with {@code -Dresynth.integration.recordBaseline=<file>}
+ * writes the measured time and memory per tick to the given baseline
+ * file instead of checking them.
+ *
+ * <p/>The results are written to the report file given with {@code
+ * -Dresynth.integration.report=<file>}, starting with a single {@code
+ * result=PASS} or {@code result=FAIL} line, and the server is stopped.
+ * The {@code integrationTest} Gradle task does all of this against a
+ * fresh world and fails the build if the report is not a pass.
+ */
+public final class PlantSetIntegrationHarness {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The system property that starts the harness, set to the number of ticks to run.
+     */
+    private static final String TICKS_PROPERTY = "resynth.integration.ticks";
+
+    /**
+     * The system property holding the path of the report file.
+     */
+    private static final String REPORT_PROPERTY = "resynth.integration.report";
+
+    /**
+     * The system property holding the {@code randomTickSpeed} gamerule to run with.
+     */
+    private static final String RANDOM_TICK_SPEED_PROPERTY = "resynth.integration.randomTickSpeed";
+
+    /**
+     * The system property holding the path of the baseline file to
+     * record the measured performance to, instead of checking it.
+     */
+    private static final String RECORD_BASELINE_PROPERTY = "resynth.integration.recordBaseline";
+
+    /**
+     * The system property that overrides the tolerance of the performance baseline.
+     */
+    private static final String TOLERANCE_PROPERTY = "resynth.integration.tolerance";
+
+    /**
+     * The default {@code randomTickSpeed}. High enough that every
+     * plant is randomly ticked dozens of times in a short run.
+     */
+    private static final int DEFAULT_RANDOM_TICK_SPEED = 128;
+
+    /**
+     * The position of the first plant of the first farm. High in
+     * the air, away from spawn, so the plants can always see the sky.
+     */
+    private static final BlockPos ORIGIN = new BlockPos(1024, 200, 1024);
+
+    /**
+     * The number of plants in each row.
+     */
+    private static final int PLANTS_PER_FARM = 8;
+
+    /**
+     * The number of blocks between each row, along the z axis.
+     */
+    private static final int ROW_SPACING = 3;
+
+    /**
+     * The number of full stacks of shards dropped into the water.
+     */
+    private static final int SHARD_STACKS = 16;
+
+    /**
+     * The SHA-256 of every generated plant set resource that used
+     * to be a static asset, next to this class on the classpath.
+     */
+    private static final String RESOURCE_HASHES = "plant_set_resources.sha256";
+
+    /**
+     * The name of the produce in the registry names of each plant set type.
+     */
+    private static final Map<String, String> PRODUCE_NAMES = ImmutableMap.of(
+            CrystallineSet.SET_TYPE_NAME, "shard",
+            MetallicSet.SET_TYPE_NAME, "organic_ore",
+            BiochemicalSet.SET_TYPE_NAME, "bulb"
+    );
+
+    /**
+     * The expected time and memory taken per tick, along with how far above
+     * them a run may be, next to this class on the classpath.
+     */
+    private static final String PERFORMANCE_BASELINE = "performance_baseline.properties";
+
+    /**
+     * The number of standard deviations the number of seeds dropped
+     * by the shards may be away from the expected number of seeds.
+     */
+    private static final double SEED_DEVIATIONS = 4;
+
+    /**
+     * The plant set types a farm is built for.
+     */
+    private static final PlantSetAPI.SetType[] TYPES = {
+            PlantSetAPI.SetType.BIOCHEMICAL, PlantSetAPI.SetType.CRYSTALLINE, PlantSetAPI.SetType.METALLIC
+    };
+
+    /**
+     * The harness currently running, if any.
+     */
+    private static PlantSetIntegrationHarness running;
+
+    private final MinecraftServer server;
+
+    private final ServerWorld world;
+
+    private final Path report;
+
+    /**
+     * The farms, two per type: the growing row then the hoppered row.
+     * {@code null} for types without a working plant set.
+     */
+    private final TestFarm[][] farms = new TestFarm[TYPES.length][];
+
+    /**
+     * The crystalline set whose shards are dropped in the water.
+     */
+    private CrystallineSet shardSet;
+
+    /**
+     * The position of the water the shards are dropped into.
+     */
+    private final BlockPos pool = ORIGIN.west(4);
+
+    /**
+     * The time taken by each tick, in nanoseconds.
+     */
+    private final long[] tickNanos;
+
+    /**
+     * The memory allocated by the server thread in each tick, in bytes.
+     */
+    private final long[] tickBytes;
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    private int tick;
+
+    private long tickStartNanos;
+
+    private long tickStartBytes;
+
+    /**
+     * @param server the server to run on.
+     * @param ticks the number of ticks to run for.
+     * @param report the path of the report file.
+     */
+    private PlantSetIntegrationHarness(MinecraftServer server, int ticks, Path report) {
+        this.server = server;
+        this.world = server.overworld();
+        this.report = report;
+        this.tickNanos = new long[ticks];
+        this.tickBytes = new long[ticks];
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.threads = threads.isThreadAllocatedMemorySupported() ? threads : null;
+    }
+
+    // *****
+    // Setup
+    // *****
+
+    /**
+     * Sets up the world and builds every farm.
+     */
+    private void start(int randomTickSpeed) {
+        world.getGameRules().getRule(GameRules.RULE_RANDOMTICKING).set(randomTickSpeed, server);
+        world.getGameRules().getRule(GameRules.RULE_DAYLIGHT).set(false, server);
+        world.setDayTime(6000);
+
+        for(int i = 0; i < TYPES.length; i++) {
+            PlantSet<?, ?> set = getWorkingSet(TYPES[i]);
+            if(set == null)
+                continue;
+
+            BlockPos row = ORIGIN.south(i * 2 * ROW_SPACING);
+            farms[i] = new TestFarm[]{
+                    new TestFarm(set, row, PLANTS_PER_FARM, false),
+                    new TestFarm(set, row.south(ROW_SPACING), PLANTS_PER_FARM, true)
+            };
+
+            if(set instanceof CrystallineSet)
+                shardSet = (CrystallineSet) set;
+        }
+
+        forceChunks(pool.offset(-16, 0, -16), ORIGIN.offset(PLANTS_PER_FARM * 2 + 16, 0,
+                TYPES.length * 2 * ROW_SPACING + 16));
+
+        for(TestFarm[] typeFarms : farms)
+            if(typeFarms != null)
+                for(TestFarm farm : typeFarms)
+                    farm.build(world);
+
+        if(shardSet != null)
+            dropShards();
+
+        LOG.info("Integration harness running for " + tickNanos.length + " ticks...");
+    }
+
+    /**
+     * Keeps every chunk between the two positions loaded and
+     * ticking, as there are no players near the farms.
+     */
+    private void forceChunks(BlockPos from, BlockPos to) {
+        for(int x = from.getX() >> 4; x <= to.getX() >> 4; x++)
+            for(int z = from.getZ() >> 4; z <= to.getZ() >> 4; z++) {
+                ForgeChunkManager.forceChunk(world, ResynthMod.MODID, ORIGIN, x, z, true, true);
+                world.getChunk(x, z);
+            }
+    }
+
+    /**
+     * Fills a single block of water with stacks of shards
+     * that expire on their first tick.
+     */
+    private void dropShards() {
+        world.setBlock(pool.below(), Blocks.STONE.defaultBlockState(), 3);
+        for(Direction side : Direction.Plane.HORIZONTAL)
+            world.setBlock(pool.relative(side), Blocks.STONE.defaultBlockState(), 3);
+        world.setBlock(pool, Blocks.WATER.defaultBlockState(), 3);
+
+        for(int i = 0; i < SHARD_STACKS; i++) {
+            ItemEntity shards = new ItemEntity(world, pool.getX() + 0.5, pool.getY() + 0.25, pool.getZ() + 0.5,
+                    new ItemStack(shardSet.getProduceItem(), 64));
+            shards.setDeltaMovement(0, 0, 0);
+            shards.lifespan = 1;
+            world.addFreshEntity(shards);
+        }
+    }
+
+    /**
+     * @return the first plant set of the given type that isn't broken,
+     * or {@code null} if there isn't one.
+     */
+    private static PlantSet<?, ?> getWorkingSet(PlantSetAPI.SetType type) {
+        for(PlantSet<?, ?> set : PlantSetAPI.getSetsByType(type))
+            if(!set.isBroken())
+                return set;
+
+        return null;
+    }
+
+    // *******
+    // Ticking
+    // *******
+
+    private void onTickStart() {
+        tickStartBytes = allocatedBytes();
+        tickStartNanos = System.nanoTime();
+    }
+
+    private void onTickEnd() {
+        tickNanos[tick] = System.nanoTime() - tickStartNanos;
+        tickBytes[tick] = allocatedBytes() - tickStartBytes;
+
+        if(++tick == tickNanos.length)
+            finish();
+    }
+
+    /**
+     * @return the total memory allocated by the server thread,
+     * or {@code 0} if the JVM can't measure it.
+     */
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // *******
+    // Results
+    // *******
+
+    /**
+     * Checks the farms, writes the report and stops the server.
+     */
+    private void finish() {
+        List<String> failures = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+        boolean hoppersEnabled = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class)
+                .isHopperAutoFarmingEnabled();
+
+        for(int i = 0; i < TYPES.length; i++) {
+            String type = TYPES[i].name().toLowerCase();
+            if(farms[i] == null) {
+                failures.add("No working " + type + " plant set");
+                continue;
+            }
+
+            TestFarm growing = farms[i][0], hoppered = farms[i][1];
+            int standing = growing.countPlants(world) + hoppered.countPlants(world);
+            int growth = growing.sumGrowthStages(world);
+            int produce = hoppered.countHopperedProduce(world);
+
+            results.add(type + ".growthStages=" + growth);
+            results.add(type + ".hopperedProduce=" + produce);
+
+            if(standing != PLANTS_PER_FARM * 2)
+                failures.add(type + ": " + (PLANTS_PER_FARM * 2 - standing) + " plants were lost");
+            if(growth == 0)
+                failures.add(type + ": plants did not grow");
+            if(hoppersEnabled && produce == 0)
+                failures.add(type + ": no produce was hoppered");
+        }
+
+        if(shardSet != null)
+            checkSeeds(results, failures);
+        checkResources(results, failures);
+
+        Map<String, Double> performance = new LinkedHashMap<>(summarize("tickMillis", tickNanos, 1e-6));
+        if(threads != null)
+            performance.putAll(summarize("tickAllocatedKB", tickBytes, 1.0 / 1024));
+        performance.forEach((name, value) -> results.add(String.format(Locale.ROOT, "%s=%.3f", name, value)));
+
+        String record = System.getProperty(RECORD_BASELINE_PROPERTY);
+        if(record != null)
+            recordPerformance(Paths.get(record), performance, failures);
+        else checkPerformance(performance, results, failures);
+
+        writeReport(results, failures);
+        running = null;
+        server.halt(false);
+    }
+
+    /**
+     * Checks the shards dropped into the water were turned into about
+     * as many seeds as their seed chance predicts. Each shard drops a
+     * seed with the set's chance, so the number of seeds is binomially
+     * distributed around the expected number.
+     */
+    private void checkSeeds(List<String> results, List<String> failures) {
+        float chance = ((AbstractCrystallineProperties) shardSet.getPlantSetProperties()).seedSpawnChanceFromShard();
+        double probability = Math.min(Math.max(chance, 0) / 100, 1);
+        int shards = SHARD_STACKS * 64;
+        double expected = shards * probability;
+        double allowed = SEED_DEVIATIONS * Math.sqrt(shards * probability * (1 - probability)) + 1;
+        int seeds = 0;
+
+        for(ItemEntity item : world.getEntitiesOfClass(ItemEntity.class, new AxisAlignedBB(pool).inflate(16)))
+            if(item.getItem().getItem() == shardSet.getSeedsItem())
+                seeds += item.getItem().getCount();
+
+        results.add("seedsFromShards=" + seeds);
+        results.add(String.format(Locale.ROOT, "seedsFromShards.expected=%.1f", expected));
+        results.add(String.format(Locale.ROOT, "seedsFromShards.allowedDeviation=%.1f", allowed));
+
+        if(Math.abs(seeds - expected) > allowed)
+            failures.add(String.format(Locale.ROOT, "crystalline: shards dropped %d seeds, expected %.1f +/- %.1f",
+                    seeds, expected, allowed));
+    }
+
+    /**
+     * Checks the time and memory taken per tick are no more than the
+     * baseline's tolerance above the {@value #PERFORMANCE_BASELINE}.
+     * Values missing from the baseline aren't checked.
+     */
+    private static void checkPerformance(Map<String, Double> performance, List<String> results,
+                                         List<String> failures) {
+        Properties baseline = new Properties();
+
+        try(InputStream stream = PlantSetIntegrationHarness.class.getResourceAsStream(PERFORMANCE_BASELINE)) {
+            if(stream == null) {
+                failures.add("performance: " + PERFORMANCE_BASELINE + " is missing");
+                return;
+            }
+
+            baseline.load(stream);
+        } catch (IOException e) {
+            LOG.error("Failed to read " + PERFORMANCE_BASELINE, e);
+            failures.add("performance: " + PERFORMANCE_BASELINE + " could not be read");
+            return;
+        }
+
+        double tolerance;
+        try {
+            tolerance = Double.parseDouble(System.getProperty(TOLERANCE_PROPERTY,
+                    baseline.getProperty("tolerance", "0")).trim());
+        } catch (NumberFormatException e) {
+            failures.add("performance: invalid tolerance");
+            return;
+        }
+
+        results.add(String.format(Locale.ROOT, "performance.tolerance=%.2f", tolerance));
+        for(Map.Entry<String, Double> value : performance.entrySet()) {
+            String expected = baseline.getProperty(value.getKey());
+            if(expected == null) {
+                results.add(value.getKey() + ".baseline=none");
+                continue;
+            }
+
+            double limit;
+            try {
+                limit = Double.parseDouble(expected.trim()) * (1 + tolerance);
+            } catch (NumberFormatException e) {
+                failures.add("performance: invalid baseline for " + value.getKey() + ": " + expected);
+                continue;
+            }
+
+            results.add(value.getKey() + ".baseline=" + expected.trim());
+            if(value.getValue() > limit)
+                failures.add(String.format(Locale.ROOT, "performance: %s=%.3f is over the limit of %.3f " +
+                        "(baseline %s + %.0f%%)", value.getKey(), value.getValue(), limit, expected.trim(),
+                        tolerance * 100));
+        }
+    }
+
+    /**
+     * Writes the measured time and memory per tick to the given baseline
+     * file, keeping the tolerance and comments of the existing baseline.
+     */
+    private static void recordPerformance(Path file, Map<String, Double> performance, List<String> failures) {
+        try {
+            List<String> lines = new ArrayList<>();
+            if(Files.exists(file))
+                for(String line : Files.readAllLines(file, StandardCharsets.UTF_8))
+                    if(line.trim().isEmpty() || line.startsWith("#") || line.startsWith("tolerance="))
+                        lines.add(line);
+
+            performance.forEach((name, value) -> lines.add(String.format(Locale.ROOT, "%s=%.3f", name, value)));
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            LOG.info("Recorded the integration performance baseline to: " + file);
+        } catch (IOException e) {
+            LOG.error("Failed to record the integration performance baseline to: " + file, e);
+            failures.add("performance: the baseline could not be recorded to " + file);
+        }
+    }
+
+    /**
+     * Checks the resources generated for every plant set are identical
+     * to the static assets they replaced. Registered plant sets are
+     * generated as they are. Plant sets that aren't registered, such
+     * as those of mods that aren't loaded, are generated from their
+     * definitions, so every asset is checked.
+     */
+    private void checkResources(List<String> results, List<String> failures) {
+        Map<String, String> expected = readResourceHashes(failures);
+        List<PlantSetResourcePack.SetNames> sets = new ArrayList<>();
+        Set<String> registered = new HashSet<>();
+        int compared = 0;
+
+        PlantSetRegistry.streamPlantSets().forEach(set -> {
+            sets.add(PlantSetResourcePack.SetNames.of(set));
+            registered.add(set.getSetTypeName() + ":" + set.getSetName());
+        });
+
+        PlantSetDefinitions.readAllDefinitions(ResynthModPlants.getSetModIDs()).forEach((id, definition) -> {
+            String type = JSONUtils.getAsString(definition, "type");
+            String name = PlantSetFactory.getSetName(id);
+
+            if(!registered.contains(type + ":" + name)) sets.add(new PlantSetResourcePack.SetNames(
+                    type, JSONUtils.getAsString(definition, "texture", id.getPath()), type + "_plant_" + name,
+                    type + "_seeds_" + name, type + "_" + PRODUCE_NAMES.get(type) + "_" + name
+            ));
+        });
+
+        for(Map.Entry<String, byte[]> resource : PlantSetResourcePack.generate(sets).entrySet()) {
+            String hash = expected.get(resource.getKey());
+            if(hash == null)
+                continue;
+
+            compared++;
+            if(!hash.equals(sha256(resource.getValue())))
+                failures.add("resources: " + resource.getKey() + " differs from the asset it replaced");
+        }
+
+        results.add("resources.sets=" + sets.size());
+        results.add("resources.compared=" + compared);
+
+        if(compared != expected.size())
+            failures.add(String.format(Locale.ROOT, "resources: %d of %d replaced assets were not generated",
+                    expected.size() - compared, expected.size()));
+    }
+
+    /**
+     * @return the expected hash of each generated resource, by path.
+     */
+    private static Map<String, String> readResourceHashes(List<String> failures) {
+        Map<String, String> hashes = new HashMap<>();
+
+        try(InputStream stream = PlantSetIntegrationHarness.class.getResourceAsStream(RESOURCE_HASHES)) {
+            if(stream == null) {
+                failures.add("resources: " + RESOURCE_HASHES + " is missing");
+                return hashes;
+            }
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            for(String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if(line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                String[] entry = line.split("\\s+", 2);
+                hashes.put(entry[1], entry[0]);
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to read " + RESOURCE_HASHES, e);
+            failures.add("resources: " + RESOURCE_HASHES + " could not be read");
+        }
+
+        return hashes;
+    }
+
+    /**
+     * @return the SHA-256 of the given bytes, in lowercase hex.
+     */
+    private static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for(byte b : MessageDigest.getInstance("SHA-256").digest(bytes))
+                hex.append(String.format("%02x", b));
+
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @return the mean, 95th percentile and max of the given per-tick
+     * values, by name, each scaled by the given factor.
+     */
+    private static Map<String, Double> summarize(String name, long[] values, double scale) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        Map<String, Double> summary = new LinkedHashMap<>();
+        summary.put(name + ".mean", Arrays.stream(sorted).average().orElse(0) * scale);
+        summary.put(name + ".p95", sorted[(int) ((sorted.length - 1) * 0.95)] * scale);
+        summary.put(name + ".max", sorted[sorted.length - 1] * scale);
+        return summary;
+    }
+
+    /**
+     * Writes the report file and logs the results.
+     */
+    private void writeReport(List<String> results, List<String> failures) {
+        List<String> lines = new ArrayList<>();
+        lines.add("result=" + (failures.isEmpty() ? "PASS" : "FAIL"));
+        lines.add("ticks=" + tickNanos.length);
+        lines.addAll(results);
+        for(String failure : failures)
+            lines.add("failure=" + failure);
+
+        lines.forEach(LOG::info);
+
+        try {
+            if(report.getParent() != null)
+                Files.createDirectories(report.getParent());
+            Files.write(report, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.error("Failed to write integration report to: " + report, e);
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Starts the harness once the server has started, if requested with the startup property.
+         */
+        @SubscribeEvent
+        public static void onServerStarted(FMLServerStartedEvent event) {
+            String ticks = System.getProperty(TICKS_PROPERTY);
+            if(ticks == null)
+                return;
+
+            int tickCount;
+            try {
+                tickCount = Integer.parseInt(ticks.trim());
+            } catch (NumberFormatException e) {
+                tickCount = 0;
+            }
+
+            if(tickCount < 1) {
+                LOG.error("Invalid integration harness tick count: " + ticks + ", expected a positive number");
+                event.getServer().halt(false);
+                return;
+            }
+
+            running = new PlantSetIntegrationHarness(event.getServer(), tickCount,
+                    Paths.get(System.getProperty(REPORT_PROPERTY, "integration-report.txt")));
+            running.start(Integer.getInteger(RANDOM_TICK_SPEED_PROPERTY, DEFAULT_RANDOM_TICK_SPEED));
+        }
+
+        /**
+         * Records the time and allocations of each server tick.
+         */
+        @SubscribeEvent
+        public static void onServerTick(TickEvent.ServerTickEvent event) {
+            if(running == null)
+                return;
+
+            if(event.phase == TickEvent.Phase.START)
+                running.onTickStart();
+            else running.onTickEnd();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.set;
+
+import com.ki11erwolf.resynth.block.ResynthBlocks;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.state.IntegerProperty;
+import net.minecraft.state.Property;
+import net.minecraft.tileentity.HopperTileEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.server.ServerWorld;
+
+/**
+ * A single row of plants from one plant set, built in the world
+ * by the {@link PlantSetIntegrationHarness}.
+ *
+ * <p/>Every plant in the row is planted on Mineral Soil at the
+ * highest mineral concentration, with a Sylvanite Enhancer below
+ * the soil. Rows can optionally be auto-farmed, in which case a
+ * hopper is placed below the enhancer and each plant starts one
+ * stage away from being fully grown.
+ */
+class TestFarm {
+
+    /**
+     * The number of blocks between plants in a row. Leaves
+     * room for metallic plants to place their produce.
+     */
+    private static final int SPACING = 2;
+
+    /**
+     * The plant set the farm grows.
+     */
+    private final PlantSet<?, ?> set;
+
+    /**
+     * The position of the first plant in the row.
+     */
+    private final BlockPos origin;
+
+    /**
+     * The number of plants in the row.
+     */
+    private final int plants;
+
+    /**
+     * {@code true} if the plants have hoppers below them.
+     */
+    private final boolean hoppered;
+
+    /**
+     * @param set the plant set the farm grows.
+     * @param origin the position of the first plant in the row.
+     * @param plants the number of plants in the row.
+     * @param hoppered {@code true} if the plants are auto-farmed
+     *                 with hoppers.
+     */
+    TestFarm(PlantSet<?, ?> set, BlockPos origin, int plants, boolean hoppered) {
+        this.set = set;
+        this.origin = origin;
+        this.plants = plants;
+        this.hoppered = hoppered;
+    }
+
+    /**
+     * @return the position of the last plant in the row.
+     */
+    BlockPos getEnd() {
+        return getPlant(plants - 1);
+    }
+
+    /**
+     * Places the plants, soil, enhancers and hoppers in the world.
+     */
+    void build(ServerWorld world) {
+        BlockPlant<?> plant = set.getPlantBlock();
+        BlockState state = hoppered
+                ? withGrowthStage(plant.defaultBlockState(), plant.getMaxGrowthStage() - 1)
+                : plant.defaultBlockState();
+
+        for(int i = 0; i < plants; i++) {
+            BlockPos pos = getPlant(i);
+
+            world.setBlock(pos.below(3), hoppered ? Blocks.HOPPER.defaultBlockState()
+                    : Blocks.STONE.defaultBlockState(), 3);
+            world.setBlock(pos.below(2), ResynthBlocks.BLOCK_SYLVANITE_ENHANCER.defaultBlockState(), 3);
+            world.setBlock(pos.below(), ResynthBlocks.BLOCK_MINERAL_SOIL.defaultBlockState(), 3);
+
+            TileEntity soil = world.getBlockEntity(pos.below());
+            if(soil instanceof TileEntityMineralSoil)
+                ((TileEntityMineralSoil) soil).setMineralPercentage(50.0F);
+
+            world.setBlock(pos, state, 3);
+        }
+    }
+
+    /**
+     * @return the number of plants still standing in the row.
+     */
+    int countPlants(ServerWorld world) {
+        int count = 0;
+
+        for(int i = 0; i < plants; i++) {
+            if(world.getBlockState(getPlant(i)).getBlock() == set.getPlantBlock())
+                count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * @return the sum of the growth stages of every plant in the row.
+     */
+    int sumGrowthStages(ServerWorld world) {
+        int sum = 0;
+
+        for(int i = 0; i < plants; i++) {
+            BlockState state = world.getBlockState(getPlant(i));
+            if(state.getBlock() == set.getPlantBlock())
+                sum += set.getPlantBlock().getGrowthStage(state);
+        }
+
+        return sum;
+    }
+
+    /**
+     * @return the number of produce items in the hoppers below the row.
+     */
+    int countHopperedProduce(ServerWorld world) {
+        if(!hoppered)
+            return 0;
+
+        Item produce = set.getProduceItem().asItem();
+        int count = 0;
+
+        for(int i = 0; i < plants; i++) {
+            TileEntity hopper = world.getBlockEntity(getPlant(i).below(3));
+            if(!(hopper instanceof HopperTileEntity))
+                continue;
+
+            for(int slot = 0; slot < ((HopperTileEntity) hopper).getContainerSize(); slot++)
+                if(((HopperTileEntity) hopper).getItem(slot).getItem() == produce)
+                    count += ((HopperTileEntity) hopper).getItem(slot).getCount();
+        }
+
+        return count;
+    }
+
+    /**
+     * @return the position of the plant at the given index in the row.
+     */
+    private BlockPos getPlant(int index) {
+        return origin.east(index * SPACING);
+    }
+
+    /**
+     * @return the given plant state set to the given growth stage. The
+     * growth property is the only integer property plants have.
+     */
+    private static BlockState withGrowthStage(BlockState state, int stage) {
+        for(Property<?> property : state.getProperties())
+            if(property instanceof IntegerProperty)
+                return state.setValue((IntegerProperty) property, stage);
+
+        return state;
+    }
+}
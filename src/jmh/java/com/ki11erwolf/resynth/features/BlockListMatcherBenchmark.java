@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.features;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.world.gen.feature.template.RuleTest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BlockListMatcher#test(BlockState, Random)}, which
+ * is called for every block an ore feature may replace during world
+ * generation. Tests a mix of matching and non-matching states.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockListMatcherBenchmark {
+
+    private final Random random = new Random(0);
+
+    private RuleTest matcher;
+
+    private BlockState[] states;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        Bootstrap.bootStrap();
+
+        matcher = BlockListMatcher.MATCH_OVERWORLD_ROCK;
+        states = new BlockState[]{
+                Blocks.STONE.defaultBlockState(), Blocks.DIRT.defaultBlockState(),
+                Blocks.GRANITE.defaultBlockState(), Blocks.AIR.defaultBlockState(),
+                Blocks.ANDESITE.defaultBlockState(), Blocks.GRAVEL.defaultBlockState(),
+                Blocks.DIORITE.defaultBlockState(), Blocks.WATER.defaultBlockState()
+        };
+    }
+
+    @Benchmark
+    public boolean test() {
+        next = (next + 1) & (states.length - 1);
+        return matcher.test(states[next], random);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Packet#writeString(String, PacketBuffer)} and
+ * {@link Packet#readString(PacketBuffer)}, which encode and decode
+ * every string sent in a Resynth packet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketStringBenchmark {
+
+    /**
+     * The length of the encoded string. 16 is about the
+     * length of a set name, 256 of serialized properties.
+     */
+    @Param({"16", "256"})
+    public int length;
+
+    private String string;
+
+    private PacketBuffer encodeBuffer;
+
+    private PacketBuffer decodeBuffer;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(length);
+        for(int i = 0; i < length; i++)
+            builder.append((char) ('a' + i % 26));
+
+        string = builder.toString();
+        encodeBuffer = new PacketBuffer(Unpooled.buffer(length * 2 + 4));
+        decodeBuffer = new PacketBuffer(Unpooled.buffer(length * 2 + 4));
+        Packet.writeString(string, decodeBuffer);
+    }
+
+    @Benchmark
+    public PacketBuffer encode() {
+        encodeBuffer.clear();
+        Packet.writeString(string, encodeBuffer);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public String decode() {
+        decodeBuffer.readerIndex(0);
+        return Packet.readString(decodeBuffer);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.growth;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the plant growth math run on every random tick
+ * of every Resynth plant: the light level multiplier, the
+ * combined chance of growth and the final random draw.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GrowthBenchmark {
+
+    /**
+     * The light level of the plant. The default zero point is 11,
+     * so these cover below, at and above it.
+     */
+    @Param({"0", "11", "15"})
+    public int lightLevel;
+
+    private static final int ZERO_POINT = PlantGrowth.DEFAULT_LIGHT_LEVEL_ZERO_POINT;
+
+    private static final double WORTH = PlantGrowth.DEFAULT_WORTH_PER_LIGHT_LEVEL;
+
+    private static final double INTEREST = PlantGrowth.DEFAULT_INTEREST_PER_LIGHT_LEVEL;
+
+    /**
+     * The source of randomness for the growth draw.
+     */
+    private final Random random = new Random();
+
+    @Benchmark
+    public double lightLevelToGrowthMultiplier() {
+        return PlantGrowth.lightLevelToGrowthMultiplier(lightLevel, ZERO_POINT, WORTH, INTEREST);
+    }
+
+    @Benchmark
+    public double chanceOfGrowth() {
+        return PlantGrowth.chanceOfGrowth(
+                10, 0.5, 0.25, PlantGrowth.lightLevelToGrowthMultiplier(lightLevel, ZERO_POINT, WORTH, INTEREST)
+        );
+    }
+
+    @Benchmark
+    public boolean chanceOfGrowthWithDraw() {
+        double chance = PlantGrowth.chanceOfGrowth(
+                10, 0.5, 0.25, PlantGrowth.lightLevelToGrowthMultiplier(lightLevel, ZERO_POINT, WORTH, INTEREST)
+        );
+
+        return PlantGrowth.rollGrowth(chance, random);
+    }
+}
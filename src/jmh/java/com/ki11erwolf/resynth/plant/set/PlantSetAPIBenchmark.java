@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.set;
+
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import com.ki11erwolf.resynth.plant.set.properties.CrystallineProperties;
+import net.minecraft.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link PlantSetAPI} lookups against a plant set registry
+ * of realistic size. Resynth registers around 50 sets on its own,
+ * and more with other mods installed.
+ *
+ * <p/>The registry is filled with lightweight stand-in sets that
+ * have no blocks or items, so the registered sets don't match any
+ * specific {@link PlantSetAPI.SetType} other than {@code ALL}.
+ *
+ * <p/>Benchmarks run outside of FML, without Minecraft's or Forge's
+ * registries, so nothing here may touch them. Creating and registering
+ * a plant set only touches {@link PlantSetRegistry}'s own list - apart
+ * from the set's seed hooks, which would register with the Forge event
+ * bus, so the stand-in sets are given seed hooks that don't.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlantSetAPIBenchmark {
+
+    /**
+     * The number of plant sets in the registry.
+     */
+    @Param({"50", "150", "400"})
+    public int sets;
+
+    private String middleSetName;
+
+    @Setup
+    public void setup() {
+        for(int i = 0; i < sets; i++)
+            new BenchmarkSet("set_" + i).register();
+
+        middleSetName = "set_" + (sets / 2);
+    }
+
+    @Benchmark
+    public PlantSet<?, ?> getSetByName() {
+        return PlantSetAPI.getSetByName(middleSetName);
+    }
+
+    @Benchmark
+    public PlantSet<?, ?> getSetByMissingName() {
+        return PlantSetAPI.getSetByName("missing");
+    }
+
+    @Benchmark
+    public PlantSet<?, ?>[] getSetsByType() {
+        return PlantSetAPI.getSetsByType(PlantSetAPI.SetType.ALL);
+    }
+
+    @Benchmark
+    public PlantSet<?, ?> getRandomSet() {
+        return PlantSetAPI.getRandomSet();
+    }
+
+    /**
+     * A plant set without a plant, seeds, produce or seed sources.
+     */
+    private static final class BenchmarkSet extends PlantSet<BlockPlant<?>, Block> {
+
+        private BenchmarkSet(String setName) {
+            super("benchmark", setName, new UnregisteredSeedHooks(),
+                    new CrystallineProperties(false, 10F, 1, 2.5F, 5F));
+        }
+
+        @Override
+        Block[] onSeedSourcesRequest() {
+            return null;
+        }
+    }
+
+    /**
+     * Seed hooks that are never registered with the Forge event
+     * bus, which can't take listeners outside of FML.
+     */
+    private static final class UnregisteredSeedHooks extends PlantSetSeedHooks {
+
+        @Override
+        void register() {}
+    }
+}
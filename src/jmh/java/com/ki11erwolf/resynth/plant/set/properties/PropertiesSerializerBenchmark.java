@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.set.properties;
+
+import com.ki11erwolf.resynth.util.JSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serializing and deserializing each type of plant set
+ * properties to and from JSON strings, as is done for every plant
+ * set when a client connects to a server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertiesSerializerBenchmark {
+
+    private final AbstractBiochemicalProperties biochemical = new BiochemicalProperties(
+            false, 10F, 1, 2.5F, 5F
+    );
+
+    private final AbstractCrystallineProperties crystalline = new CrystallineProperties(
+            false, 10F, 1, 2.5F, 5F
+    );
+
+    private final AbstractMetallicProperties metallic = new MetallicProperties(
+            false, 10F, 2.5F, 5F
+    );
+
+    private final AbstractProduceProperties produce = new ProduceProperties(
+            1, 200, 1.0
+    );
+
+    private String biochemicalJson;
+
+    private String crystallineJson;
+
+    private String metallicJson;
+
+    private String produceJson;
+
+    @Setup
+    public void setup() {
+        biochemicalJson = serializeBiochemical();
+        crystallineJson = serializeCrystalline();
+        metallicJson = serializeMetallic();
+        produceJson = serializeProduce();
+    }
+
+    // Serialize
+
+    @Benchmark
+    public String serializeBiochemical() {
+        return AbstractBiochemicalProperties.SERIALIZER.serializeObject(biochemical).getDataAsJsonString();
+    }
+
+    @Benchmark
+    public String serializeCrystalline() {
+        return AbstractCrystallineProperties.SERIALIZER.serializeObject(crystalline).getDataAsJsonString();
+    }
+
+    @Benchmark
+    public String serializeMetallic() {
+        return AbstractMetallicProperties.SERIALIZER.serializeObject(metallic).getDataAsJsonString();
+    }
+
+    @Benchmark
+    public String serializeProduce() {
+        return AbstractProduceProperties.SERIALIZER.serializeObject(produce).getDataAsJsonString();
+    }
+
+    // Deserialize
+
+    @Benchmark
+    public AbstractBiochemicalProperties deserializeBiochemical() {
+        return AbstractBiochemicalProperties.SERIALIZER.deserializeData(
+                JSerializer.JSerialData.fromJsonString(biochemicalJson)
+        );
+    }
+
+    @Benchmark
+    public AbstractCrystallineProperties deserializeCrystalline() {
+        return AbstractCrystallineProperties.SERIALIZER.deserializeData(
+                JSerializer.JSerialData.fromJsonString(crystallineJson)
+        );
+    }
+
+    @Benchmark
+    public AbstractMetallicProperties deserializeMetallic() {
+        return AbstractMetallicProperties.SERIALIZER.deserializeData(
+                JSerializer.JSerialData.fromJsonString(metallicJson)
+        );
+    }
+
+    @Benchmark
+    public AbstractProduceProperties deserializeProduce() {
+        return AbstractProduceProperties.SERIALIZER.deserializeData(
+                JSerializer.JSerialData.fromJsonString(produceJson)
+        );
+    }
+}
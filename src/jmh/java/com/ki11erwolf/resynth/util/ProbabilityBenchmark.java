@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link MathUtil.Probability} draws, which are made
+ * at least once on every random tick of every Resynth plant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProbabilityBenchmark {
+
+    /**
+     * The percentage chance drawn. 50 takes the coin flip path.
+     */
+    @Param({"5", "50", "95"})
+    public double percentage;
+
+    @Benchmark
+    public boolean percentageDraw() {
+        return MathUtil.Probability.newPercentageProbability(percentage).randomResult().get();
+    }
+
+    @Benchmark
+    public boolean multipliedDraw() {
+        return MathUtil.Probability.multiplyProbabilities(
+                MathUtil.Probability.newPercentageProbability(percentage),
+                MathUtil.Probability.newProbability(0.5)
+        ).randomResult().get();
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth;
+
+import com.google.gson.JsonObject;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.CraftingInventory;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.ICraftingRecipe;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.IRecipeSerializer;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.item.crafting.ShapelessRecipe;
+import net.minecraft.item.crafting.SpecialRecipe;
+import net.minecraft.item.crafting.SpecialRecipeSerializer;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.NonNullList;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
+import net.minecraftforge.common.crafting.CraftingHelper;
+import net.minecraftforge.common.crafting.conditions.ICondition;
+import net.minecraftforge.common.crafting.conditions.IConditionSerializer;
+import net.minecraftforge.event.RegistryEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistryEntry;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single special crafting recipe that handles every one item to one item
+ * conversion provided by Resynth's {@link ResynthRecipes.RecipeProvider
+ * RecipeProviders}, such as Crystalline seeds into resources and Brittle
+ * Blocks to and from the block they mimic.
+ *
+ * <p/>Every crafting grid update would otherwise match against each of
+ * these recipes in turn. This recipe instead recognises a grid holding a
+ * single item and finds the result with one identity map lookup.
+ *
+ * <p/>Special recipes are hidden from the recipe book and recipe viewers,
+ * so each conversion is also registered as a {@link Display} recipe, which
+ * shows the conversion but leaves matching to this recipe.
+ *
+ * <p/>Can be switched off in favour of the individual recipes with
+ * {@link GeneralConfig#useIndividualConversionRecipes()}.
+ */
+public class ConversionRecipe extends SpecialRecipe {
+
+    /**
+     * {@code true} if conversions are handled by this recipe
+     * rather than individual recipes.
+     */
+    static final boolean ENABLED = !ResynthConfig.GENERAL_CONFIG
+            .getCategory(GeneralConfig.class).useIndividualConversionRecipes();
+
+    /**
+     * The ID of the recipe, as defined in Resynth's data.
+     */
+    private static final ResourceLocation ID = new ResourceLocation(ResynthMod.MODID, "single_item_conversions");
+
+    /**
+     * The serializer for the recipe.
+     */
+    private static final SpecialRecipeSerializer<ConversionRecipe> SERIALIZER
+            = new SpecialRecipeSerializer<>(ConversionRecipe::new);
+
+    /**
+     * The serializer for {@link Display} recipes.
+     */
+    private static final DisplaySerializer DISPLAY_SERIALIZER = new DisplaySerializer();
+
+    /**
+     * The recipe of each conversion, by input item.
+     */
+    private final Map<Item, IRecipe<?>> conversionsByInput = new IdentityHashMap<>();
+
+    /**
+     * Creates the recipe, collecting the conversions from
+     * every Resynth RecipeProvider. Holds no conversions
+     * if {@link #ENABLED disabled}.
+     *
+     * @param id the recipe ID.
+     */
+    public ConversionRecipe(ResourceLocation id) {
+        super(id);
+
+        if(!ENABLED)
+            return;
+
+        for(ResynthRecipes.RecipeProvider provider : ResynthRecipes.INSTANCE.getRecipeProviders()) {
+            IRecipe<?>[] recipes = provider.get();
+            if(recipes == null)
+                continue;
+
+            for(IRecipe<?> recipe : recipes)
+                if(recipe != null && isConversion(recipe))
+                    conversionsByInput.putIfAbsent(
+                            recipe.getIngredients().get(0).getItems()[0].getItem(), recipe
+                    );
+        }
+    }
+
+    /**
+     * @return {@code true} if the given recipe is a one item to one item
+     * conversion that is handled by this recipe when it's {@link #ENABLED}.
+     */
+    static boolean isConversion(IRecipe<?> recipe) {
+        if(!(recipe instanceof ShapelessRecipe))
+            return false;
+
+        List<Ingredient> ingredients = recipe.getIngredients();
+        return ingredients.size() == 1 && ingredients.get(0).getItems().length == 1;
+    }
+
+    /**
+     * Creates the {@link Display} recipe for a conversion handled
+     * by this recipe, with the same ID, group, ingredient and result.
+     *
+     * @param conversion a recipe that {@link #isConversion(IRecipe) is a conversion}.
+     * @return the display recipe for the conversion.
+     */
+    static Display toDisplay(IRecipe<?> conversion) {
+        return new Display(
+                conversion.getId(), conversion.getGroup(),
+                conversion.getIngredients().get(0), conversion.getResultItem()
+        );
+    }
+
+    /**
+     * @return the single item in the grid, or {@link
+     * ItemStack#EMPTY} if there are none or more than one.
+     */
+    private static ItemStack getSingleItem(IInventory inventory) {
+        ItemStack single = ItemStack.EMPTY;
+
+        for(int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            if(stack.isEmpty())
+                continue;
+
+            if(!single.isEmpty())
+                return ItemStack.EMPTY;
+
+            single = stack;
+        }
+
+        return single;
+    }
+
+    /**
+     * @return the recipe of the conversion for the single item in the
+     * given grid, or {@code null} if this recipe doesn't handle it.
+     */
+    private IRecipe<?> getConversion(IInventory inventory) {
+        ItemStack input = getSingleItem(inventory);
+        return input.isEmpty() ? null : conversionsByInput.get(input.getItem());
+    }
+
+    @Override
+    public boolean matches(CraftingInventory inventory, World world) {
+        return getConversion(inventory) != null;
+    }
+
+    @Override
+    public ItemStack assemble(CraftingInventory inventory) {
+        IRecipe<?> conversion = getConversion(inventory);
+        return conversion == null ? ItemStack.EMPTY : conversion.getResultItem().copy();
+    }
+
+    @Override
+    public boolean canCraftInDimensions(int width, int height) {
+        return width * height >= 1;
+    }
+
+    @Override
+    public IRecipeSerializer<?> getSerializer() {
+        return SERIALIZER;
+    }
+
+    // *******
+    // Display
+    // *******
+
+    /**
+     * A crafting recipe that shows a single conversion in the recipe book
+     * and recipe viewers. It never matches a crafting grid itself; the
+     * {@link ConversionRecipe} crafts the conversion instead, and the
+     * display recipe is unlocked for the player when they craft it.
+     */
+    public static class Display implements ICraftingRecipe {
+
+        /**
+         * The recipe ID.
+         */
+        private final ResourceLocation id;
+
+        /**
+         * The recipe book group, may be empty.
+         */
+        private final String group;
+
+        /**
+         * The ingredient to convert.
+         */
+        private final Ingredient ingredient;
+
+        /**
+         * The result of the conversion.
+         */
+        private final ItemStack result;
+
+        /**
+         * @param id the recipe ID.
+         * @param group the recipe book group, may be empty.
+         * @param ingredient the ingredient to convert.
+         * @param result the result of the conversion.
+         */
+        Display(ResourceLocation id, String group, Ingredient ingredient, ItemStack result) {
+            this.id = id;
+            this.group = group;
+            this.ingredient = ingredient;
+            this.result = result;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@code false} - the conversion is crafted
+         * by the {@link ConversionRecipe}.
+         */
+        @Override
+        public boolean matches(CraftingInventory inventory, World world) {
+            return false;
+        }
+
+        @Override
+        public ItemStack assemble(CraftingInventory inventory) {
+            return result.copy();
+        }
+
+        @Override
+        public boolean canCraftInDimensions(int width, int height) {
+            return width * height >= 1;
+        }
+
+        @Override
+        public ItemStack getResultItem() {
+            return result;
+        }
+
+        @Override
+        public NonNullList<Ingredient> getIngredients() {
+            return NonNullList.of(Ingredient.EMPTY, ingredient);
+        }
+
+        @Override
+        public String getGroup() {
+            return group;
+        }
+
+        @Override
+        public ResourceLocation getId() {
+            return id;
+        }
+
+        @Override
+        public IRecipeSerializer<?> getSerializer() {
+            return DISPLAY_SERIALIZER;
+        }
+    }
+
+    /**
+     * Reads and writes {@link Display} recipes, so they can
+     * be sent to clients along with every other recipe.
+     */
+    private static class DisplaySerializer extends ForgeRegistryEntry<IRecipeSerializer<?>>
+            implements IRecipeSerializer<Display> {
+
+        @Override
+        public Display fromJson(ResourceLocation id, JsonObject json) {
+            return new Display(
+                    id, JSONUtils.getAsString(json, "group", ""),
+                    Ingredient.fromJson(JSONUtils.getAsJsonObject(json, "ingredient")),
+                    CraftingHelper.getItemStack(JSONUtils.getAsJsonObject(json, "result"), true)
+            );
+        }
+
+        @Override
+        public Display fromNetwork(ResourceLocation id, PacketBuffer buffer) {
+            return new Display(id, buffer.readUtf(), Ingredient.fromNetwork(buffer), buffer.readItem());
+        }
+
+        @Override
+        public void toNetwork(PacketBuffer buffer, Display recipe) {
+            buffer.writeUtf(recipe.group);
+            recipe.ingredient.toNetwork(buffer);
+            buffer.writeItem(recipe.result);
+        }
+    }
+
+    // *********
+    // Condition
+    // *********
+
+    /**
+     * Recipe load condition attached to generated conversion recipes.
+     * Only passes if individual conversion recipes are enabled in the config.
+     */
+    enum IndividualRecipesCondition implements ICondition, IConditionSerializer<IndividualRecipesCondition> {
+
+        /**
+         * Singleton instance of the condition.
+         */
+        INSTANCE;
+
+        /**
+         * The ID of this condition type.
+         */
+        private static final ResourceLocation ID = new ResourceLocation(ResynthMod.MODID, "individual_conversion_recipes");
+
+        @Override
+        public ResourceLocation getID() {
+            return ID;
+        }
+
+        @Override
+        public boolean test() {
+            return !ENABLED;
+        }
+
+        @Override
+        public void write(JsonObject json, IndividualRecipesCondition value) { }
+
+        @Override
+        public IndividualRecipesCondition read(JsonObject json) {
+            return INSTANCE;
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onRegisterRecipeSerializers(RegistryEvent.Register<IRecipeSerializer<?>> event) {
+            event.getRegistry().register(SERIALIZER.setRegistryName(ResynthMod.MODID, "single_item_conversion"));
+            event.getRegistry().register(DISPLAY_SERIALIZER.setRegistryName(ResynthMod.MODID, "single_item_conversion_display"));
+            CraftingHelper.register(IndividualRecipesCondition.INSTANCE);
+        }
+    }
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class CraftingHooks {
+
+        /**
+         * Unlocks the {@link Display} recipe of a conversion in the player's
+         * recipe book when they craft it, as crafting an individual recipe would.
+         */
+        @SubscribeEvent
+        public static void onItemCrafted(PlayerEvent.ItemCraftedEvent event) {
+            PlayerEntity player = event.getPlayer();
+            if(!ENABLED || player.level.isClientSide)
+                return;
+
+            RecipeManager recipeManager = player.level.getRecipeManager();
+            IRecipe<?> recipe = recipeManager.byKey(ID).orElse(null);
+            if(!(recipe instanceof ConversionRecipe))
+                return;
+
+            IRecipe<?> conversion = ((ConversionRecipe) recipe).getConversion(event.getInventory());
+            if(conversion == null)
+                return;
+
+            recipeManager.byKey(conversion.getId()).ifPresent(
+                    display -> player.awardRecipes(Collections.singleton(display))
+            );
+        }
+    }
+}
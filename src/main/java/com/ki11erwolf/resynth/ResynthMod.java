@@ -68,8 +68,12 @@ public class ResynthMod {
 
     /**
      * FML initialized proxy. Will be ServerProxy on dedicated server, ClientProxy otherwise.
+     *
+     * <p/>Created by the mod constructor rather than when this class is loaded, so that
+     * {@link #getNewLogger()} (and with it most of Resynth) can be used without FML,
+     * such as in benchmarks.
      */
-    private static final Proxy proxy = DistExecutor.safeRunForDist(() -> ClientProxy::new, () -> ServerProxy::new);
+    private static Proxy proxy;
 
     /**
      * Mod constructor.
@@ -77,6 +81,8 @@ public class ResynthMod {
      * Calls the construct method of the selected proxy class.
      */
     public ResynthMod(){
+        proxy = DistExecutor.safeRunForDist(() -> ClientProxy::new, () -> ServerProxy::new);
+
         IEventBus forgeBus = MinecraftForge.EVENT_BUS;
         IEventBus modBus = FMLJavaModLoadingContext.get().getModEventBus();
 
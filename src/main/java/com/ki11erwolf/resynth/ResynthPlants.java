@@ -49,7 +49,7 @@ public class ResynthPlants {
     // Set Properties
     // **************
 
-    static final ProduceProperties DEFAULT_PRODUCE_PROPERTIES = new ProduceProperties(
+    public static final ProduceProperties DEFAULT_PRODUCE_PROPERTIES = new ProduceProperties(
             1, 200, 2.0
     );
 
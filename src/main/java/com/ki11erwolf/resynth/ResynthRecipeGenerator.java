@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.minecraft.data.DataGenerator;
+import net.minecraft.data.DirectoryCache;
+import net.minecraft.data.IDataProvider;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.AbstractCookingRecipe;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.ShapelessRecipe;
+import net.minecraftforge.common.crafting.CraftingHelper;
+import net.minecraftforge.common.crafting.conditions.ICondition;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.lifecycle.GatherDataEvent;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Data generator that writes the {@link ResynthRecipes.RecipeProvider#getGenerated()
+ * generated recipes} of every Resynth {@link ResynthRecipes.RecipeProvider} to
+ * Resynth's data pack as json, so they're loaded by the game like any other recipe
+ * instead of being injected on every resource reload.
+ *
+ * <p/>Run with {@code gradlew runData}, as a separate step - builds don't run it.
+ * Output is written to {@code src/generated/resources}, which is committed
+ * and packed into the jar.
+ */
+class ResynthRecipeGenerator implements IDataProvider {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * Gson instance used to write the recipe files.
+     */
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    /**
+     * The data generator the recipes are written with.
+     */
+    private final DataGenerator generator;
+
+    /**
+     * @param generator the data generator the recipes are written with.
+     */
+    ResynthRecipeGenerator(DataGenerator generator) {
+        this.generator = Objects.requireNonNull(generator);
+    }
+
+    /**
+     * Writes every generated recipe to the output folder.
+     */
+    @Override
+    public void run(DirectoryCache cache) throws IOException {
+        Path output = generator.getOutputFolder();
+
+        for(ResynthRecipes.RecipeProvider provider : ResynthRecipes.INSTANCE.getRecipeProviders()) {
+            for(IRecipe<?> recipe : provider.getGenerated()) {
+                List<ICondition> conditions = new ArrayList<>();
+                if(provider.getGeneratedCondition(recipe) != null)
+                    conditions.add(provider.getGeneratedCondition(recipe));
+                if(ConversionRecipe.isConversion(recipe))
+                    conditions.add(ConversionRecipe.IndividualRecipesCondition.INSTANCE);
+
+                JsonObject json = toJson(recipe, conditions);
+
+                if(json == null) {
+                    LOG.warn("Cannot generate recipe '" + recipe.getId() + "' of unsupported type: "
+                            + recipe.getClass().getCanonicalName());
+                    continue;
+                }
+
+                IDataProvider.save(GSON, cache, json, output.resolve(
+                        "data/" + recipe.getId().getNamespace() + "/recipes/" + recipe.getId().getPath() + ".json"
+                ));
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Resynth Recipes";
+    }
+
+    // *************
+    // Serialization
+    // *************
+
+    /**
+     * Writes the given recipe as recipe json. Only shapeless
+     * and cooking recipes are supported.
+     *
+     * @param conditions the conditions required to load the recipe, if any.
+     * @return the recipe json, or {@code null} if the recipe type is unsupported.
+     */
+    @Nullable
+    private static JsonObject toJson(IRecipe<?> recipe, List<ICondition> conditions) {
+        JsonObject json = new JsonObject();
+
+        if(!conditions.isEmpty())
+            json.add("conditions", CraftingHelper.serialize(conditions.toArray(new ICondition[0])));
+
+        json.addProperty("type", Objects.requireNonNull(recipe.getSerializer().getRegistryName()).toString());
+        if(!recipe.getGroup().isEmpty())
+            json.addProperty("group", recipe.getGroup());
+
+        if(recipe instanceof ShapelessRecipe) {
+            JsonArray ingredients = new JsonArray();
+            for(Ingredient ingredient : recipe.getIngredients())
+                ingredients.add(ingredient.toJson());
+
+            json.add("ingredients", ingredients);
+            json.add("result", toJson(recipe.getResultItem()));
+        } else if (recipe instanceof AbstractCookingRecipe) {
+            AbstractCookingRecipe cookingRecipe = (AbstractCookingRecipe) recipe;
+
+            json.add("ingredient", cookingRecipe.getIngredients().get(0).toJson());
+            json.add("result", toJson(cookingRecipe.getResultItem()));
+            json.addProperty("experience", cookingRecipe.getExperience());
+            json.addProperty("cookingtime", cookingRecipe.getCookingTime());
+        } else return null;
+
+        return json;
+    }
+
+    /**
+     * Writes the given ItemStack as a recipe result.
+     */
+    private static JsonObject toJson(ItemStack stack) {
+        JsonObject json = new JsonObject();
+        json.addProperty("item", Objects.requireNonNull(stack.getItem().getRegistryName()).toString());
+
+        if(stack.getCount() != 1)
+            json.addProperty("count", stack.getCount());
+
+        return json;
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onGatherData(GatherDataEvent event) {
+            if(event.includeServer())
+                event.getGenerator().addProvider(new ResynthRecipeGenerator(event.getGenerator()));
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.ki11erwolf.resynth.block.BrittleBlock;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import com.ki11erwolf.resynth.item.ResynthItems;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvent;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
 import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -30,6 +32,7 @@ import net.minecraft.resources.IResourceManagerReloadListener;
 import net.minecraft.util.IItemProvider;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.crafting.conditions.ICondition;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -38,6 +41,7 @@ import org.apache.logging.log4j.Logger;
 import javax.annotation.Nullable;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * The global manager and handler for all custom {@link IRecipe Recipes}
@@ -292,7 +296,7 @@ public enum ResynthRecipes implements IResourceManagerReloadListener {
      */
     @Override
     public void onResourceManagerReload(IResourceManager resourceManager) {
-        ResynthMod.getNewLogger().info("Injecting Resynth's custom recipes for plants & plant sets...");
+        LOG.info("Checking Resynth's custom recipes for plants & plant sets...");
         register(getRecipes());
     }
 
@@ -306,12 +310,36 @@ public enum ResynthRecipes implements IResourceManagerReloadListener {
      * accessing or modifying Minecraft's internal recipes. Cause Exception is wrapped.
      * @param recipes a list of newly created {@link IRecipe Recipe} instances to be
      *                registered to the game. Don't copy existing recipes into the list.
+     *                Recipes with the same ID as an already loaded recipe, such as a
+     *                generated recipe, are skipped. Conversions handled by the
+     *                {@link ConversionRecipe} are registered as its display recipes.
      */
     private void register(List<IRecipe<?>> recipes) {
+        ResynthEvent event = ResynthEvents.beginRecipeInjection();
+
+        // Skip recipes already loaded from the (generated) data pack,
+        // and only display conversions handled by the ConversionRecipe
+        recipes = recipes.stream().filter(
+                recipe -> !getRecipeManager().byKey(recipe.getId()).isPresent()
+        ).<IRecipe<?>>map(
+                recipe -> ConversionRecipe.ENABLED && ConversionRecipe.isConversion(recipe)
+                        ? ConversionRecipe.toDisplay(recipe) : recipe
+        ).collect(Collectors.toList());
+
+        if(recipes.isEmpty()) {
+            LOG.info("All of Resynth's custom recipes are loaded from data; nothing to inject.");
+            ResynthEvents.end(event, null, null, "skipped", 0);
+            return;
+        }
+
+        LOG.info("Injecting " + recipes.size() + " of Resynth's custom recipes not loaded from data...");
         Field recipesField = getRecipesField(); // Get recipes
+        int injected = recipes.size();
         recipes = new ArrayList<>(recipes); // Make copy of input
         recipes.addAll(getRecipeManager().getRecipes()); // Copy over old recipes
         setRecipesField(recipesField, recipesToMap(recipes)); // Set game recipes
+
+        ResynthEvents.end(event, null, null, "injected", injected);
     }
 
     /**
@@ -443,6 +471,13 @@ public enum ResynthRecipes implements IResourceManagerReloadListener {
         event.addListener(this);
     }
 
+    /**
+     * @return the list of Resynth's custom {@link RecipeProvider RecipeProviders}.
+     */
+    RecipeProvider[] getRecipeProviders() {
+        return recipeProviders.clone();
+    }
+
     // Provider interface for custom RecipeProviders
 
     /**
@@ -474,6 +509,32 @@ public enum ResynthRecipes implements IResourceManagerReloadListener {
         @Nullable
         IRecipe<?>[] get();
 
+        /**
+         * Called by the {@link ResynthRecipeGenerator data generator} at build
+         * time. Implementations should return the {@link IRecipe Recipes} that
+         * can be written to Resynth's data pack as json. Recipes that are
+         * generated are not injected at runtime while the generated recipe
+         * is loaded.
+         *
+         * @return the list of recipes to generate. Generates none by default.
+         */
+        default IRecipe<?>[] getGenerated() {
+            return new IRecipe<?>[0];
+        }
+
+        /**
+         * Allows implementations to attach a {@link ICondition load condition}
+         * to a generated recipe, e.g. if the recipe depends on the config.
+         *
+         * @param recipe one of the {@link #getGenerated() generated} recipes.
+         * @return the condition the generated recipe must pass to be
+         * loaded, or {@code null} if the recipe should always be loaded.
+         */
+        @Nullable
+        default ICondition getGeneratedCondition(IRecipe<?> recipe) {
+            return null;
+        }
+
         /**
          * Convenience method to create and obtain a new {@link FurnaceRecipe}
          * instance from the given input.
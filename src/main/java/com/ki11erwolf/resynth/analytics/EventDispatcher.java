@@ -0,0 +1,356 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.analytics;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import dmurph.tracking.AnalyticsConfigData;
+import dmurph.tracking.GoogleAnalyticsV4_7_2;
+import dmurph.tracking.IGoogleAnalyticsURLBuilder;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends analytics events in the background, off the calling thread.
+ *
+ * <p/>Events are placed on a bounded, lock-free queue which is drained
+ * by a single daemon worker thread. The worker turns events into request
+ * URLs and sends them using the {@link SSLHelper scoped} SSL context, one
+ * request per event, as the analytics endpoint takes a single event per
+ * request. If a request can't be made (e.g. the user is offline),
+ * the unsent URLs are spooled to disk and retried later, once a request
+ * succeeds again - this includes on the next run of the game.
+ *
+ * <p/>Offering an event never blocks, and events offered while the
+ * queue is full are dropped.
+ */
+final class EventDispatcher {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The maximum number of events that can be waiting in the queue.
+     */
+    private static final int QUEUE_CAPACITY = 256;
+
+    /**
+     * The maximum number of events taken from the queue by the worker
+     * at a time, before it checks the spool and sends them.
+     */
+    private static final int DRAIN_SIZE = 16;
+
+    /**
+     * The maximum number of requests kept in the spool file.
+     * The oldest requests are discarded first.
+     */
+    private static final int SPOOL_CAPACITY = 1024;
+
+    /**
+     * How long the worker waits before trying again after a failed request.
+     */
+    private static final long RETRY_DELAY = TimeUnit.SECONDS.toNanos(60);
+
+    /**
+     * The connect and read timeout of a single request, in milliseconds.
+     */
+    private static final int TIMEOUT = 5000;
+
+    /**
+     * How long the shutdown hook waits on the worker before
+     * spooling whatever is left in the queue, in milliseconds.
+     */
+    private static final long SHUTDOWN_WAIT = 2000;
+
+    /**
+     * The queue of events waiting to be sent.
+     */
+    private final Queue<Event> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of events in the queue. Used to bound the queue.
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * Builds request URLs from events. Only ever used by the worker thread,
+     * or the shutdown hook once the worker has stopped.
+     */
+    private final IGoogleAnalyticsURLBuilder urlBuilder;
+
+    /**
+     * The file unsent requests are spooled to.
+     */
+    private final File spoolFile;
+
+    /**
+     * The single worker thread.
+     */
+    private final Thread worker;
+
+    /**
+     * {@code false} once the dispatcher is shutting down.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * @param endpoint the URL events are sent to.
+     * @param trackingCode the analytics tracking code.
+     * @param spoolFile the file unsent requests are spooled to.
+     */
+    EventDispatcher(String endpoint, String trackingCode, File spoolFile) {
+        this.urlBuilder = new GoogleAnalyticsV4_7_2(new AnalyticsConfigData(trackingCode), endpoint);
+        this.spoolFile = spoolFile;
+
+        this.worker = new Thread(this::run, "Resynth-Analytics");
+        this.worker.setDaemon(true);
+        this.worker.setPriority(Thread.MIN_PRIORITY);
+    }
+
+    /**
+     * Starts the worker thread and registers the
+     * shutdown hook that spools unsent events.
+     *
+     * @return {@code this}.
+     */
+    EventDispatcher start() {
+        worker.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "Resynth-Analytics-Shutdown"));
+        return this;
+    }
+
+    /**
+     * Places the event in the queue to be sent by the
+     * worker thread. Never blocks.
+     *
+     * @param event the event to send.
+     * @return {@code true} if the event was queued, {@code false}
+     * if the queue is full or the dispatcher has been shut down.
+     */
+    boolean offer(Event event) {
+        if(!running)
+            return false;
+
+        if(queued.incrementAndGet() > QUEUE_CAPACITY) {
+            queued.decrementAndGet();
+            return false;
+        }
+
+        queue.offer(event);
+        LockSupport.unpark(worker);
+        return true;
+    }
+
+    // ******
+    // Worker
+    // ******
+
+    /**
+     * The worker loop. Drains the queue a few events at a
+     * time and parks when there is nothing left to send.
+     */
+    private void run() {
+        while(running) {
+            List<String> urls = drain(DRAIN_SIZE);
+
+            if(urls.isEmpty()) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            List<String> unsent = sendSpooled() ? sendAll(urls) : urls;
+
+            if(!unsent.isEmpty()) {
+                spool(unsent);
+                LockSupport.parkNanos(this, RETRY_DELAY);
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code max} events from the
+     * queue and builds their request URLs.
+     */
+    private List<String> drain(int max) {
+        List<String> urls = new ArrayList<>(Math.min(max, queued.get()));
+        Event event;
+
+        while(urls.size() < max && (event = queue.poll()) != null) {
+            queued.decrementAndGet();
+
+            try {
+                urls.add(urlBuilder.buildURL(event.getEventData()));
+            } catch (Exception e) {
+                LOG.warn("Failed to build analytics request for event: " + event, e);
+            }
+        }
+
+        return urls;
+    }
+
+    /**
+     * Sends every URL in the list, in order, stopping at the first failure.
+     *
+     * @return the URLs that could not be sent.
+     */
+    private List<String> sendAll(List<String> urls) {
+        for(int i = 0; i < urls.size(); i++) {
+            if(!send(urls.get(i)))
+                return urls.subList(i, urls.size());
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Makes a single request.
+     *
+     * @param url the full request URL.
+     * @return {@code true} if a response was received (regardless
+     * of response code), {@code false} if the request could not
+     * be made and should be tried again later.
+     */
+    private boolean send(String url) {
+        HttpURLConnection connection = null;
+
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            SSLHelper.applyTo(connection);
+
+            connection.setRequestMethod("GET");
+            connection.setInstanceFollowRedirects(true);
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setUseCaches(false);
+
+            int responseCode = connection.getResponseCode();
+            if(responseCode != HttpURLConnection.HTTP_OK)
+                LOG.debug("Analytics request returned response code: " + responseCode);
+
+            try(InputStream in = responseCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if(in != null) //Drain, so the connection can be reused
+                    //noinspection StatementWithEmptyBody
+                    while (in.read() != -1);
+            }
+
+            return true;
+        } catch (IOException e) {
+            LOG.debug("Analytics request failed, will retry later: " + e.getMessage());
+            return false;
+        } finally {
+            if(connection != null)
+                connection.disconnect();
+        }
+    }
+
+    // *****
+    // Spool
+    // *****
+
+    /**
+     * Sends any requests spooled to disk.
+     *
+     * @return {@code true} if the spool is now empty, {@code false}
+     * if one or more spooled requests still could not be sent.
+     */
+    private boolean sendSpooled() {
+        if(!spoolFile.exists())
+            return true;
+
+        List<String> spooled;
+        try {
+            spooled = Files.readAllLines(spoolFile.toPath(), StandardCharsets.UTF_8);
+            Files.delete(spoolFile.toPath());
+        } catch (IOException e) {
+            LOG.warn("Failed to read analytics spool file", e);
+            return true;
+        }
+
+        if(!spooled.isEmpty())
+            LOG.debug("Sending " + spooled.size() + " spooled analytics requests...");
+
+        List<String> unsent = sendAll(spooled);
+        if(unsent.isEmpty())
+            return true;
+
+        spool(unsent);
+        return false;
+    }
+
+    /**
+     * Appends the given requests to the spool file, discarding
+     * the oldest requests if the spool is over capacity.
+     */
+    private synchronized void spool(List<String> urls) {
+        try {
+            List<String> spooled = spoolFile.exists()
+                    ? new ArrayList<>(Files.readAllLines(spoolFile.toPath(), StandardCharsets.UTF_8))
+                    : new ArrayList<>(urls.size());
+
+            spooled.addAll(urls);
+            if(spooled.size() > SPOOL_CAPACITY)
+                spooled = spooled.subList(spooled.size() - SPOOL_CAPACITY, spooled.size());
+
+            Files.write(spoolFile.toPath(), spooled, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            LOG.warn("Failed to spool " + urls.size() + " analytics requests", e);
+        }
+    }
+
+    // ********
+    // Shutdown
+    // ********
+
+    /**
+     * Stops the worker and spools any events it didn't get to.
+     */
+    private void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+
+        try {
+            worker.join(SHUTDOWN_WAIT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        //Worker is stuck on a request, leave the queue to it.
+        if(worker.isAlive())
+            return;
+
+        List<String> remaining = drain(QUEUE_CAPACITY);
+        if(!remaining.isEmpty())
+            spool(remaining);
+    }
+}
@@ -20,9 +20,7 @@ import com.ki11erwolf.resynth.config.categories.SeedPodConfig;
 import com.ki11erwolf.resynth.integration.SupportedMods;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.GeneralConfig;
-import dmurph.tracking.AnalyticsConfigData;
 import dmurph.tracking.AnalyticsRequestData;
-import dmurph.tracking.JGoogleAnalyticsTracker;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
@@ -74,38 +72,40 @@ public final class ResynthAnalytics {
      */
     private static final String TITLE = "Resynth - Jar";
 
+    /**
+     * The file events that could not be sent are spooled to,
+     * to be sent when the next request succeeds.
+     */
+    private static final File SPOOL_FILE = new File("config/resynth/analytics-spool");
+
     /*
-     * Disables SSL Verification before initializing
-     * Google Analytics. If this isn't here the event
-     * messages will be block by java for some reason.
+     * Ensures the parent folder of the new user file exists.
      */
     static{
         //noinspection ResultOfMethodCallIgnored
         RESYNTH_USER_FILE.getParentFile().mkdir();
         //noinspection ResultOfMethodCallIgnored
         RESYNTH_USER_FILE.getParentFile().mkdirs();
-
-        SSLHelper.disableSSL();
     }
 
     /**
-     * The Google analytics API.
+     * The background dispatcher that sends events.
      */
-    private static final JGoogleAnalyticsTracker ANALYTICS;
+    private static final EventDispatcher DISPATCHER;
 
     /*
-        Only initializes the tracker if analytics is enabled.
+        Only initializes the dispatcher if analytics is enabled.
      */
     static {
         if(ENABLED) {
             LOG.info("Analytics has been enabled!");
-            ANALYTICS = new JGoogleAnalyticsTracker(
-                    new AnalyticsConfigData(CODE),
-                    JGoogleAnalyticsTracker.GoogleAnalyticsVersion.V_4_7_2
-            );
+            DISPATCHER = new EventDispatcher(
+                    ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getAnalyticsEndpoint(),
+                    CODE, SPOOL_FILE
+            ).start();
         } else {
-            LOG.info("Analytics has been enabled!");
-            ANALYTICS = null;
+            LOG.info("Analytics has been disabled!");
+            DISPATCHER = null;
         }
     }
 
@@ -145,24 +145,21 @@ public final class ResynthAnalytics {
     }
 
     /**
-     * Sends the event to the analytics api.
+     * Queues the event to be sent to the analytics api
+     * in the background. Never blocks the calling thread.
      *
      * @param e the event to send.
      */
     public static void send(Event e){
         //Never send an event if analytics is disabled.
-        if(!ENABLED || ANALYTICS == null){
+        if(!ENABLED || DISPATCHER == null){
             LOG.info(String.format("Analytics disabled! Event (%s) prevented from sending.", e.toString()));
-            SSLHelper.enableSSL();
             return;
         }
 
-        //Disable it again before sending the event.
-        SSLHelper.disableSSL();
-        LOG.info("Sending analytics event: " + e.toString());
-        ANALYTICS.makeCustomRequest(e.getEventData());
-        //Re-enable it once we're done
-        SSLHelper.enableSSL();
+        if(DISPATCHER.offer(e))
+            LOG.info("Queued analytics event: " + e.toString());
+        else LOG.warn("Analytics queue full! Dropped event: " + e.toString());
     }
 
     /**
@@ -19,19 +19,22 @@ import com.ki11erwolf.resynth.ResynthMod;
 import org.apache.logging.log4j.Logger;
 
 import javax.net.ssl.*;
+import java.net.URLConnection;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
 
 /**
- * Used to disable and re-enable native
- * Java SSL verification.
+ * Provides a lenient SSL context scoped to the
+ * connections made by Resynth's analytics.
  *
  * Native Java SSL verification can prevent some
  * website files being from being read (such as the
- * {@code versions.json} file). This class provides
- * the solution to the problem by providing methods
- * to disable and renable SSL verification.
+ * {@code versions.json} file). Rather than changing
+ * the JVM-wide {@link HttpsURLConnection} defaults,
+ * which affects every other mod and Minecraft itself,
+ * this class provides a socket factory and hostname
+ * verifier that are applied to individual connections.
  */
 class SSLHelper {
 
@@ -46,78 +49,75 @@ class SSLHelper {
     private static final Logger LOG = ResynthMod.getNewLogger();
 
     /**
-     * True if SSL has been disabled.
+     * All-trusting host name verifier.
      */
-    private static boolean isSSLDisabled = false;
+    private static final HostnameVerifier ALL_HOSTS_VALID = (hostname, session) -> true;
 
     /**
-     * The java default SSL socket factory.
+     * The lazily created, scoped socket factory.
      */
-    private static SSLSocketFactory defaultSocketFactory;
+    private static volatile SSLSocketFactory socketFactory;
 
     /**
-     * The java default HostnameVerifier
-     */
-    private static HostnameVerifier defaultHostnameVerifier;
-
-    /**
-     * Disables native java ssl verification.
+     * Applies the scoped SSL context to the given connection,
+     * if it's an HTTPS connection. No global state is changed.
      *
-     * This prevents issues with incorrectly signed website files.
+     * @param connection the connection to apply the context to.
      */
     //https://stackoverflow.com/questions/19540289/how-to-fix-the-java-security-cert-certificateexception-no-subject-alternative
     //MODIFIED
-    public static void disableSSL() {
-        if(!isSSLDisabled){
-            LOG.debug("Disabling SSL...");
-
-            try{
-                defaultSocketFactory = HttpsURLConnection.getDefaultSSLSocketFactory();
-                defaultHostnameVerifier = HttpsURLConnection.getDefaultHostnameVerifier();
+    static void applyTo(URLConnection connection) {
+        if(!(connection instanceof HttpsURLConnection))
+            return;
 
-                //Create a trust manager that does not validate certificate chains
-                TrustManager[] trustAllCerts = new TrustManager[] {new X509TrustManager() {
-                    public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-                        return null;
-                    }
-                    public void checkClientTrusted(X509Certificate[] certs, String authType) {
-                    }
-                    public void checkServerTrusted(X509Certificate[] certs, String authType) {
-                    }
-                }};
+        SSLSocketFactory factory = getSocketFactory();
+        if(factory == null)
+            return;
 
-                //Install the all-trusting trust manager
-                SSLContext sc = SSLContext.getInstance("SSL");
-                sc.init(null, trustAllCerts, new java.security.SecureRandom());
-                HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-
-                // Create all-trusting host name verifier
-                HostnameVerifier allHostsValid = (hostname, session) -> true;
+        ((HttpsURLConnection) connection).setSSLSocketFactory(factory);
+        ((HttpsURLConnection) connection).setHostnameVerifier(ALL_HOSTS_VALID);
+    }
 
-                //Install the all-trusting host verifier
-                HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
-            } catch (NoSuchAlgorithmException | KeyManagementException e) {
-                ResynthMod.getNewLogger().error("Failed to disable SSL", e);
+    /**
+     * @return the scoped socket factory that does not validate
+     * certificate chains, or {@code null} if one could not be created.
+     */
+    private static SSLSocketFactory getSocketFactory() {
+        if(socketFactory == null) {
+            synchronized (SSLHelper.class) {
+                if(socketFactory == null)
+                    socketFactory = createSocketFactory();
             }
-            isSSLDisabled = true;
         }
+
+        return socketFactory;
     }
 
     /**
-     * Re-enables ssl verification. Disabled by above method.
+     * Creates the socket factory using a trust manager
+     * that does not validate certificate chains.
      */
-    //To fix by undoing the above fix
-    public static void enableSSL(){
-        if(defaultSocketFactory != null && defaultHostnameVerifier != null){
-            LOG.debug("Enabling SSL...");
+    private static SSLSocketFactory createSocketFactory() {
+        LOG.debug("Creating scoped analytics SSL context...");
 
-            HttpsURLConnection.setDefaultSSLSocketFactory(defaultSocketFactory);
-            HttpsURLConnection.setDefaultSSLSocketFactory(defaultSocketFactory);
-            isSSLDisabled = false;
-        } else LOG.warn(String.format(
-                "Call to 'SSLHelper.enableSSL()' failed! Additional Information: " +
-                        "[SocketFactory=%s, HostnameVerifier=%s, isSSLDisabled=%s]",
-                defaultSocketFactory, defaultHostnameVerifier, isSSLDisabled
-        ));
+        //Create a trust manager that does not validate certificate chains
+        TrustManager[] trustAllCerts = new TrustManager[] {new X509TrustManager() {
+            public java.security.cert.X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+            public void checkClientTrusted(X509Certificate[] certs, String authType) {
+            }
+            public void checkServerTrusted(X509Certificate[] certs, String authType) {
+            }
+        }};
+
+        try{
+            SSLContext sc = SSLContext.getInstance("TLS");
+            sc.init(null, trustAllCerts, new java.security.SecureRandom());
+            return sc.getSocketFactory();
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            LOG.error("Failed to create scoped analytics SSL context", e);
+            return null;
+        }
     }
 }
@@ -15,19 +15,28 @@
  */
 package com.ki11erwolf.resynth.block;
 
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
 import com.ki11erwolf.resynth.util.ExpandingTooltip;
 import com.ki11erwolf.resynth.util.Tooltip;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.block.ISidedInventoryProvider;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.util.ITooltipFlag;
+import net.minecraft.inventory.ISidedInventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.IBlockReader;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
 import net.minecraftforge.common.ToolType;
 
 import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,8 +45,11 @@ import static com.ki11erwolf.resynth.util.Tooltip.newBlankLine;
 /**
  * An enhancer block that can be placed underneath Mineral
  * Soil to increase it's Mineral Content beyond 50%.
+ *
+ * <p/>Hoppers placed underneath an enhancer can pull
+ * produce through it, out of the Mineral Soil above.
  */
-public class BlockEnhancer extends ResynthBlock<BlockEnhancer>{
+public class BlockEnhancer extends ResynthBlock<BlockEnhancer> implements ISidedInventoryProvider {
 
     /**
      * Name appended to all enhancer blocks.
@@ -70,6 +82,23 @@ public class BlockEnhancer extends ResynthBlock<BlockEnhancer>{
         this.stageIncrease = stageIncrease;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return the produce of the Mineral Soil above the
+     * enhancer, or {@code null} if there is no soil above.
+     */
+    @Nullable
+    @Override
+    public ISidedInventory getContainer(BlockState state, IWorld world, BlockPos pos) {
+        TileEntity soil = world.getBlockEntity(pos.above());
+
+        if(soil instanceof TileEntityMineralSoil)
+            return ((TileEntityMineralSoil) soil).getProduceInventory();
+
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -85,6 +114,36 @@ public class BlockEnhancer extends ResynthBlock<BlockEnhancer>{
         ).write(tooltip).add(newBlankLine());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Lets the plant on the soil above grow with the enhancer.
+     */
+    @Override
+    @ParametersAreNonnullByDefault
+    @SuppressWarnings("deprecation")
+    public void onPlace(BlockState state, World world, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, world, pos, oldState, isMoving);
+
+        if(state.getBlock() != oldState.getBlock())
+            BlockPlant.onChanceOfGrowthChanged(world, pos.above(2));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Lets the plant on the soil above grow without the enhancer.
+     */
+    @Override
+    @ParametersAreNonnullByDefault
+    @SuppressWarnings("deprecation")
+    public void onRemove(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
+        super.onRemove(state, world, pos, newState, isMoving);
+
+        if(state.getBlock() != newState.getBlock())
+            BlockPlant.onChanceOfGrowthChanged(world, pos.above(2));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block;
+
+import com.ki11erwolf.resynth.block.tileEntity.ResynthTileEntity;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityGreenhouseController;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.SoundType;
+import net.minecraft.block.material.Material;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ActionResultType;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.text.TranslationTextComponent;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
+import net.minecraftforge.common.ToolType;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * The Greenhouse Controller. Takes over the growth of every Resynth
+ * plant in the region around it, growing them all from its own single
+ * tick rather than from each plants own random ticks.
+ *
+ * <p/>See {@link TileEntityGreenhouseController} for the details.
+ */
+public class BlockGreenhouseController extends ResynthTileEntity<TileEntityGreenhouseController> {
+
+    /**
+     * Default constructor.
+     */
+    BlockGreenhouseController(String name) {
+        super(Properties.of(Material.METAL).strength(3.0F).sound(SoundType.METAL), name);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Tells the player how many plants the controller is growing.
+     */
+    @Override
+    @Nonnull
+    @SuppressWarnings("deprecation")
+    @ParametersAreNonnullByDefault
+    public ActionResultType use(BlockState state, World world, BlockPos pos, PlayerEntity player,
+                                Hand hand, BlockRayTraceResult hit) {
+        if(world.isClientSide)
+            return ActionResultType.SUCCESS;
+
+        TileEntityGreenhouseController controller = getBlockEntity(world, pos);
+        if(controller == null)
+            return ActionResultType.FAIL;
+
+        player.displayClientMessage(new TranslationTextComponent(
+                "message.resynth.greenhouse_controller", controller.getPlantCount(), controller.getGroupCount()
+        ), true);
+
+        return ActionResultType.SUCCESS;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The tool needed to break this block: Pickaxe.
+     */
+    @Nullable
+    @Override
+    public ToolType getHarvestTool(BlockState state) {
+        return ToolType.PICKAXE;
+    }
+
+    /**
+     * @return {@code {@link TileEntityGreenhouseController}.class}.
+     */
+    @Override
+    public Class<TileEntityGreenhouseController> getBlockEntityClass() {
+        return TileEntityGreenhouseController.class;
+    }
+
+    /**
+     * @return {@code new} {@link TileEntityGreenhouseController}.
+     */
+    @Override
+    public TileEntity createTileEntity(BlockState state, IBlockReader world) {
+        return new TileEntityGreenhouseController();
+    }
+}
@@ -21,7 +21,10 @@ import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.MineralSoilConfig;
 import com.ki11erwolf.resynth.item.ItemMineralHoe;
 import com.ki11erwolf.resynth.item.ResynthItems;
+import com.ki11erwolf.resynth.metrics.Metric;
+import com.ki11erwolf.resynth.metrics.ResynthMetrics;
 import com.ki11erwolf.resynth.util.MinecraftUtil;
+import com.ki11erwolf.resynth.world.ResynthIndex;
 import mcjty.theoneprobe.api.IProbeHitData;
 import mcjty.theoneprobe.api.IProbeInfo;
 import mcjty.theoneprobe.api.IProbeInfoAccessor;
@@ -202,17 +205,34 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
         super.spawnAfterBreak(state, world, pos, stack);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Adds the soil to the {@link ResynthIndex}.
+     */
+    @Override
+    @ParametersAreNonnullByDefault
+    @SuppressWarnings("deprecation")
+    public void onPlace(BlockState state, World world, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, world, pos, oldState, isMoving);
+
+        if(state.getBlock() != oldState.getBlock())
+            ResynthIndex.add(world, pos, ResynthIndex.SOIL);
+    }
+
     /**
      * {@inheritDoc}
      * <p/>
      * Handles dropping the {@link ResynthItems#ITEM_MINERAL_CRYSTAL} required to
      * make Mineral Soil as well the number of {@link ResynthItems#ITEM_MINERAL_ROCK}'s
-     * put into the Mineral Soil block.
+     * put into the Mineral Soil block. Also removes the soil from the {@link ResynthIndex}.
      */
     @Override
     @ParametersAreNonnullByDefault
     public void onRemove(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
         if (state.getBlock() != newState.getBlock()) {
+            ResynthIndex.remove(world, pos, ResynthIndex.SOIL);
+
             //Checks
             TileEntity tileentity = world.getBlockEntity(pos);
             if (!(tileentity instanceof TileEntityMineralSoil)) {
@@ -229,6 +249,11 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
                     world, pos, NonNullList.of(new ItemStack(ResynthItems.ITEM_MINERAL_ROCK, rocks))
             );
 
+            //Produce not yet pulled out
+            ItemStack produce = ((TileEntityMineralSoil)tileentity).getBufferedProduce();
+            if(!produce.isEmpty())
+                InventoryHelper.dropItemStack(world, pos.getX(), pos.getY(), pos.getZ(), produce);
+
             super.onRemove(state, world, pos, newState, isMoving);
         }
     }
@@ -393,6 +418,7 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
 
         entityMineralSoil.increaseMineralPercentage(increase);
         updateState(entityMineralSoil.getMineralPercentage(), world, state, pos);
+        ResynthMetrics.count(Metric.SOIL_INFUSIONS, ResynthMetrics.SOIL, world);
 
         if(CONFIG.isChatMessageEnabled())
             player.sendMessage(new StringTextComponent(I18n.get(
@@ -515,8 +541,7 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
         });
 
         // Hopper Auto Harvest
-        boolean hopperAutoHarvest = world.getBlockState(pos.below()).getBlock() == Blocks.HOPPER
-                || world.getBlockState(pos.below().below()).getBlock() == Blocks.HOPPER;
+        boolean hopperAutoHarvest = hasHopperBelow(world, pos);
 
         information.put("hopper_auto_harvesting", new Object[] {TextFormatting.BLUE,
                 (hopperAutoHarvest ? TextFormatting.DARK_GREEN : TextFormatting.DARK_RED), (hopperAutoHarvest ? "$true" : "$false")
@@ -525,4 +550,17 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
         information.put("footer", new Object[]{ TextFormatting.GRAY });
         return true;
     }
+
+    /**
+     * @param world the world the soil is in.
+     * @param pos the position of the soil.
+     * @return {@code true} if a hopper pulls produce out of the
+     * soil: either directly below it, or below its enhancer.
+     */
+    public static boolean hasHopperBelow(IBlockReader world, BlockPos pos) {
+        Block below = world.getBlockState(pos.below()).getBlock();
+
+        return below == Blocks.HOPPER || (below instanceof BlockEnhancer
+                && world.getBlockState(pos.below(2)).getBlock() == Blocks.HOPPER);
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block;
+
+import com.ki11erwolf.resynth.block.tileEntity.ResynthTileEntity;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityPlanter;
+import com.ki11erwolf.resynth.plant.item.ItemSeeds;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.SoundType;
+import net.minecraft.block.material.Material;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.InventoryHelper;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ActionResultType;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.text.TranslationTextComponent;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
+import net.minecraftforge.common.ToolType;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * A Planter. Holds up to a fixed number of plants from a single plant
+ * set and grows them all together, buffering their produce until it's
+ * taken out by the player, a hopper or a pipe.
+ *
+ * <p/>Seeds are planted by using them on the planter (crouch to plant
+ * the whole stack). Using the planter with an empty hand takes out the
+ * produce, or, when crouching, takes back the planted seeds.
+ *
+ * <p/>See {@link TileEntityPlanter} for the details.
+ */
+public class BlockPlanter extends ResynthTileEntity<TileEntityPlanter> {
+
+    /**
+     * Name appended to all planter blocks.
+     */
+    private static final String BLOCK_NAME = "planter";
+
+    /**
+     * The maximum number of plants the planter can hold.
+     */
+    private final int capacity;
+
+    /**
+     * The mineral concentration percentage increase
+     * the planter gives the plants it holds.
+     */
+    private final float enhancement;
+
+    /**
+     * Creates a new planter block.
+     *
+     * @param name the name of the planter block.
+     * @param capacity the maximum number of plants the planter can hold.
+     * @param enhancement the mineral concentration percentage
+     *                    increase the planter gives its plants.
+     */
+    BlockPlanter(String name, int capacity, float enhancement) {
+        super(Properties.of(Material.STONE).strength(2.5F).sound(SoundType.STONE), name + "_" + BLOCK_NAME);
+
+        this.capacity = capacity;
+        this.enhancement = enhancement;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Plants seeds, takes out produce or seeds,
+     * and tells the player what the planter holds.
+     */
+    @Override
+    @Nonnull
+    @SuppressWarnings("deprecation")
+    @ParametersAreNonnullByDefault
+    public ActionResultType use(BlockState state, World world, BlockPos pos, PlayerEntity player,
+                                Hand hand, BlockRayTraceResult hit) {
+        if(world.isClientSide)
+            return ActionResultType.SUCCESS;
+
+        TileEntityPlanter planter = getBlockEntity(world, pos);
+        if(planter == null)
+            return ActionResultType.FAIL;
+
+        ItemStack held = player.getItemInHand(hand);
+        if(held.getItem() instanceof ItemSeeds) {
+            int planted = planter.addPlants(
+                    ((ItemSeeds) held.getItem()).getPlantSet(), player.isCrouching() ? held.getCount() : 1
+            );
+
+            if(!player.isCreative())
+                held.shrink(planted);
+        } else if(held.isEmpty()) {
+            if(player.isCrouching())
+                planter.removePlants().forEach(seeds -> ItemHandlerHelper.giveItemToPlayer(player, seeds));
+            else for(ItemStack produce; !(produce = planter.takeProduce(Integer.MAX_VALUE, false)).isEmpty();)
+                ItemHandlerHelper.giveItemToPlayer(player, produce);
+        }
+
+        PlantSet<?, ?> set = planter.getPlantSet();
+        player.displayClientMessage(new TranslationTextComponent(
+                "message.resynth.planter",
+                set == null ? "-" : set.getSeedsItem().getDescription(),
+                planter.getPlantCount(), capacity, planter.getProduce()
+        ), true);
+
+        return ActionResultType.SUCCESS;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Drops the planted seeds and buffered produce.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    @ParametersAreNonnullByDefault
+    public void onRemove(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
+        if(state.getBlock() != newState.getBlock()) {
+            TileEntityPlanter planter = getBlockEntity(world, pos);
+
+            if(planter != null)
+                planter.getDrops().forEach(
+                        stack -> InventoryHelper.dropItemStack(world, pos.getX(), pos.getY(), pos.getZ(), stack)
+                );
+        }
+
+        super.onRemove(state, world, pos, newState, isMoving);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The tool needed to break this block: Pickaxe.
+     */
+    @Nullable
+    @Override
+    public ToolType getHarvestTool(BlockState state) {
+        return ToolType.PICKAXE;
+    }
+
+    /**
+     * @return the maximum number of plants the planter can hold.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the mineral concentration percentage
+     * increase the planter gives its plants.
+     */
+    public float getEnhancement() {
+        return enhancement;
+    }
+
+    /**
+     * @return {@code {@link TileEntityPlanter}.class}.
+     */
+    @Override
+    public Class<TileEntityPlanter> getBlockEntityClass() {
+        return TileEntityPlanter.class;
+    }
+
+    /**
+     * @return {@code new} {@link TileEntityPlanter}.
+     */
+    @Override
+    public TileEntity createTileEntity(BlockState state, IBlockReader world) {
+        return new TileEntityPlanter();
+    }
+}
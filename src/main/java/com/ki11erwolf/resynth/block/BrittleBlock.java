@@ -209,5 +209,15 @@ public class BrittleBlock<B extends Block> extends ResynthBlock<BrittleBlock<B>>
 
             return recipes.toArray(new IRecipe[0]);
         }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return every BrittleBlock recipe, as none depend on the config or other mods.
+         */
+        @Override
+        public IRecipe<?>[] getGenerated() {
+            return get();
+        }
     }
 }
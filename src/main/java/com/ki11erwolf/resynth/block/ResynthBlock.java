@@ -22,6 +22,7 @@ import com.ki11erwolf.resynth.item.ResynthItemBlock;
 import com.ki11erwolf.resynth.plant.set.PlantSet;
 import com.ki11erwolf.resynth.util.ExpandingTooltip;
 import com.ki11erwolf.resynth.util.Tooltip;
+import com.ki11erwolf.resynth.util.TooltipCache;
 import net.minecraft.block.Block;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.client.util.ITooltipFlag;
@@ -100,10 +101,10 @@ public class ResynthBlock<T extends ResynthBlock<?>> extends Block {
     @Override
     public void appendHoverText(ItemStack stack, @Nullable IBlockReader worldIn, List<ITextComponent> tooltip,
                                ITooltipFlag flagIn) {
-        new ExpandingTooltip().setCtrlForDescription(
+        TooltipCache.write(tooltip, this, cached -> new ExpandingTooltip().setCtrlForDescription(
                 tooltips -> addBlankLine(tooltips).addAll(
                         Arrays.asList(Tooltip.formatLineFeeds(getDescriptiveTooltip(this), TextFormatting.DARK_GRAY)))
-        ).write(tooltip).add(newBlankLine());
+        ).write(cached).add(newBlankLine()));
     }
 
     /**
@@ -142,13 +143,16 @@ public class ResynthBlock<T extends ResynthBlock<?>> extends Block {
      *
      * @param tooltip the tooltip we're modifying with the new
      *                new tooltips.
+     * @param block the block the tooltip belongs to. Used
+     *              to cache the tooltip.
      * @param blockName the registry name (path only) of the
      *                  block we're getting the tooltip of.
      */
     @SuppressWarnings("DuplicatedCode")
     protected static void addPlantItemBlockTooltips(
-            List<ITextComponent> tooltip,@SuppressWarnings("SameParameterValue") String blockName, PlantSet<?, ?> parentSet){
-        Tooltip.addPlantItemOrBlockTooltips(tooltip, parentSet, getDescriptiveTooltip(blockName));
+            List<ITextComponent> tooltip, ResynthBlock<?> block,
+            @SuppressWarnings("SameParameterValue") String blockName, PlantSet<?, ?> parentSet){
+        Tooltip.addPlantItemOrBlockTooltips(tooltip, block, parentSet, () -> getDescriptiveTooltip(blockName));
     }
 
     /**
@@ -18,6 +18,7 @@ package com.ki11erwolf.resynth.block;
 import com.ki11erwolf.resynth.ResynthMod;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.EnhancersConfig;
+import com.ki11erwolf.resynth.config.categories.PlanterConfig;
 import com.ki11erwolf.resynth.integration.Hwyla;
 import com.ki11erwolf.resynth.util.QueueRegisterer;
 import net.minecraft.block.Block;
@@ -45,6 +46,12 @@ public class ResynthBlocks extends QueueRegisterer<Block> {
     private static final EnhancersConfig ENHANCERS_CONFIG
             = ResynthConfig.GENERAL_CONFIG.getCategory(EnhancersConfig.class);
 
+    /**
+     * Configuration settings for the Planter blocks.
+     */
+    private static final PlanterConfig PLANTER_CONFIG
+            = ResynthConfig.GENERAL_CONFIG.getCategory(PlanterConfig.class);
+
     // ********
     // Instance
     // ********
@@ -102,6 +109,35 @@ public class ResynthBlocks extends QueueRegisterer<Block> {
             "sylvanite", ENHANCERS_CONFIG.getSylvaniteMineralConcentrationIncrease(), 2
     ).queueRegistration();
 
+    /**
+     * Greenhouse Controller. Grows every plant in the region around it.
+     */
+    public static final ResynthBlock<?> BLOCK_GREENHOUSE_CONTROLLER
+            = new BlockGreenhouseController("greenhouse_controller").queueRegistration();
+
+    /**
+     * Mineral Planter. Grows a small number of plants in a single block.
+     */
+    public static final ResynthBlock<?> BLOCK_MINERAL_PLANTER = new BlockPlanter(
+            "mineral", PLANTER_CONFIG.getMineralCapacity(), 0
+    ).queueRegistration();
+
+    /**
+     * Calvinite Planter. Grows more plants, faster, in a single block.
+     */
+    public static final ResynthBlock<?> BLOCK_CALVINITE_PLANTER = new BlockPlanter(
+            "calvinite", PLANTER_CONFIG.getCalviniteCapacity(),
+            ENHANCERS_CONFIG.getCalviniteMineralConcentrationIncrease()
+    ).queueRegistration();
+
+    /**
+     * Sylvanite Planter. Grows the most plants, fastest, in a single block.
+     */
+    public static final ResynthBlock<?> BLOCK_SYLVANITE_PLANTER = new BlockPlanter(
+            "sylvanite", PLANTER_CONFIG.getSylvaniteCapacity(),
+            ENHANCERS_CONFIG.getSylvaniteMineralConcentrationIncrease()
+    ).queueRegistration();
+
     // *****
     // Logic
     // *****
@@ -0,0 +1,501 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block.tileEntity;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GreenhouseConfig;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import com.ki11erwolf.resynth.plant.growth.GrowthPrediction;
+import com.ki11erwolf.resynth.util.MathUtil;
+import com.ki11erwolf.resynth.world.ResynthIndex;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.block.Block;
+import net.minecraft.tileentity.ITickableTileEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+
+import java.util.*;
+
+/**
+ * The tile entity for the Greenhouse Controller block.
+ *
+ * <p/>Every so often, finds the Resynth plants in the region around the
+ * controller using the {@link ResynthIndex}, and groups them by plant and
+ * by the chance of growth their soil gives them. The controller then
+ * advances every plant in the region from its own single tick, while the
+ * plants themselves stop growing from their own random ticks.
+ *
+ * <p/>Plants get the same number of chances to grow as they would from
+ * vanilla random ticks - {@code randomTickSpeed} picks per tick, each with
+ * a 1 in 4096 chance of landing on the plant - so the yield of a controlled
+ * farm is statistically the same as an uncontrolled one. Rather than rolling
+ * every pick, the controller skips straight from one successful growth in a
+ * group to the next.
+ *
+ * <p/>Where the regions of several controllers overlap, each plant
+ * is only grown by the controller that claimed it first. The others
+ * skip it until it's released. Plants are re-anchored on a new
+ * {@link GrowthPrediction} schedule when claimed or released, so
+ * clients stop predicting the growth of controlled plants.
+ */
+public class TileEntityGreenhouseController extends TileEntity implements ITickableTileEntity {
+
+    /**
+     * Configuration settings for this tile entity.
+     */
+    private static final GreenhouseConfig CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GreenhouseConfig.class);
+
+    /**
+     * Registry ID for this tile entity.
+     */
+    static final String TE_ID = "te_greenhouse_controller";
+
+    /**
+     * The number of blocks in a chunk section, from
+     * which random tick positions are picked.
+     */
+    private static final int BLOCKS_PER_SECTION = 16 * 16 * 16;
+
+    /**
+     * Every loaded controller, by world. Only used from the server thread.
+     */
+    private static final Map<IWorld, Set<TileEntityGreenhouseController>> CONTROLLERS = new WeakHashMap<>();
+
+    /**
+     * The controller growing each controlled plant, by packed
+     * plant position, by world. Only used from the server thread.
+     */
+    private static final Map<IWorld, Long2ObjectMap<TileEntityGreenhouseController>> CLAIMS = new WeakHashMap<>();
+
+    /**
+     * The positions of every plant in the controlled region
+     * that this controller has claimed.
+     */
+    private final LongOpenHashSet plants = new LongOpenHashSet();
+
+    /**
+     * The plants in the controlled region, grouped by plant and chance of growth.
+     */
+    private final List<PlantGroup> groups = new ArrayList<>();
+
+    /**
+     * The number of ticks until the region is next scanned.
+     */
+    private int ticksUntilScan;
+
+    /**
+     * Default Constructor.
+     */
+    public TileEntityGreenhouseController(){
+        super(TileEntityTypeGreenhouseController.TE_GREENHOUSE_CONTROLLER);
+    }
+
+    // ********
+    // Registry
+    // ********
+
+    /**
+     * @param world the world the plant is in.
+     * @param pos the position of the plant.
+     * @return {@code true} if the plant at the given position
+     * is grown by a Greenhouse Controller, rather than its own
+     * random ticks.
+     */
+    public static boolean isControlled(World world, BlockPos pos) {
+        if(CLAIMS.isEmpty())
+            return false;
+
+        Long2ObjectMap<TileEntityGreenhouseController> claims = CLAIMS.get(world);
+        return claims != null && claims.containsKey(pos.asLong());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Registers the controller and schedules a scan of its region.
+     */
+    @Override
+    public void onLoad() {
+        super.onLoad();
+
+        if(level != null && !level.isClientSide) {
+            CONTROLLERS.computeIfAbsent(level, world -> new HashSet<>()).add(this);
+            ticksUntilScan = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Releases the plants in the region back to their own random ticks.
+     */
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        release(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Releases the plants in the region back to their own random ticks.
+     */
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        release(false);
+    }
+
+    /**
+     * Unregisters the controller and clears its index of plants,
+     * letting any other controllers covering them claim them.
+     *
+     * @param reanchor {@code true} to re-anchor the released plants
+     *                 on their own growth schedule.
+     */
+    private void release(boolean reanchor) {
+        if(level == null || level.isClientSide)
+            return;
+
+        Set<TileEntityGreenhouseController> controllers = CONTROLLERS.get(level);
+        if(controllers != null && controllers.remove(this) && controllers.isEmpty())
+            CONTROLLERS.remove(level);
+
+        if(!plants.isEmpty() && controllers != null)
+            for(TileEntityGreenhouseController controller : controllers)
+                controller.ticksUntilScan = 0;
+
+        clearIndex(reanchor);
+    }
+
+    // ****
+    // Tick
+    // ****
+
+    /**
+     * Scans the region when due, then gives every
+     * plant in the region its chances to grow.
+     */
+    @Override
+    public void tick() {
+        if(level == null || level.isClientSide)
+            return;
+
+        if(!CONFIG.isEnabled()) {
+            clearIndex(true);
+            return;
+        }
+
+        if(--ticksUntilScan <= 0) {
+            scan();
+            ticksUntilScan = CONFIG.getScanInterval();
+        }
+
+        int randomTickSpeed = level.getGameRules().getInt(GameRules.RULE_RANDOMTICKING);
+        if(randomTickSpeed <= 0)
+            return;
+
+        for(PlantGroup group : groups)
+            if(!group.grow(level, randomTickSpeed))
+                ticksUntilScan = 0;//Group out of date, rescan next tick
+    }
+
+    /**
+     * Rebuilds the index of plants in the controlled region,
+     * from the {@link ResynthIndex} of the chunks it covers.
+     * Plants claimed by another controller are skipped, and
+     * plants no longer in the region are released.
+     */
+    private void scan() {
+        LongOpenHashSet previous = new LongOpenHashSet(plants);
+        Long2ObjectMap<TileEntityGreenhouseController> claims
+                = CLAIMS.computeIfAbsent(level, world -> new Long2ObjectOpenHashMap<>());
+        plants.clear();
+        groups.clear();
+
+        int radius = CONFIG.getRadius(), height = CONFIG.getHeight();
+        BlockPos from = worldPosition.offset(-radius, -1, -radius);
+        BlockPos to = worldPosition.offset(radius, height, radius);
+
+        Map<PlantGroup.Key, LongArrayList> found = new HashMap<>();
+        LongArrayList claimed = new LongArrayList();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for(int chunkX = from.getX() >> 4; chunkX <= to.getX() >> 4; chunkX++)
+            for(int chunkZ = from.getZ() >> 4; chunkZ <= to.getZ() >> 4; chunkZ++) {
+                if(!level.hasChunk(chunkX, chunkZ))
+                    continue;
+
+                ResynthIndex.forEachPlantIn(level, new ChunkPos(chunkX, chunkZ), packed -> {
+                    pos.set(packed);
+                    if(pos.getX() < from.getX() || pos.getX() > to.getX() || pos.getY() < from.getY()
+                            || pos.getY() > to.getY() || pos.getZ() < from.getZ() || pos.getZ() > to.getZ())
+                        return;
+
+                    Block block = level.getBlockState(pos).getBlock();
+                    if(!(block instanceof BlockPlant))
+                        return;
+
+                    TileEntityGreenhouseController owner = claims.get(packed);
+                    if(owner != null && owner != this && !owner.isRemoved())
+                        return;
+
+                    BlockPlant<?> plant = (BlockPlant<?>) block;
+                    PlantGroup.Key key = new PlantGroup.Key(plant, plant.getChanceOfGrowth(level, pos));
+
+                    found.computeIfAbsent(key, k -> new LongArrayList()).add(packed);
+                    claims.put(packed, this);
+                    plants.add(packed);
+
+                    if(!previous.contains(packed))
+                        claimed.add(packed);
+                });
+            }
+
+        previous.removeAll(plants);
+        unclaim(previous, true);
+        reanchor(claimed);
+
+        //Sorted, so plants are grown in the same order regardless of index order
+        found.forEach((key, positions) -> {
+            long[] sorted = positions.toLongArray();
+            Arrays.sort(sorted);
+            groups.add(new PlantGroup(key, sorted));
+        });
+    }
+
+    /**
+     * Clears the index, releasing every plant back to its own random ticks.
+     *
+     * @param reanchor {@code true} to re-anchor the released plants
+     *                 on their own growth schedule.
+     */
+    private void clearIndex(boolean reanchor) {
+        unclaim(plants, reanchor);
+        plants.clear();
+        groups.clear();
+    }
+
+    /**
+     * Gives up this controller's claim on each of the given plants.
+     *
+     * @param positions the packed positions of the plants.
+     * @param reanchor {@code true} to re-anchor the released plants
+     *                 on their own growth schedule.
+     */
+    private void unclaim(LongCollection positions, boolean reanchor) {
+        Long2ObjectMap<TileEntityGreenhouseController> claims = CLAIMS.get(level);
+        if(claims == null)
+            return;
+
+        LongArrayList released = new LongArrayList();
+        for(LongIterator it = positions.iterator(); it.hasNext();) {
+            long packed = it.nextLong();
+            if(claims.get(packed) == this) {
+                claims.remove(packed);
+                released.add(packed);
+            }
+        }
+
+        if(claims.isEmpty())
+            CLAIMS.remove(level);
+
+        if(reanchor)
+            reanchor(released);
+    }
+
+    /**
+     * Re-anchors the {@link GrowthPrediction} schedule of each of the
+     * given plants that is still loaded, after being claimed or released.
+     * Claimed plants are anchored without a chance of growth, as the
+     * controller decides when they grow.
+     *
+     * @param positions the packed positions of the plants.
+     */
+    private void reanchor(LongCollection positions) {
+        if(positions.isEmpty() || !GrowthPrediction.isEnabled())
+            return;
+
+        for(LongIterator it = positions.iterator(); it.hasNext();) {
+            BlockPos pos = BlockPos.of(it.nextLong());
+
+            if(level.hasChunk(pos.getX() >> 4, pos.getZ() >> 4))
+                BlockPlant.onChanceOfGrowthChanged(level, pos);
+        }
+    }
+
+    /**
+     * @return the number of plants the controller is growing.
+     */
+    public int getPlantCount() {
+        return plants.size();
+    }
+
+    /**
+     * @return the number of groups the plants
+     * in the region are grown in.
+     */
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    // ***********
+    // Plant Group
+    // ***********
+
+    /**
+     * A group of plants of the same type, that all had
+     * the same chance of growth when the region was scanned.
+     *
+     * <p/>Successes are sampled with the chance of growth from the scan,
+     * and checked against the current chance of growth of the plant
+     * they land on. A plant whose chance has dropped only grows on
+     * that share of its successes, and any change to a chance gets
+     * the region rescanned, so the group keeps up with its soil.
+     */
+    private static final class PlantGroup {
+
+        /**
+         * The plant type of every plant in the group.
+         */
+        private final BlockPlant<?> plant;
+
+        /**
+         * The positions of the plants in the group.
+         */
+        private final long[] positions;
+
+        /**
+         * The probability of a plant in the group growing on a random
+         * tick that lands on it, as of when the region was scanned.
+         */
+        private final double growthProbability;
+
+        /**
+         * The probability that a single random tick
+         * pick both lands on, and grows, a plant.
+         */
+        private final double probability;
+
+        /**
+         * Reusable position for growing plants.
+         */
+        private final BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        private PlantGroup(Key key, long[] positions) {
+            this.plant = key.plant;
+            this.positions = positions;
+            this.growthProbability = toProbability(key.chanceOfGrowth);
+            this.probability = growthProbability / BLOCKS_PER_SECTION;
+        }
+
+        /**
+         * Gives the plants in the group their chances at growing
+         * for a single tick. Each plant gets {@code randomTickSpeed}
+         * chances, all with the same probability, so only the chances
+         * that succeed are visited.
+         *
+         * @return {@code false} if the group is out of date: one
+         * or more plants in it are no longer there, are no longer
+         * loaded, or have a different chance of growth.
+         */
+        private boolean grow(World world, int randomTickSpeed) {
+            if(probability <= 0)
+                return true;
+
+            long chances = (long) positions.length * randomTickSpeed;
+            boolean current = true;
+
+            for(long chance = nextSuccess(-1); chance < chances; chance = nextSuccess(chance)) {
+                pos.set(positions[(int) (chance / randomTickSpeed)]);
+
+                if(!world.hasChunk(pos.getX() >> 4, pos.getZ() >> 4)
+                        || world.getBlockState(pos).getBlock() != plant) {
+                    current = false;
+                    continue;
+                }
+
+                double growth = toProbability(plant.getChanceOfGrowth(world, pos));
+                if(growth != growthProbability)
+                    current = false;
+
+                //Thin the successes down to the plant's current chance
+                if(growth < growthProbability && MathUtil.getRandom().nextDouble() * growthProbability >= growth)
+                    continue;
+
+                if(!plant.growFromController(world, pos))
+                    current = false;
+            }
+
+            return current;
+        }
+
+        /**
+         * @param chanceOfGrowth a percentage chance of growth.
+         * @return the probability of a plant with the given
+         * chance of growth growing on a random tick.
+         */
+        private static double toProbability(double chanceOfGrowth) {
+            return Math.max(0D, Math.min(1D, chanceOfGrowth / 100));
+        }
+
+        /**
+         * @param chance the index of the last successful chance.
+         * @return the index of the next successful chance.
+         */
+        private long nextSuccess(long chance) {
+            return chance + 1 + MathUtil.sampleGeometric(MathUtil.getRandom(), probability);
+        }
+
+        /**
+         * The plant type and chance of growth that a group is made up of.
+         */
+        private static final class Key {
+
+            private final BlockPlant<?> plant;
+
+            private final double chanceOfGrowth;
+
+            private Key(BlockPlant<?> plant, double chanceOfGrowth) {
+                this.plant = plant;
+                this.chanceOfGrowth = chanceOfGrowth;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if(this == o) return true;
+                if(!(o instanceof Key)) return false;
+
+                Key key = (Key) o;
+                return plant == key.plant && Double.compare(key.chanceOfGrowth, chanceOfGrowth) == 0;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * System.identityHashCode(plant) + Double.hashCode(chanceOfGrowth);
+            }
+        }
+    }
+}
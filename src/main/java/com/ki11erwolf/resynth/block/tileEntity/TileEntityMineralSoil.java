@@ -17,17 +17,37 @@ package com.ki11erwolf.resynth.block.tileEntity;
 
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.MineralSoilConfig;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 /**
  * The tile entity for the block BlockMineralSoil.
  * This class acts as the container for the
  * blocks mineralPercentage value.
+ *
+ * <p/>Also exposes the produce of the fully grown plant
+ * above as a single, extract-only slot to hoppers and
+ * pipes. The plant is only harvested when something
+ * pulls from the slot, and any produce not yet taken
+ * is kept in the soil until it is. Plants can also put
+ * their produce straight into the soil, when they have
+ * nowhere else to put it.
  */
 public class TileEntityMineralSoil extends TileEntity {
 
@@ -42,6 +62,11 @@ public class TileEntityMineralSoil extends TileEntity {
      */
     public static final String MINERAL_CONTENT_TAG = "mineralPercentage";
 
+    /**
+     * The NBT tag key for the produce buffer.
+     */
+    private static final String PRODUCE_TAG = "produce";
+
     /**
      * Registry ID for this tile entity.
      */
@@ -52,6 +77,17 @@ public class TileEntityMineralSoil extends TileEntity {
      */
     private float mineralPercentage = (float) CONFIG.getStartingMineralContent();
 
+    /**
+     * Produce harvested from the plant above that
+     * hasn't been fully taken out yet.
+     */
+    private ItemStack produce = ItemStack.EMPTY;
+
+    /**
+     * Exposes the produce of the plant above to hoppers and pipes.
+     */
+    private final LazyOptional<IItemHandler> produceHandler = LazyOptional.of(ProduceHandler::new);
+
     /**
      * Default Constructor.
      */
@@ -64,7 +100,8 @@ public class TileEntityMineralSoil extends TileEntity {
     // **************
 
     /**
-     * Writes the mineralPercentage variable value to NBT.
+     * Writes the mineralPercentage variable value
+     * and produce buffer to NBT.
      *
      * @param compound the nbt tag compound we will write the variable to.
      * @return the nbt tag compound.
@@ -75,11 +112,16 @@ public class TileEntityMineralSoil extends TileEntity {
     public CompoundNBT save(CompoundNBT compound) {
         super.save(compound);
         compound.putFloat(MINERAL_CONTENT_TAG, mineralPercentage);
+
+        if(!produce.isEmpty())
+            compound.put(PRODUCE_TAG, produce.save(new CompoundNBT()));
+
         return compound;
     }
 
     /**
-     * Reads the mineralPercentage variable value from NBT.
+     * Reads the mineralPercentage variable value
+     * and produce buffer from NBT.
      *
      * @param compound the nbt tag compound we will read the variable from.
      */
@@ -88,6 +130,7 @@ public class TileEntityMineralSoil extends TileEntity {
     public void load(BlockState state, CompoundNBT compound) {
         super.load(state, compound);
         mineralPercentage = compound.getFloat(MINERAL_CONTENT_TAG);
+        produce = compound.contains(PRODUCE_TAG) ? ItemStack.of(compound.getCompound(PRODUCE_TAG)) : ItemStack.EMPTY;
     }
 
     // ***
@@ -103,7 +146,8 @@ public class TileEntityMineralSoil extends TileEntity {
     }
 
     /**
-     * Sets the given blocks mineral percentage.
+     * Sets the given blocks mineral percentage, and lets the
+     * plant above grow with its new mineral percentage.
      *
      * @param mineralPercentage the mineral percentage to set the value to.
      * Range: {@code 0.1 < x < 50.0}.
@@ -115,8 +159,12 @@ public class TileEntityMineralSoil extends TileEntity {
         if(mineralPercentage > 50.0F)
             mineralPercentage = 50.0F;
 
+        boolean changed = this.mineralPercentage != mineralPercentage;
         this.mineralPercentage = mineralPercentage;
         setChanged();
+
+        if(changed && level != null)
+            BlockPlant.onChanceOfGrowthChanged(level, worldPosition.above());
     }
 
     /**
@@ -143,4 +191,247 @@ public class TileEntityMineralSoil extends TileEntity {
     public void decreaseMineralPercentage(float percentage) {
         setMineralPercentage(getMineralPercentage() - percentage);
     }
+
+    // *******
+    // Produce
+    // *******
+
+    /**
+     * Takes produce out of the soil, harvesting the fully
+     * grown plant above if no produce is buffered.
+     *
+     * @param max the maximum amount of produce to take.
+     * @param simulate {@code true} to leave the plant and
+     *                 produce as they are.
+     * @return the taken produce. Empty if the buffer is empty
+     * and the plant above can't be harvested.
+     */
+    public ItemStack takeProduce(int max, boolean simulate) {
+        if(max <= 0)
+            return ItemStack.EMPTY;
+
+        ItemStack available = peekProduce(simulate);
+        if(available.isEmpty())
+            return ItemStack.EMPTY;
+
+        if(simulate) {
+            ItemStack taken = available.copy();
+            taken.setCount(Math.min(max, taken.getCount()));
+            return taken;
+        }
+
+        ItemStack taken = produce.split(max);
+        setChanged();
+        return taken;
+    }
+
+    /**
+     * Adds produce to the buffer, for automation to take out.
+     *
+     * @param stack the produce to add.
+     * @return {@code true} if all the produce was added,
+     * {@code false} if none was as the buffer can't fit it.
+     */
+    public boolean bufferProduce(ItemStack stack) {
+        if(stack.isEmpty())
+            return true;
+
+        if(produce.isEmpty())
+            produce = stack.copy();
+        else if(ItemHandlerHelper.canItemStacksStack(produce, stack)
+                && produce.getCount() + stack.getCount() <= produce.getMaxStackSize())
+            produce.grow(stack.getCount());
+        else return false;
+
+        setChanged();
+        return true;
+    }
+
+    /**
+     * @return the produce left in the soil, which
+     * should be dropped when the soil is broken.
+     */
+    public ItemStack getBufferedProduce() {
+        return produce;
+    }
+
+    /**
+     * @return the produce buffer as a vanilla inventory, for
+     * blocks without a tile entity that pass hoppers through
+     * to the soil (see {@link net.minecraft.block.ISidedInventoryProvider}).
+     */
+    public ISidedInventory getProduceInventory() {
+        return new ProduceInventory();
+    }
+
+    /**
+     * @param harvest {@code true} to harvest the plant above
+     *                into the buffer if the buffer is empty.
+     * @return the buffered produce or, if the buffer is empty,
+     * the produce the plant above would give if harvested.
+     */
+    private ItemStack peekProduce(boolean harvest) {
+        if(!produce.isEmpty() || level == null || level.isClientSide)
+            return produce;
+
+        Block block = level.getBlockState(worldPosition.above()).getBlock();
+        if(!(block instanceof BlockPlant))
+            return ItemStack.EMPTY;
+
+        ItemStack harvested = ((BlockPlant<?>) block).harvestForExtraction(level, worldPosition.above(), !harvest);
+        if(!harvest)
+            return harvested;
+
+        produce = harvested;
+        setChanged();
+        return produce;
+    }
+
+    // ************
+    // Capabilities
+    // ************
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Exposes the produce as a single, extract-only
+     * slot on every side but the top.
+     */
+    @Nonnull
+    @Override
+    public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+        if(cap == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY && side != Direction.UP)
+            return produceHandler.cast();
+
+        return super.getCapability(cap, side);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void invalidateCaps() {
+        super.invalidateCaps();
+        produceHandler.invalidate();
+    }
+
+    /**
+     * The single, extract-only slot of produce.
+     */
+    private class ProduceHandler implements IItemHandler {
+
+        @Override
+        public int getSlots() {
+            return 1;
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack getStackInSlot(int slot) {
+            return peekProduce(false);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack insertItem(int slot, @Nonnull ItemStack stack, boolean simulate) {
+            return stack;
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack extractItem(int slot, int amount, boolean simulate) {
+            return takeProduce(amount, simulate);
+        }
+
+        @Override
+        public int getSlotLimit(int slot) {
+            return 64;
+        }
+
+        @Override
+        public boolean isItemValid(int slot, @Nonnull ItemStack stack) {
+            return false;
+        }
+    }
+
+    /**
+     * The single, take-only slot of produce as a vanilla inventory.
+     *
+     * <p/>Vanilla hoppers remove a single item and put the copy
+     * they took beforehand back if it doesn't fit, which is
+     * why the slot can be set - it only ever sets the buffer.
+     */
+    private class ProduceInventory implements ISidedInventory {
+
+        /**
+         * The only slot.
+         */
+        private final int[] SLOTS = {0};
+
+        @Nonnull
+        @Override
+        public int[] getSlotsForFace(@Nonnull Direction side) {
+            return SLOTS;
+        }
+
+        @Override
+        public boolean canPlaceItemThroughFace(int slot, @Nonnull ItemStack stack, @Nullable Direction side) {
+            return false;
+        }
+
+        @Override
+        public boolean canTakeItemThroughFace(int slot, @Nonnull ItemStack stack, @Nonnull Direction side) {
+            return true;
+        }
+
+        @Override
+        public int getContainerSize() {
+            return 1;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return peekProduce(false).isEmpty();
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack getItem(int slot) {
+            return peekProduce(false);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack removeItem(int slot, int amount) {
+            return takeProduce(amount, false);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack removeItemNoUpdate(int slot) {
+            return takeProduce(Integer.MAX_VALUE, false);
+        }
+
+        @Override
+        public void setItem(int slot, @Nonnull ItemStack stack) {
+            produce = stack;
+            TileEntityMineralSoil.this.setChanged();
+        }
+
+        @Override
+        public void setChanged() {
+            TileEntityMineralSoil.this.setChanged();
+        }
+
+        @Override
+        public boolean stillValid(@Nonnull PlayerEntity player) {
+            return false;
+        }
+
+        @Override
+        public void clearContent() {
+            produce = ItemStack.EMPTY;
+            TileEntityMineralSoil.this.setChanged();
+        }
+    }
 }
@@ -0,0 +1,481 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block.tileEntity;
+
+import com.ki11erwolf.resynth.block.BlockPlanter;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.PlanterConfig;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import com.ki11erwolf.resynth.plant.growth.PlantGrowth;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import com.ki11erwolf.resynth.util.MathUtil;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tileentity.ITickableTileEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.world.GameRules;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The tile entity for Planter blocks.
+ *
+ * <p/>Holds a number of plants of a single plant set, without placing
+ * any of them in the world. Rather than tracking each plant, the planter
+ * only keeps the number of plants at each growth stage, and grows them
+ * all at once every tick: for each growth stage, a single draw decides
+ * how many of the plants at that stage grow. The cost of a planter is
+ * the same no matter how many plants it holds.
+ *
+ * <p/>Plants grow as though on fully enriched (50%) Mineral Soil, plus
+ * the enhancement of the planter block, and are harvested as they would
+ * be on a hoppered farm. Produce is buffered inside the planter,
+ * and can be taken out by hand or pulled out by hoppers and pipes.
+ */
+public class TileEntityPlanter extends TileEntity implements ITickableTileEntity {
+
+    /**
+     * Configuration settings for this tile entity.
+     */
+    private static final PlanterConfig CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(PlanterConfig.class);
+
+    /**
+     * Registry ID for this tile entity.
+     */
+    static final String TE_ID = "te_planter";
+
+    /**
+     * The NBT tag key for the name of the plant set.
+     */
+    private static final String SET_TAG = "set";
+
+    /**
+     * The NBT tag key for the number of plants at each growth stage.
+     */
+    private static final String STAGES_TAG = "stages";
+
+    /**
+     * The NBT tag key for the amount of buffered produce.
+     */
+    private static final String PRODUCE_TAG = "produce";
+
+    /**
+     * The mineral content of the soil the plants grow in, as a fraction.
+     */
+    private static final double SOIL = 0.50;
+
+    /**
+     * The number of blocks in a chunk section, from
+     * which random tick positions are picked.
+     */
+    private static final int BLOCKS_PER_SECTION = 16 * 16 * 16;
+
+    /**
+     * The name of the plant set of the stored plants,
+     * or {@code null} if the planter is empty.
+     */
+    private String setName;
+
+    /**
+     * The plant set of the stored plants. Looked up from
+     * the {@link #setName} when first needed.
+     */
+    private PlantSet<?, ?> set;
+
+    /**
+     * The number of stored plants at each growth stage.
+     */
+    private int[] stages = new int[0];
+
+    /**
+     * The number of stored plants that will be at each growth
+     * stage after the current tick. Reused every tick.
+     */
+    private int[] grownStages = new int[0];
+
+    /**
+     * The amount of buffered produce.
+     */
+    private int produce;
+
+    /**
+     * Exposes the buffered produce to hoppers and pipes.
+     */
+    private final LazyOptional<IItemHandler> produceHandler = LazyOptional.of(ProduceHandler::new);
+
+    /**
+     * Default Constructor.
+     */
+    public TileEntityPlanter(){
+        super(TileEntityTypePlanter.TE_PLANTER);
+    }
+
+    // ****
+    // Tick
+    // ****
+
+    /**
+     * Grows the stored plants, harvesting any that are due
+     * into the produce buffer.
+     */
+    @Override
+    public void tick() {
+        if(level == null || level.isClientSide || !CONFIG.isEnabled())
+            return;
+
+        PlantSet<?, ?> set = getPlantSet();
+        BlockPlanter planter = getPlanter();
+        if(set == null || set.isBroken() || planter == null || getPlantCount() == 0)
+            return;
+
+        int randomTickSpeed = level.getGameRules().getInt(GameRules.RULE_RANDOMTICKING);
+        if(randomTickSpeed <= 0)
+            return;
+
+        BlockPlant<?> plant = set.getPlantBlock();
+        double chance = PlantGrowth.chanceOfGrowth(
+                plant.getProperties().growthProbability(), SOIL, planter.getEnhancement() / 100, 1D
+        );
+
+        //The chance a single plant grows this tick, from any of its random tick picks.
+        double growth = 1 - Math.pow(1 - Math.min(1D, (chance / 100) / BLOCKS_PER_SECTION), randomTickSpeed);
+        if(grow(plant, growth))
+            setChanged();
+    }
+
+    /**
+     * Grows the stored plants for one tick.
+     *
+     * @param plant the plant type of the stored plants.
+     * @param growth the chance of a single plant growing this tick.
+     * @return {@code true} if any plant grew or was harvested.
+     */
+    private boolean grow(BlockPlant<?> plant, double growth) {
+        int max = stages.length - 1, reset = Math.min(plant.getHarvestResetGrowthStage(), max);
+        int yield = Math.max(1, plant.getHarvestProduce().getCount());
+        boolean changed = false;
+
+        System.arraycopy(stages, 0, grownStages, 0, stages.length);
+
+        for(int stage = 0; stage < max; stage++) {
+            int grown = MathUtil.sampleBinomial(MathUtil.getRandom(), stages[stage], growth);
+            if(grown == 0)
+                continue;
+
+            grownStages[stage] -= grown;
+            grownStages[stage + 1] += grown;
+            changed = true;
+        }
+
+        //Fully grown plants are harvested straight away, as automation
+        //pulling from their soil would, and wait while the buffer is full.
+        int harvested = Math.min(grownStages[max], (CONFIG.getProduceCapacity() - produce) / yield);
+        if(harvested > 0) {
+            grownStages[max] -= harvested;
+            grownStages[reset] += harvested;
+            produce += harvested * yield;
+            changed = true;
+        }
+
+        int[] previous = stages;
+        stages = grownStages;
+        grownStages = previous;
+        return changed;
+    }
+
+    // *******
+    // Plants
+    // *******
+
+    /**
+     * Adds plants of the given set to the planter, as freshly planted seeds.
+     *
+     * @param plantSet the plant set of the plants.
+     * @param amount the number of plants to add.
+     * @return the number of plants actually added. {@code 0} if
+     * the planter holds a different plant set or is full.
+     */
+    public int addPlants(PlantSet<?, ?> plantSet, int amount) {
+        if(plantSet.isBroken())
+            return 0;
+
+        if(getPlantCount() == 0 && produce == 0)
+            setPlantSet(plantSet);
+        else if(getPlantSet() != plantSet)
+            return 0;
+
+        BlockPlanter planter = getPlanter();
+        int capacity = planter == null ? 0 : planter.getCapacity();
+        int added = Math.max(0, Math.min(amount, capacity - getPlantCount()));
+        if(added == 0)
+            return 0;
+
+        stages[0] += added;
+        setChanged();
+        return added;
+    }
+
+    /**
+     * Removes every stored plant, as seeds.
+     *
+     * @return the seeds of the removed plants.
+     * Empty if the planter held no plants.
+     */
+    public List<ItemStack> removePlants() {
+        PlantSet<?, ?> set = getPlantSet();
+        int count = getPlantCount();
+        Arrays.fill(stages, 0);
+
+        if(produce == 0)
+            setPlantSet(null);
+
+        setChanged();
+        return set == null ? new ArrayList<>() : split(set.getSeedsItem(), count);
+    }
+
+    /**
+     * Takes buffered produce out of the planter.
+     *
+     * @param max the maximum amount of produce to take.
+     * @param simulate {@code true} to leave the produce in the planter.
+     * @return the taken produce. Empty if there is none.
+     */
+    public ItemStack takeProduce(int max, boolean simulate) {
+        PlantSet<?, ?> set = getPlantSet();
+        if(set == null || produce == 0 || max <= 0)
+            return ItemStack.EMPTY;
+
+        Item item = set.getProduceItem().asItem();
+        int taken = Math.min(Math.min(max, produce), item.getMaxStackSize());
+
+        if(!simulate) {
+            produce -= taken;
+
+            if(produce == 0 && getPlantCount() == 0)
+                setPlantSet(null);
+            setChanged();
+        }
+
+        return new ItemStack(item, taken);
+    }
+
+    /**
+     * @return the stored plants (as seeds) and buffered produce,
+     * which should be dropped when the planter is broken.
+     */
+    public List<ItemStack> getDrops() {
+        PlantSet<?, ?> set = getPlantSet();
+        List<ItemStack> drops = new ArrayList<>();
+
+        if(set != null) {
+            drops.addAll(split(set.getSeedsItem(), getPlantCount()));
+            drops.addAll(split(set.getProduceItem().asItem(), produce));
+        }
+
+        return drops;
+    }
+
+    /**
+     * @return the plant set of the stored plants,
+     * or {@code null} if the planter is empty.
+     */
+    @Nullable
+    public PlantSet<?, ?> getPlantSet() {
+        if(set == null && setName != null)
+            set = PlantSetAPI.getSetByName(setName);
+
+        return set;
+    }
+
+    /**
+     * @return the total number of stored plants.
+     */
+    public int getPlantCount() {
+        int count = 0;
+        for(int stage : stages)
+            count += stage;
+
+        return count;
+    }
+
+    /**
+     * @return the amount of buffered produce.
+     */
+    public int getProduce() {
+        return produce;
+    }
+
+    /**
+     * @return the planter block of this tile entity,
+     * or {@code null} if it has been replaced.
+     */
+    @Nullable
+    private BlockPlanter getPlanter() {
+        Block block = getBlockState().getBlock();
+        return block instanceof BlockPlanter ? (BlockPlanter) block : null;
+    }
+
+    /**
+     * Changes the plant set held by the planter,
+     * clearing the growth stages of any plants.
+     */
+    private void setPlantSet(@Nullable PlantSet<?, ?> plantSet) {
+        this.set = plantSet;
+        this.setName = plantSet == null ? null : plantSet.getSetName();
+
+        int length = plantSet == null ? 0 : plantSet.getPlantBlock().getMaxGrowthStage() + 1;
+        this.stages = new int[length];
+        this.grownStages = new int[length];
+    }
+
+    /**
+     * @return the given amount of the given item,
+     * split into full stacks.
+     */
+    private static List<ItemStack> split(Item item, int amount) {
+        List<ItemStack> stacks = new ArrayList<>();
+
+        while(amount > 0) {
+            int size = Math.min(amount, item.getMaxStackSize());
+            stacks.add(new ItemStack(item, size));
+            amount -= size;
+        }
+
+        return stacks;
+    }
+
+    // **************
+    // Read and write
+    // **************
+
+    /**
+     * Writes the plant set, growth stages and produce to NBT.
+     *
+     * @param compound the nbt tag compound to write to.
+     * @return the nbt tag compound.
+     */
+    @Override
+    @Nonnull
+    @ParametersAreNonnullByDefault
+    public CompoundNBT save(CompoundNBT compound) {
+        super.save(compound);
+
+        if(setName != null) {
+            compound.putString(SET_TAG, setName);
+            compound.putIntArray(STAGES_TAG, stages);
+            compound.putInt(PRODUCE_TAG, produce);
+        }
+
+        return compound;
+    }
+
+    /**
+     * Reads the plant set, growth stages and produce from NBT.
+     *
+     * @param compound the nbt tag compound to read from.
+     */
+    @Override
+    @ParametersAreNonnullByDefault
+    public void load(BlockState state, CompoundNBT compound) {
+        super.load(state, compound);
+
+        set = null;
+        setName = compound.contains(SET_TAG) ? compound.getString(SET_TAG) : null;
+        stages = compound.getIntArray(STAGES_TAG);
+        grownStages = new int[stages.length];
+        produce = compound.getInt(PRODUCE_TAG);
+    }
+
+    // ************
+    // Capabilities
+    // ************
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Exposes the buffered produce as a single, extract-only slot.
+     */
+    @Nonnull
+    @Override
+    public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+        if(cap == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
+            return produceHandler.cast();
+
+        return super.getCapability(cap, side);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void invalidateCaps() {
+        super.invalidateCaps();
+        produceHandler.invalidate();
+    }
+
+    /**
+     * The single, extract-only slot of buffered produce.
+     */
+    private class ProduceHandler implements IItemHandler {
+
+        @Override
+        public int getSlots() {
+            return 1;
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack getStackInSlot(int slot) {
+            return takeProduce(Integer.MAX_VALUE, true);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack insertItem(int slot, @Nonnull ItemStack stack, boolean simulate) {
+            return stack;
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack extractItem(int slot, int amount, boolean simulate) {
+            return takeProduce(amount, simulate);
+        }
+
+        @Override
+        public int getSlotLimit(int slot) {
+            return CONFIG.getProduceCapacity();
+        }
+
+        @Override
+        public boolean isItemValid(int slot, @Nonnull ItemStack stack) {
+            return false;
+        }
+    }
+}
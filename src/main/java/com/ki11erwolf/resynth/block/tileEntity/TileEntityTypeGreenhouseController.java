@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block.tileEntity;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import net.minecraft.tileentity.TileEntityType;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.event.RegistryEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ObjectHolder;
+
+/**
+ * The tile entity type and registration class
+ * for {@link TileEntityGreenhouseController}.
+ */
+public class TileEntityTypeGreenhouseController {
+
+    /**
+     * Reference to the tile entity type.
+     */
+    @ObjectHolder(ResynthMod.MODID + ":" + TileEntityGreenhouseController.TE_ID)
+    static TileEntityType<?> TE_GREENHOUSE_CONTROLLER;
+
+    /**
+     * Registration class.
+     */
+    //Reflection
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
+    public static class Registration {
+
+        /**
+         * Handles registering the tile entity type.
+         *
+         * @param e forge event.
+         */
+        @SubscribeEvent //Reflection
+        public static void onTileEntityRegistry(final RegistryEvent.Register<TileEntityType<?>> e) {
+            TileEntityTypeMineralSoil.register(
+                    e.getRegistry(), TileEntityTypeMineralSoil.register(
+                            TileEntityGreenhouseController.TE_ID,
+                            TileEntityType.Builder.of(TileEntityGreenhouseController::new)
+                    ),
+                    new ResourceLocation(ResynthMod.MODID, TileEntityGreenhouseController.TE_ID)
+            );
+        }
+    }
+}
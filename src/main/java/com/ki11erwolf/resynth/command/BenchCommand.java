@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.command;
+
+import com.ki11erwolf.resynth.features.FeatureBenchmark;
+import com.ki11erwolf.resynth.plant.growth.FarmBenchmark;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.command.ISuggestionProvider;
+import net.minecraft.util.text.StringTextComponent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * The {@code /resynth bench} command. Runs Resynth's
+ * benchmarks on the server and prints the results.
+ *
+ * <p/>Benchmarks run on the server thread. The worldgen
+ * benchmark stalls the server until it is complete, while
+ * the farm benchmark runs alongside the server for the
+ * given number of ticks and prints its results when done.
+ */
+final class BenchCommand {
+
+    /**
+     * Suggests the plant set types and the names of every plant set.
+     */
+    private static final SuggestionProvider<CommandSource> SET_SUGGESTIONS = (context, builder) ->
+            ISuggestionProvider.suggest(Stream.concat(
+                    Arrays.stream(PlantSetAPI.SetType.values()).map(type -> type.name().toLowerCase(Locale.ROOT)),
+                    Arrays.stream(PlantSetAPI.getSetsByType(PlantSetAPI.SetType.ALL)).map(PlantSet::getSetName)
+            ), builder);
+
+    //Static class.
+    private BenchCommand(){}
+
+    /**
+     * @return the {@code bench} sub-command.
+     */
+    static ArgumentBuilder<CommandSource, ?> create() {
+        return Commands.literal("bench").then(worldgen()).then(farm());
+    }
+
+    /**
+     * {@code /resynth bench worldgen [grid size] [seed]}
+     */
+    private static ArgumentBuilder<CommandSource, ?> worldgen() {
+        return Commands.literal("worldgen")
+                .executes(context -> runWorldgen(
+                        context.getSource(), FeatureBenchmark.DEFAULT_GRID_SIZE, FeatureBenchmark.DEFAULT_SEED
+                )).then(Commands.argument("grid", IntegerArgumentType.integer(1, FeatureBenchmark.MAX_GRID_SIZE))
+                        .executes(context -> runWorldgen(
+                                context.getSource(), IntegerArgumentType.getInteger(context, "grid"),
+                                FeatureBenchmark.DEFAULT_SEED
+                        )).then(Commands.argument("seed", LongArgumentType.longArg())
+                                .executes(context -> runWorldgen(
+                                        context.getSource(), IntegerArgumentType.getInteger(context, "grid"),
+                                        LongArgumentType.getLong(context, "seed")
+                                ))
+                        )
+                );
+    }
+
+    /**
+     * {@code /resynth bench farm <sets> [size] [ticks] [options]}, where {@code sets} is a plant
+     * set type or plant set name and {@code options} are {@code key=value} pairs, e.g.
+     * {@code /resynth bench farm crystalline 8 1200 mineral=50 enhancer=sylvanite hoppers=true light=sky seed=0}.
+     */
+    private static ArgumentBuilder<CommandSource, ?> farm() {
+        return Commands.literal("farm")
+                .then(Commands.argument("sets", StringArgumentType.word()).suggests(SET_SUGGESTIONS)
+                        .executes(context -> runFarm(
+                                context.getSource(), StringArgumentType.getString(context, "sets"),
+                                FarmBenchmark.DEFAULT_SIZE, FarmBenchmark.DEFAULT_TICKS, ""
+                        )).then(Commands.argument("size", IntegerArgumentType.integer(1, FarmBenchmark.MAX_SIZE))
+                                .executes(context -> runFarm(
+                                        context.getSource(), StringArgumentType.getString(context, "sets"),
+                                        IntegerArgumentType.getInteger(context, "size"), FarmBenchmark.DEFAULT_TICKS, ""
+                                )).then(Commands.argument("ticks", IntegerArgumentType.integer(1, FarmBenchmark.MAX_TICKS))
+                                        .executes(context -> runFarm(
+                                                context.getSource(), StringArgumentType.getString(context, "sets"),
+                                                IntegerArgumentType.getInteger(context, "size"),
+                                                IntegerArgumentType.getInteger(context, "ticks"), ""
+                                        )).then(Commands.argument("options", StringArgumentType.greedyString())
+                                                .executes(context -> runFarm(
+                                                        context.getSource(), StringArgumentType.getString(context, "sets"),
+                                                        IntegerArgumentType.getInteger(context, "size"),
+                                                        IntegerArgumentType.getInteger(context, "ticks"),
+                                                        StringArgumentType.getString(context, "options")
+                                                ))
+                                        )
+                                )
+                        )
+                );
+    }
+
+    private static int runFarm(CommandSource source, String sets, int size, int ticks, String options) {
+        try {
+            source.sendSuccess(new StringTextComponent(FarmBenchmark.start(source, sets, size, ticks, options)), true);
+            return 1;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            source.sendFailure(new StringTextComponent(e.getMessage()));
+            return 0;
+        }
+    }
+
+    private static int runWorldgen(CommandSource source, int gridSize, long seed) {
+        return print(source, FeatureBenchmark.run(source.getLevel(), gridSize, seed));
+    }
+
+    /**
+     * Sends every line of the report to the command source.
+     *
+     * @return the number of lines sent.
+     */
+    private static int print(CommandSource source, List<String> report) {
+        for(String line : report)
+            source.sendSuccess(new StringTextComponent(line), false);
+
+        return report.size();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.command;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Registers the {@code /resynth} server command and
+ * all of its sub-commands.
+ */
+public final class ResynthCommands {
+
+    /**
+     * The name of the root command.
+     */
+    private static final String ROOT = ResynthMod.MODID;
+
+    /**
+     * The permission level required to use any Resynth command (operator).
+     */
+    static final int PERMISSION_LEVEL = 2;
+
+    //Static class.
+    private ResynthCommands(){}
+
+    /**
+     * Registers the root command and its sub-commands to the given dispatcher.
+     *
+     * @param dispatcher the server command dispatcher.
+     */
+    private static void register(CommandDispatcher<CommandSource> dispatcher) {
+        dispatcher.register(
+                Commands.literal(ROOT)
+                        .requires(source -> source.hasPermission(PERMISSION_LEVEL))
+                        .then(StatsCommand.create())
+                        .then(BenchCommand.create())
+        );
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onRegisterCommands(RegisterCommandsEvent event) {
+            register(event.getDispatcher());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.command;
+
+import com.ki11erwolf.resynth.metrics.ResynthMetrics;
+import com.ki11erwolf.resynth.world.ResynthIndex;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The {@code /resynth stats} command. Prints the totals and
+ * sliding window rates of every metric tracked by {@link ResynthMetrics},
+ * or with {@code farms}, the number of plants in the loaded world.
+ */
+final class StatsCommand {
+
+    //Static class.
+    private StatsCommand(){}
+
+    /**
+     * @return the {@code stats} sub-command.
+     */
+    static ArgumentBuilder<CommandSource, ?> create() {
+        return Commands.literal("stats").executes(context -> print(context.getSource(), ResynthMetrics.getReport()))
+                .then(Commands.literal("farms").executes(context -> print(
+                        context.getSource(), getFarmReport(context.getSource().getLevel())
+                )));
+    }
+
+    /**
+     * {@code /resynth stats farms}
+     *
+     * @return the number of each plant, and of Mineral Soil, in the
+     * loaded chunks of the world, from the {@link ResynthIndex}.
+     */
+    private static List<String> getFarmReport(ServerWorld world) {
+        Object2IntMap<String> counts = ResynthIndex.countBySet(world);
+        List<String> report = new ArrayList<>();
+
+        report.add(String.format("Resynth farms in %s (%d loaded chunks): %d plants, %d mineral soil",
+                world.dimension().location(), ResynthIndex.getIndexedChunkCount(world),
+                counts.object2IntEntrySet().stream().filter(entry -> !entry.getKey().equals(ResynthIndex.SOIL))
+                        .mapToInt(Object2IntMap.Entry::getIntValue).sum(),
+                counts.getInt(ResynthIndex.SOIL)));
+
+        counts.object2IntEntrySet().stream()
+                .filter(entry -> !entry.getKey().equals(ResynthIndex.SOIL))
+                .sorted(Comparator.comparingInt(Object2IntMap.Entry<String>::getIntValue).reversed())
+                .forEach(entry -> report.add("  " + entry.getKey() + ": " + entry.getIntValue()));
+
+        return report;
+    }
+
+    /**
+     * Sends every line of the report to the command source.
+     *
+     * @return the number of lines sent.
+     */
+    private static int print(CommandSource source, List<String> report) {
+        for(String line : report)
+            source.sendSuccess(new StringTextComponent(line), false);
+
+        return report.size();
+    }
+}
@@ -16,6 +16,8 @@
 package com.ki11erwolf.resynth.config;
 
 import com.electronwill.nightconfig.core.file.CommentedFileConfig;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvent;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,6 +63,8 @@ public abstract class ConfigCategory {
      * @param config the config file.
      */
     void initValues(CommentedFileConfig config){
+        ResynthEvent event = ResynthEvents.beginConfigLoad();
+
         for(ConfigValue configValue : values){
             String key = getValueKey(uniqueName, configValue.getUniqueName());
 
@@ -73,6 +77,8 @@ public abstract class ConfigCategory {
             config.set(key, configValue.get());
             config.setComment(key, configValue.getComment());
         }
+
+        ResynthEvents.end(event, null, null, uniqueName, values.size());
     }
 
     /**
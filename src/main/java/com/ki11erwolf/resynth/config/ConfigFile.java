@@ -17,6 +17,8 @@ package com.ki11erwolf.resynth.config;
 
 import com.electronwill.nightconfig.core.file.CommentedFileConfig;
 import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvent;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
 import org.apache.logging.log4j.Logger;
 
 import java.util.HashMap;
@@ -54,7 +56,10 @@ public class ConfigFile {
         this.config = CommentedFileConfig.builder(Objects.requireNonNull(file)).autosave().build();
 
         try{
+            ResynthEvent event = ResynthEvents.beginConfigLoad();
             config.load();
+            ResynthEvents.end(event, null, null, file, config.size());
+
             LOG.info("File loaded without errors.");
         } catch (Exception e){//We want a broad catch.
             LOG.fatal("Config load failure", e);
@@ -64,8 +69,10 @@ public class ConfigFile {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             LOG.info("Saving config file: " + file + "...");
 
+            ResynthEvent event = ResynthEvents.beginConfigSave();
             config.save();
             config.close();
+            ResynthEvents.end(event, null, null, file, 0);
 
             LOG.info("Config file saved!");
         }));
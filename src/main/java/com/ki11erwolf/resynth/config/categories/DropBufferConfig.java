@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.config.categories;
+
+import com.ki11erwolf.resynth.config.BooleanConfigValue;
+import com.ki11erwolf.resynth.config.ConfigCategory;
+import com.ki11erwolf.resynth.config.IntegerConfigValue;
+
+/**
+ * Holds the configuration settings for the
+ * com.ki11erwolf.resynth.util.DropBuffer
+ */
+public class DropBufferConfig extends ConfigCategory {
+
+    /**
+     * Config definition that allows enabling/disabling
+     * the drop buffer.
+     */
+    private final BooleanConfigValue enabled = new BooleanConfigValue(
+            "enable-drop-buffer",
+            "Set to false to spawn plant harvests, plant drops and seeds as soon as they're dropped,\n" +
+                      "each as its own item entity, rather than merging them and spawning them at the end\n" +
+                      "of the tick.",
+            true,
+            this
+    );
+
+    /**
+     * Config definition that allows setting the number of item
+     * entities a chunk can have before drops are held back.
+     */
+    private final IntegerConfigValue maxItemEntities = new IntegerConfigValue(
+            "max-item-entities-per-chunk",
+            "The number of item entities a chunk can have before the drop buffer stops spawning\n" +
+                      "more in it. Drops are then added to matching item entities already in the chunk,\n" +
+                      "or held back until the chunk has room.",
+            128,
+            8, 4096,
+            this
+    );
+
+    /**
+     * Config definition that allows setting how long
+     * drops can be held back for.
+     */
+    private final IntegerConfigValue maxDeferredTicks = new IntegerConfigValue(
+            "max-deferred-ticks",
+            "The number of ticks a drop can be held back for, while its chunk has too many item\n" +
+                      "entities, before it's spawned anyway.",
+            600,
+            20, 12000,
+            this
+    );
+
+    /**
+     * Creates a new, unique configuration category
+     * grouping.
+     */
+    public DropBufferConfig() {
+        super("drop-buffer");
+    }
+
+    /**
+     * @return {@code true} if the config allows
+     * drops to be buffered.
+     */
+    public boolean isEnabled(){
+        return this.enabled.getValue();
+    }
+
+    /**
+     * @return the number of item entities a chunk can
+     * have before drops are held back.
+     */
+    public int getMaxItemEntitiesPerChunk(){
+        return this.maxItemEntities.getValue();
+    }
+
+    /**
+     * @return the number of ticks a drop can be
+     * held back for before it's spawned anyway.
+     */
+    public int getMaxDeferredTicks(){
+        return this.maxDeferredTicks.getValue();
+    }
+}
@@ -19,6 +19,8 @@ import com.ki11erwolf.resynth.config.BooleanConfigValue;
 import com.ki11erwolf.resynth.config.ConfigCategory;
 import com.ki11erwolf.resynth.config.DoubleConfigValue;
 import com.ki11erwolf.resynth.config.IntegerConfigValue;
+import com.ki11erwolf.resynth.config.StringConfigValue;
+import com.ki11erwolf.resynth.plant.growth.PlantGrowth;
 
 /**
  * General configuration settings used by Resynth.
@@ -42,6 +44,17 @@ public class GeneralConfig extends ConfigCategory {
             this
     );
 
+    /**
+     * The endpoint analytics events are sent to.
+     */
+    private final StringConfigValue analyticsEndpoint = new StringConfigValue(
+            "analytics endpoint",
+            "The URL that analytics events are sent to. Only change this if you're\n" +
+                      "pointing Resynth at a local or stand-in server, e.g. for testing.",
+            "http://www.google-analytics.com/__utm.gif",
+            this
+    );
+
     /**
      * Debug/Development features enable/disable flag.
      */
@@ -53,6 +66,30 @@ public class GeneralConfig extends ConfigCategory {
             this
     );
 
+    /**
+     * In-process metrics enable/disable flag.
+     */
+    private final BooleanConfigValue enableMetrics = new BooleanConfigValue(
+            "enable metrics",
+            "Enables counting what Resynth plants, seeds and soil are doing (growth, harvests,\n" +
+                      "seed drops, ect.), per plant type and per world. The counts can be viewed\n" +
+                      "in-game with the '/resynth stats' command. Disabled metrics cost nothing.",
+            false,
+            this
+    );
+
+    /**
+     * The seed used to make Resynth's randomness deterministic.
+     */
+    private final IntegerConfigValue randomSeed = new IntegerConfigValue(
+            "deterministic random seed",
+            "When set to anything other than 0, makes Resynth's own randomness (growth, seed drops,\n" +
+                      "ect.) repeatable using this number as the seed. Meant for benchmarking and testing,\n" +
+                      "leave at 0 for normal play. Overridden by the 'resynth.random.seed' system property.",
+            0, Integer.MIN_VALUE, Integer.MAX_VALUE,
+            this
+    );
+
     /**
      * Helpful tooltips enable/disable flag.
      */
@@ -64,16 +101,31 @@ public class GeneralConfig extends ConfigCategory {
     );
 
     /**
-     * Config properties that allows enabling/disabling auto-farming using hoppers.
+     * Config properties that allows enabling/disabling auto-farming using hoppers
+     * and pipes.
      */
     private final BooleanConfigValue enableHopperAutoFarming = new BooleanConfigValue(
             "allow hopper auto-farming",
-            "Allows auto-farming using hoppers when true, where plants will drop their\n" +
-                      "produce in a hopper underneath the plant when fully grown, starting the\n" +
-                      "growth cycle over.",
+            "Allows auto-farming using hoppers when true, where hoppers and pipes can\n" +
+                      "pull the produce of fully grown plants out of the soil underneath them\n" +
+                      "(or through an enhancer), starting the growth cycle over.",
             true, this
     );
 
+    /**
+     * Predicted growth enable/disable flag.
+     */
+    private final BooleanConfigValue enablePredictedGrowth = new BooleanConfigValue(
+            "enable predicted growth",
+            "When true, plants grow on a fixed schedule worked out from their position, which\n" +
+                      "clients follow by themselves, instead of rolling for growth on random ticks. This\n" +
+                      "stops the server sending a block update for every stage a plant grows, which adds\n" +
+                      "up on servers with big farms. Plants grow at the same average rate, but do so while\n" +
+                      "their chunk is loaded, rather than only near players. Becoming fully grown, and\n" +
+                      "harvesting, is still sent as normal.",
+            false, this
+    );
+
     /**
      * Config value that allows setting the maximum number
      * of characters that item/block descriptive tooltips
@@ -103,7 +155,7 @@ public class GeneralConfig extends ConfigCategory {
             "The light level at which the growth multiplier is 0 (zero), making any lower light levels decrease the\n" +
                      "multiplier while any higher light levels increase the multiplier. Said in layman's terms: sets the point\n" +
                      "where light levels change from decreasing the growth multiplier to increasing the growth multiplier.",
-            11, 9, 13,
+            PlantGrowth.DEFAULT_LIGHT_LEVEL_ZERO_POINT, 9, 13,
             this
     );
 
@@ -113,7 +165,7 @@ public class GeneralConfig extends ConfigCategory {
                      "Each level of light will change the multiplier by this value - minimum. So, at a worth of 0.04, 3 levels\n" +
                      "above the zero point will add +0.12 to the multiplier, increasing growth by 12%. This works the same way in\n" +
                      "the reverse direction.",
-            0.04, 0.001, 0.1,
+            PlantGrowth.DEFAULT_WORTH_PER_LIGHT_LEVEL, 0.001, 0.1,
             this
     );
 
@@ -122,7 +174,7 @@ public class GeneralConfig extends ConfigCategory {
             "The amount of interest added to the worth of a light level, for each light level above or below the zero\n" +
                      "point. Put more simply, it's the amount each additional light level adds to the worth of a light level. \n" +
                      "This value controls the exponential growth of the cost per light level.",
-            0.01, -1, 1,
+            PlantGrowth.DEFAULT_INTEREST_PER_LIGHT_LEVEL, -1, 1,
             this
     );
 
@@ -152,6 +204,18 @@ public class GeneralConfig extends ConfigCategory {
             true, this
     );
 
+    /**
+     * The config value that switches single item conversions back to individual recipes.
+     */
+    private final BooleanConfigValue useIndividualConversionRecipes = new BooleanConfigValue(
+            "use-individual-conversion-recipes",
+            "Single item conversion recipes (Crystalline seeds into resources and Brittle Blocks to and\n" +
+                     "from the block they mimic) are normally crafted through one special crafting recipe, and\n" +
+                     "only shown individually. Set this option to 'true' to craft each conversion through its own\n" +
+                     "recipe instead, like older versions.",
+            false, this
+    );
+
     /**
      * The config value that allows the user to enable or disable random plant items
      * for ItemGroup icons.
@@ -181,6 +245,14 @@ public class GeneralConfig extends ConfigCategory {
         return enableAnalytics.getValue();
     }
 
+    /**
+     * @return the config defined URL that analytics
+     * events are sent to.
+     */
+    public String getAnalyticsEndpoint(){
+        return analyticsEndpoint.getValue();
+    }
+
     /**
      * @return {@code true} if dev features
      * are enabled.
@@ -189,6 +261,22 @@ public class GeneralConfig extends ConfigCategory {
         return enableDebugHelp.getValue();
     }
 
+    /**
+     * @return {@code true} if the in-process
+     * metrics are enabled.
+     */
+    public boolean areMetricsEnabled(){
+        return enableMetrics.getValue();
+    }
+
+    /**
+     * @return the seed used to make randomness
+     * deterministic, {@code 0} if disabled.
+     */
+    public int getDeterministicRandomSeed(){
+        return randomSeed.getValue();
+    }
+
     /**
      * @return {@code true} if the helpful/explanatory/descriptive
      * tooltips are enabled for blocks and items.
@@ -205,6 +293,14 @@ public class GeneralConfig extends ConfigCategory {
         return enableHopperAutoFarming.getValue();
     }
 
+    /**
+     * @return the config defined value that specifies if plants grow
+     * on a schedule predicted by clients, rather than on random ticks.
+     */
+    public boolean isGrowthPredicted(){
+        return enablePredictedGrowth.getValue();
+    }
+
     /**
      * @return the config defined value that specifies the maximum
      * number of characters that item/block descriptive tooltips can
@@ -247,4 +343,10 @@ public class GeneralConfig extends ConfigCategory {
      * seeds into resources is enabled or disabled.
      */
     public boolean enableCraftingCrystallineSeeds() { return enableCraftingCrystallineSeeds.getValue(); }
+
+    /**
+     * @return the config defined value that specifies if single item conversions
+     * use individual crafting recipes instead of the one special recipe.
+     */
+    public boolean useIndividualConversionRecipes() { return useIndividualConversionRecipes.getValue(); }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.config.categories;
+
+import com.ki11erwolf.resynth.config.BooleanConfigValue;
+import com.ki11erwolf.resynth.config.ConfigCategory;
+import com.ki11erwolf.resynth.config.IntegerConfigValue;
+
+/**
+ * Holds the configuration settings for the
+ * com.ki11erwolf.resynth.block.BlockGreenhouseController
+ */
+public class GreenhouseConfig extends ConfigCategory {
+
+    /**
+     * Config definition that allows enabling/disabling
+     * the Greenhouse Controller.
+     */
+    private final BooleanConfigValue enabled = new BooleanConfigValue(
+            "enable-greenhouse-controller",
+            "Set to false to stop Greenhouse Controllers from taking over the growth of the\n" +
+                      "plants around them. Plants will then grow on their own, as normal.",
+            true,
+            this
+    );
+
+    /**
+     * Config definition that allows setting how far the
+     * controlled region reaches out from the controller.
+     */
+    private final IntegerConfigValue radius = new IntegerConfigValue(
+            "region-radius",
+            "How many blocks the region controlled by a Greenhouse Controller reaches out from the\n" +
+                      "controller, in every horizontal direction. A radius of 7 is a 15x15 region.",
+            7,
+            1, 32,
+            this
+    );
+
+    /**
+     * Config definition that allows setting how high
+     * the controlled region reaches above the controller.
+     */
+    private final IntegerConfigValue height = new IntegerConfigValue(
+            "region-height",
+            "How many blocks the region controlled by a Greenhouse Controller reaches above the\n" +
+                      "controller. The region always starts one block below the controller.",
+            8,
+            1, 32,
+            this
+    );
+
+    /**
+     * Config definition that allows setting how often
+     * the controlled region is scanned for plants.
+     */
+    private final IntegerConfigValue scanInterval = new IntegerConfigValue(
+            "region-scan-interval",
+            "The number of ticks between each scan of the controlled region for plants. Plants\n" +
+                      "planted since the last scan grow on their own until the next scan.",
+            100,
+            20, 1200,
+            this
+    );
+
+    /**
+     * Creates a new, unique configuration category
+     * grouping.
+     */
+    public GreenhouseConfig() {
+        super("greenhouse-controller");
+    }
+
+    /**
+     * @return {@code true} if the config allows Greenhouse
+     * Controllers to take over the growth of plants.
+     */
+    public boolean isEnabled(){
+        return this.enabled.getValue();
+    }
+
+    /**
+     * @return the horizontal radius of the region
+     * controlled by a Greenhouse Controller.
+     */
+    public int getRadius(){
+        return this.radius.getValue();
+    }
+
+    /**
+     * @return the height of the region controlled
+     * by a Greenhouse Controller.
+     */
+    public int getHeight(){
+        return this.height.getValue();
+    }
+
+    /**
+     * @return the number of ticks between each
+     * scan of the controlled region.
+     */
+    public int getScanInterval(){
+        return this.scanInterval.getValue();
+    }
+}
@@ -38,6 +38,18 @@ public class MineralHoeConfig extends ConfigCategory {
             this
     );
 
+    /**
+     * Config definition that allows enabling/disabling the Mineral
+     * Hoes area mode.
+     */
+    private final BooleanConfigValue enableAreaMode = new BooleanConfigValue(
+            "enable-area-mode",
+            "Set to false to prevent the Mineral Hoe from tilling a 3x3 or 5x5\n" +
+                      "area at once. The area is changed by shift-scrolling with the hoe in hand.",
+            true,
+            this
+    );
+
     /**
      * Config definition that allows enabling/disabling particles spawning
      * when using the Mineral Hoe.
@@ -114,6 +126,14 @@ public class MineralHoeConfig extends ConfigCategory {
         return this.enabled.getValue();
     }
 
+    /**
+     * @return {@code true} if the config allows
+     * the Mineral Hoe to till an area at once.
+     */
+    public boolean isAreaModeEnabled(){
+        return this.enableAreaMode.getValue();
+    }
+
     /**
      * @return {@code true} if the config allows
      * spawning particles when tilling a block.
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.config.categories;
+
+import com.ki11erwolf.resynth.config.BooleanConfigValue;
+import com.ki11erwolf.resynth.config.ConfigCategory;
+import com.ki11erwolf.resynth.config.IntegerConfigValue;
+
+/**
+ * Holds the configuration settings for the
+ * com.ki11erwolf.resynth.block.BlockPlanter
+ */
+public class PlanterConfig extends ConfigCategory {
+
+    /**
+     * Config definition that allows enabling/disabling
+     * growth inside planters.
+     */
+    private final BooleanConfigValue enabled = new BooleanConfigValue(
+            "enable-planters",
+            "Set to false to stop plants stored in Planters from growing.",
+            true,
+            this
+    );
+
+    /**
+     * Config definition that sets the plant capacity
+     * of the Mineral Planter.
+     */
+    private final IntegerConfigValue mineralCapacity = new IntegerConfigValue(
+            "mineral-planter-capacity",
+            "The maximum number of plants a Mineral Planter can hold.",
+            16,
+            1, 4096,
+            this
+    );
+
+    /**
+     * Config definition that sets the plant capacity
+     * of the Calvinite Planter.
+     */
+    private final IntegerConfigValue calviniteCapacity = new IntegerConfigValue(
+            "calvinite-planter-capacity",
+            "The maximum number of plants a Calvinite Planter can hold.",
+            64,
+            1, 4096,
+            this
+    );
+
+    /**
+     * Config definition that sets the plant capacity
+     * of the Sylvanite Planter.
+     */
+    private final IntegerConfigValue sylvaniteCapacity = new IntegerConfigValue(
+            "sylvanite-planter-capacity",
+            "The maximum number of plants a Sylvanite Planter can hold.",
+            256,
+            1, 4096,
+            this
+    );
+
+    /**
+     * Config definition that sets how much produce
+     * a planter can hold before its plants stop
+     * being harvested.
+     */
+    private final IntegerConfigValue produceCapacity = new IntegerConfigValue(
+            "produce-capacity",
+            "The maximum amount of produce a Planter can hold. Once full, fully grown\n" +
+                      "plants wait to be harvested until the produce is taken out.",
+            64 * 9,
+            1, 64 * 64,
+            this
+    );
+
+    /**
+     * Creates a new, unique configuration category
+     * grouping.
+     */
+    public PlanterConfig() {
+        super("planter");
+    }
+
+    /**
+     * @return {@code true} if the config allows
+     * plants stored in planters to grow.
+     */
+    public boolean isEnabled(){
+        return this.enabled.getValue();
+    }
+
+    /**
+     * @return the plant capacity of the Mineral Planter.
+     */
+    public int getMineralCapacity(){
+        return this.mineralCapacity.getValue();
+    }
+
+    /**
+     * @return the plant capacity of the Calvinite Planter.
+     */
+    public int getCalviniteCapacity(){
+        return this.calviniteCapacity.getValue();
+    }
+
+    /**
+     * @return the plant capacity of the Sylvanite Planter.
+     */
+    public int getSylvaniteCapacity(){
+        return this.sylvaniteCapacity.getValue();
+    }
+
+    /**
+     * @return the maximum amount of produce a planter can hold.
+     */
+    public int getProduceCapacity(){
+        return this.produceCapacity.getValue();
+    }
+}
@@ -15,21 +15,40 @@
  */
 package com.ki11erwolf.resynth.features;
 
+import com.ki11erwolf.resynth.ResynthMod;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.gen.feature.template.IRuleTestType;
 import net.minecraft.world.gen.feature.template.RuleTest;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 
 /**
  * A {@link Block} matcher used to target a list of specific blocks during world generation,
  * such as targeting blocks for replacement for use in ore generation.
+ *
+ * <p/>Matchers targeting only a few blocks (such as every matcher Resynth itself uses)
+ * compare the tested block against each target directly, which is as fast as it gets
+ * for short lists. Matchers targeting more blocks than that match against a precomputed
+ * bit set of the block state IDs of every state of every targeted block instead, making
+ * each test constant time regardless of the number of blocks targeted. Block state IDs
+ * can be remapped by Forge when a world is loaded, so the bit set is rebuilt lazily the
+ * first time it's used after a server starts. Tests are safe to make from concurrent
+ * world generation threads.
  */
 public class BlockListMatcher extends RuleTest {
 
@@ -68,11 +87,34 @@ public class BlockListMatcher extends RuleTest {
     //  Codec
     // *******
 
+    /**
+     * Reads the full list of targeted blocks from {@code "blocks"}, as well as
+     * a single targeted block from {@code "block"} - the only field written by
+     * older versions, which existing configs and datapacks may still use.
+     * Always writes the full list to {@code "blocks"}.
+     */
     @SuppressWarnings("deprecation")
-    private static final Codec<BlockListMatcher> CODEC =
-            Registry.BLOCK.fieldOf("block").xmap(
-                    BlockListMatcher::new, (rule) -> rule.blocks[0]
-    ).codec();
+    private static final Codec<BlockListMatcher> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Registry.BLOCK.optionalFieldOf("block").forGetter(rule -> Optional.empty()),
+            Registry.BLOCK.listOf().optionalFieldOf("blocks", Collections.emptyList())
+                    .forGetter(rule -> Arrays.asList(rule.blocks))
+    ).apply(instance, (block, blocks) -> {
+        List<Block> targets = new ArrayList<>(blocks);
+        block.ifPresent(targets::add);
+        return new BlockListMatcher(targets.toArray(new Block[0]));
+    }));
+
+    /**
+     * Incremented every time block state IDs may have been
+     * remapped, invalidating every matchers state ID bit set.
+     */
+    private static volatile int idGeneration = 0;
+
+    /**
+     * The largest number of targeted blocks that are compared against
+     * directly, rather than through the block state ID bit set.
+     */
+    private static final int MAX_SCANNED_BLOCKS = 4;
 
     private static final IRuleTestType<BlockListMatcher> BLOCK_LIST_MATCH =
             IRuleTestType.register("block_list_match", CODEC);
@@ -86,6 +128,13 @@ public class BlockListMatcher extends RuleTest {
      */
     private final Block[] blocks;
 
+    /**
+     * The bit set of matched block state IDs, along with the
+     * {@link #idGeneration} it was built for. Replaced as a
+     * whole, never modified, so it can be safely shared.
+     */
+    private volatile StateIdSet stateIds;
+
     /**
      * Creates a new {@link RuleTest} which tests
      * for the presence of any of the {@link Blocks
@@ -95,7 +144,7 @@ public class BlockListMatcher extends RuleTest {
      *               to test for.
      */
     public BlockListMatcher(Block... blocks) {
-        this.blocks = blocks;
+        this.blocks = blocks.clone();
     }
 
     /**
@@ -111,11 +160,32 @@ public class BlockListMatcher extends RuleTest {
      */
     @Override @ParametersAreNonnullByDefault
     public boolean test(BlockState state, Random random) {
-        for(Block block : blocks){
-            if(state.getBlock() == block)
-                return true;
+        if(blocks.length <= MAX_SCANNED_BLOCKS) {
+            Block tested = state.getBlock();
+
+            for(Block block : blocks){
+                if(tested == block)
+                    return true;
+            }
+            return false;
         }
-        return false;
+
+        return getStateIds().contains(Block.getId(state));
+    }
+
+    /**
+     * @return the bit set of matched block state IDs, (re)building
+     * it first if block state IDs may have changed since it was built.
+     * Concurrent callers may both rebuild it, which is harmless.
+     */
+    private StateIdSet getStateIds() {
+        StateIdSet ids = stateIds;
+        int generation = idGeneration;
+
+        if(ids == null || ids.generation != generation)
+            stateIds = ids = new StateIdSet(blocks, generation);
+
+        return ids;
     }
 
     /**
@@ -126,4 +196,69 @@ public class BlockListMatcher extends RuleTest {
     protected IRuleTestType<?> getType() {
         return BLOCK_LIST_MATCH;
     }
+
+    // **********
+    //  State IDs
+    // **********
+
+    /**
+     * An immutable bit set of the state IDs of every
+     * block state belonging to a list of blocks.
+     */
+    private static final class StateIdSet {
+
+        /**
+         * The {@link #idGeneration} the set was built for.
+         */
+        private final int generation;
+
+        /**
+         * The bits, indexed by block state ID.
+         */
+        private final long[] bits;
+
+        /**
+         * Builds the set from the current block state IDs of the given blocks.
+         */
+        private StateIdSet(Block[] blocks, int generation) {
+            int max = 0;
+            for(Block block : blocks)
+                for(BlockState state : block.getStateDefinition().getPossibleStates())
+                    max = Math.max(max, Block.getId(state));
+
+            this.generation = generation;
+            this.bits = new long[(max >>> 6) + 1];
+
+            for(Block block : blocks)
+                for(BlockState state : block.getStateDefinition().getPossibleStates()) {
+                    int id = Block.getId(state);
+                    bits[id >>> 6] |= 1L << id;
+                }
+        }
+
+        /**
+         * @return {@code true} if the given state ID is in the set.
+         */
+        private boolean contains(int id) {
+            int word = id >>> 6;
+            return id >= 0 && word < bits.length && (bits[word] & (1L << id)) != 0;
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Invalidates every matchers bit set when a server is about to start,
+         * which is after Forge has applied any ID remapping from the loaded world.
+         */
+        @SubscribeEvent
+        public static void onServerAboutToStart(FMLServerAboutToStartEvent event) {
+            idGeneration++;
+        }
+    }
 }
@@ -109,6 +109,14 @@ public abstract class Feature<T extends Feature<T>> {
         return this.id;
     }
 
+    /**
+     * @return the list of {@link Biome.Category Biome categories}
+     * this Feature is active in.
+     */
+    List<Biome.Category> getBiomes() {
+        return this.biomes;
+    }
+
     /**
      * @return the Feature implementation with configuration.
      * If the Feature is not constructed when called, the Feature
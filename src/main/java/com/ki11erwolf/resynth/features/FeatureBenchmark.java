@@ -0,0 +1,420 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.features;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.SharedSeedRandom;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.gen.ChunkGenerator;
+import net.minecraft.world.gen.GenerationStage;
+import net.minecraft.world.gen.WorldGenRegion;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStartedEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what Resynth's world generation {@link Feature Features}
+ * cost per chunk.
+ *
+ * <p/>Every {@link Feature#getFeature() ConfiguredFeature} is placed over a
+ * grid of synthetic chunks, built in memory with a fixed seed and never
+ * saved to the world. Each Feature only runs on the terrain of the dimension
+ * it generates in (e.g. Calvinite over netherrack). The benchmark reports
+ * chunks per second, blocks tested and blocks placed per Feature, as well
+ * as the throughput of all Features with each Feature disabled in turn.
+ *
+ * <p/>The benchmark runs on the calling thread and is started either with
+ * the {@code /resynth bench worldgen} command, or headless on a dedicated
+ * server by passing {@code -Dresynth.worldgenBenchmark=<grid size>} to the JVM,
+ * in which case the report is written to the log once the server has started.
+ */
+public final class FeatureBenchmark {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The system property that starts the benchmark when the server starts.
+     */
+    private static final String STARTUP_PROPERTY = "resynth.worldgenBenchmark";
+
+    /**
+     * The seed used to build the synthetic chunks and place features when none is given.
+     */
+    public static final long DEFAULT_SEED = 0x5EED_0F_5E5EL;
+
+    /**
+     * The default width and length, in chunks, of the synthetic chunk grid.
+     */
+    public static final int DEFAULT_GRID_SIZE = 8;
+
+    /**
+     * The largest allowed width and length, in chunks, of the synthetic chunk grid.
+     */
+    public static final int MAX_GRID_SIZE = 64;
+
+    /**
+     * The chunk coordinate the synthetic grid starts at. Far away from
+     * spawn so features can never be confused with real terrain.
+     */
+    private static final int GRID_ORIGIN = 100_000;
+
+    //Static class.
+    private FeatureBenchmark(){}
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param world the world providing the chunk generator and
+     *              registries. Its terrain is not read or modified.
+     * @param gridSize the width and length of the chunk grid built
+     *                 for each terrain type.
+     * @param seed the seed used to build terrain and place features.
+     * @return the human-readable report.
+     */
+    public static List<String> run(ServerWorld world, int gridSize, long seed) {
+        List<Feature<?>> features = ResynthFeatures.getFeatures();
+        gridSize = Math.max(1, Math.min(gridSize, MAX_GRID_SIZE));
+        int chunks = gridSize * gridSize * Terrain.values().length;
+
+        LOG.info("Running worldgen benchmark over " + chunks + " chunks...");
+
+        //Warmup, discarded
+        runPass(world, features, null, gridSize, seed);
+
+        Map<Feature<?>, Stats> results = new LinkedHashMap<>();
+        long allNanos = runPass(world, features, results, gridSize, seed);
+
+        List<String> report = new ArrayList<>();
+        report.add("Worldgen benchmark: " + gridSize + "x" + gridSize + " chunks per terrain, seed " + seed);
+
+        for(Map.Entry<Feature<?>, Stats> result : results.entrySet()) {
+            Stats stats = result.getValue();
+            report.add(String.format(
+                    "  %s: %.1f chunks/s, %d tested (%.1f/chunk), %d placed (%.1f/chunk)%s",
+                    result.getKey().getID(), chunksPerSecond(stats.chunks, stats.nanos),
+                    stats.tested, (double) stats.tested / stats.chunks,
+                    stats.placed, (double) stats.placed / stats.chunks,
+                    stats.failures == 0 ? "" : ", " + stats.failures + " failed"
+            ));
+        }
+
+        double allRate = chunksPerSecond(chunks, allNanos);
+        report.add(String.format("  All features: %.1f chunks/s", allRate));
+
+        for(Feature<?> disabled : features) {
+            List<Feature<?>> enabled = new ArrayList<>(features);
+            enabled.remove(disabled);
+
+            double rate = chunksPerSecond(chunks, runPass(world, enabled, null, gridSize, seed));
+            report.add(String.format("  Without %s: %.1f chunks/s (%+.1f%%)",
+                    disabled.getID(), rate, (rate / allRate - 1) * 100));
+        }
+
+        report.forEach(LOG::info);
+        return report;
+    }
+
+    /**
+     * Builds a fresh chunk grid for every terrain type and places
+     * the given features over it.
+     *
+     * @param results the map to record per-feature results in,
+     *                or {@code null} if they aren't needed.
+     * @return the total time, in nanoseconds, spent placing features.
+     */
+    private static long runPass(ServerWorld world, List<Feature<?>> features,
+                                Map<Feature<?>, Stats> results, int gridSize, long seed) {
+        ChunkGenerator generator = world.getChunkSource().getGenerator();
+        List<Feature<?>> allFeatures = ResynthFeatures.getFeatures();
+        SharedSeedRandom random = new SharedSeedRandom();
+        long totalNanos = 0;
+
+        for(Terrain terrain : Terrain.values()) {
+            IChunk[][] grid = terrain.buildGrid(gridSize + 2, seed);
+
+            for(int x = 1; x <= gridSize; x++) {
+                for(int z = 1; z <= gridSize; z++) {
+                    CountingRegion region = new CountingRegion(world, neighbours(grid, x, z));
+                    ChunkPos chunkPos = grid[x][z].getPos();
+                    long decorationSeed = random.setDecorationSeed(
+                            seed, chunkPos.getMinBlockX(), chunkPos.getMinBlockZ()
+                    );
+
+                    for(Feature<?> feature : features) {
+                        if(Terrain.of(feature) != terrain)
+                            continue;
+
+                        //Index from the full list, so disabling a feature doesn't move the others
+                        random.setFeatureSeed(decorationSeed, allFeatures.indexOf(feature),
+                                GenerationStage.Decoration.UNDERGROUND_ORES.ordinal());
+                        region.reset();
+
+                        boolean failed = false;
+                        long start = System.nanoTime();
+                        try {
+                            feature.getFeature().place(region, generator, random, chunkPos.getWorldPosition());
+                        } catch (RuntimeException e) {
+                            LOG.debug("Feature " + feature.getID() + " failed in synthetic chunk " + chunkPos, e);
+                            failed = true;
+                        }
+                        long nanos = System.nanoTime() - start;
+                        totalNanos += nanos;
+
+                        if(results != null)
+                            results.computeIfAbsent(feature, f -> new Stats()).add(region, nanos, failed);
+                    }
+                }
+            }
+        }
+
+        return totalNanos;
+    }
+
+    /**
+     * @return the 3x3 chunks centered on the given grid position, in the
+     * order required by {@link WorldGenRegion}.
+     */
+    private static List<IChunk> neighbours(IChunk[][] grid, int x, int z) {
+        List<IChunk> chunks = new ArrayList<>(9);
+
+        for(int dz = -1; dz <= 1; dz++)
+            for(int dx = -1; dx <= 1; dx++)
+                chunks.add(grid[x + dx][z + dz]);
+
+        return chunks;
+    }
+
+    /**
+     * @return the number of chunks processed per second.
+     */
+    private static double chunksPerSecond(long chunks, long nanos) {
+        return nanos == 0 ? 0 : chunks / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    // *******
+    // Terrain
+    // *******
+
+    /**
+     * The types of synthetic terrain features are benchmarked over.
+     * Roughly the shape of the real terrain each feature generates in.
+     */
+    private enum Terrain {
+
+        /**
+         * Stone with patches of granite, diorite and andesite, topped with dirt,
+         * grass and scattered vegetation at sea level.
+         */
+        OVERWORLD {
+            @Override
+            void fillColumn(ChunkPrimer chunk, BlockPos.Mutable pos, Random random) {
+                fill(chunk, pos, 0, 0, Blocks.BEDROCK.defaultBlockState());
+
+                for(int y = 1; y < 60; y++) {
+                    float roll = random.nextFloat();
+                    chunk.setBlockState(pos.setY(y), roll < 0.05F ? Blocks.GRANITE.defaultBlockState()
+                            : roll < 0.10F ? Blocks.DIORITE.defaultBlockState()
+                            : roll < 0.15F ? Blocks.ANDESITE.defaultBlockState()
+                            : Blocks.STONE.defaultBlockState(), false);
+                }
+
+                fill(chunk, pos, 60, 62, Blocks.DIRT.defaultBlockState());
+                fill(chunk, pos, 63, 63, Blocks.GRASS_BLOCK.defaultBlockState());
+
+                float roll = random.nextFloat();
+                if(roll < 0.50F)
+                    fill(chunk, pos, 64, 64, (roll < 0.40F ? Blocks.GRASS
+                            : roll < 0.45F ? Blocks.POPPY : Blocks.DANDELION).defaultBlockState());
+            }
+        },
+
+        /**
+         * Netherrack with a bedrock floor and ceiling.
+         */
+        NETHER {
+            @Override
+            void fillColumn(ChunkPrimer chunk, BlockPos.Mutable pos, Random random) {
+                fill(chunk, pos, 0, 0, Blocks.BEDROCK.defaultBlockState());
+                fill(chunk, pos, 1, 100, Blocks.NETHERRACK.defaultBlockState());
+                fill(chunk, pos, 127, 127, Blocks.BEDROCK.defaultBlockState());
+            }
+        },
+
+        /**
+         * A floating slab of end stone.
+         */
+        END {
+            @Override
+            void fillColumn(ChunkPrimer chunk, BlockPos.Mutable pos, Random random) {
+                fill(chunk, pos, 40, 70, Blocks.END_STONE.defaultBlockState());
+            }
+        };
+
+        /**
+         * Places the terrain of a single column in the given chunk.
+         *
+         * @param pos the column position. Only the Y value may be changed.
+         */
+        abstract void fillColumn(ChunkPrimer chunk, BlockPos.Mutable pos, Random random);
+
+        /**
+         * Builds a square grid of chunks filled with this terrain.
+         */
+        IChunk[][] buildGrid(int size, long seed) {
+            Random random = new Random(seed ^ ordinal());
+            BlockPos.Mutable pos = new BlockPos.Mutable();
+            IChunk[][] grid = new IChunk[size][size];
+
+            for(int x = 0; x < size; x++) {
+                for(int z = 0; z < size; z++) {
+                    ChunkPrimer chunk = new ChunkPrimer(
+                            new ChunkPos(GRID_ORIGIN + x, GRID_ORIGIN + z), UpgradeData.EMPTY
+                    );
+
+                    for(int bx = 0; bx < 16; bx++)
+                        for(int bz = 0; bz < 16; bz++)
+                            fillColumn(chunk, pos.set(chunk.getPos().getMinBlockX() + bx, 0,
+                                    chunk.getPos().getMinBlockZ() + bz), random);
+
+                    grid[x][z] = chunk;
+                }
+            }
+
+            return grid;
+        }
+
+        /**
+         * Fills the column at the given position from {@code minY} to {@code maxY} inclusive.
+         */
+        static void fill(ChunkPrimer chunk, BlockPos.Mutable pos, int minY, int maxY, BlockState state) {
+            for(int y = minY; y <= maxY; y++)
+                chunk.setBlockState(pos.setY(y), state, false);
+        }
+
+        /**
+         * @return the terrain type the given feature generates in.
+         */
+        static Terrain of(Feature<?> feature) {
+            if(feature.getBiomes().contains(Biome.Category.NETHER))
+                return NETHER;
+            else if(feature.getBiomes().contains(Biome.Category.THEEND))
+                return END;
+            else return OVERWORLD;
+        }
+    }
+
+    // **********
+    // Statistics
+    // **********
+
+    /**
+     * A {@link WorldGenRegion} that counts the blocks read and written by features.
+     */
+    private static final class CountingRegion extends WorldGenRegion {
+
+        private long tested;
+
+        private long placed;
+
+        CountingRegion(ServerWorld world, List<IChunk> chunks) {
+            super(world, chunks);
+        }
+
+        void reset() {
+            tested = placed = 0;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            tested++;
+            return super.getBlockState(pos);
+        }
+
+        @Override
+        public boolean setBlock(BlockPos pos, BlockState state, int flags, int recursionLeft) {
+            placed++;
+            return super.setBlock(pos, state, flags, recursionLeft);
+        }
+    }
+
+    /**
+     * The accumulated results of a single feature.
+     */
+    private static final class Stats {
+
+        private long chunks;
+
+        private long nanos;
+
+        private long tested;
+
+        private long placed;
+
+        private long failures;
+
+        void add(CountingRegion region, long nanos, boolean failed) {
+            this.chunks++;
+            this.nanos += nanos;
+            this.tested += region.tested;
+            this.placed += region.placed;
+            if(failed) this.failures++;
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Runs the benchmark once the server has started, if requested with the startup property.
+         */
+        @SubscribeEvent
+        public static void onServerStarted(FMLServerStartedEvent event) {
+            String gridSize = System.getProperty(STARTUP_PROPERTY);
+            if(gridSize == null)
+                return;
+
+            try {
+                run(event.getServer().overworld(), Integer.parseInt(gridSize.trim()), DEFAULT_SEED);
+            } catch (NumberFormatException e) {
+                LOG.error("Invalid worldgen benchmark grid size: " + gridSize
+                        + ", expected a number from 1 to " + MAX_GRID_SIZE);
+            }
+        }
+    }
+}
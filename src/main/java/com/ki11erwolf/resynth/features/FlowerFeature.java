@@ -24,8 +24,6 @@ import net.minecraft.world.gen.GenerationStage;
 import net.minecraft.world.gen.feature.ConfiguredFeature;
 import net.minecraft.world.gen.feature.OreFeatureConfig;
 import net.minecraft.world.gen.feature.template.RuleTest;
-import net.minecraft.world.gen.placement.Placement;
-import net.minecraft.world.gen.placement.TopSolidRangeConfig;
 import net.minecraftforge.common.world.BiomeGenerationSettingsBuilder;
 
 import java.util.Objects;
@@ -44,11 +42,10 @@ public class FlowerFeature extends Feature<FlowerFeature> {
     );
 
     /**
-     * The range of heights that flowers can be generated at.
+     * The {@link SurfacePlantFeature} instance used by every FlowerFeature
+     * to place flowers. Registered to the game by {@link ResynthFeatures}.
      */
-    private static final TopSolidRangeConfig HEIGHT_RANGE = new TopSolidRangeConfig(
-            40, 40, 255
-    );
+    static final SurfacePlantFeature SURFACE_PLANT = new SurfacePlantFeature();
 
     /**
      * The specific flower Block to generate.
@@ -88,21 +85,21 @@ public class FlowerFeature extends Feature<FlowerFeature> {
      */
     @Override
     protected ConfiguredFeature<?, ?> constructFeature() {
-        return net.minecraft.world.gen.feature.Feature.ORE.configured(
+        return SURFACE_PLANT.configured(
                 new OreFeatureConfig(BASE_FLOWERS, flower.defaultBlockState(), size)
-        ).decorated(Placement.RANGE.configured(HEIGHT_RANGE).chance(rarity));
+        ).squared().chance(rarity);
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p> <b>NOTE:</b> FlowerFeatures use underground ore generation behind the scenes. </p>
+     * <p> <b>NOTE:</b> FlowerFeatures generate after vanilla vegetation, which they replace. </p>
      */
     @Override
     protected void configureFeature(BiomeGenerationSettingsBuilder builder) throws Exception {
         if(flower.getRegistryName() == null) throw new Exception("Flower registry name is null");
 
         if(getFeature() == null) throw new Exception("Flower Feature was not constructed correctly!");
-        else builder.addFeature(GenerationStage.Decoration.UNDERGROUND_ORES, getFeature());
+        else builder.addFeature(GenerationStage.Decoration.VEGETAL_DECORATION, getFeature());
     }
 }
@@ -36,6 +36,7 @@ import net.minecraftforge.registries.IForgeRegistry;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -189,6 +190,14 @@ public final class ResynthFeatures {
         return feature;
     }
 
+    /**
+     * @return an unmodifiable view of every {@link Feature}
+     * implementation created by Resynth.
+     */
+    static List<Feature<?>> getFeatures() {
+        return Collections.unmodifiableList(FEATURE_LIST);
+    }
+
     /**
      * Forge EventBus callback fired when a {@link BiomeLoadingEvent
      * Biome Loading Event} is triggered.
@@ -207,6 +216,8 @@ public final class ResynthFeatures {
     @SubscribeEvent
     public static void registerFeatures(RegistryEvent.Register<net.minecraft.world.gen.feature.Feature<?>> event) {
         IForgeRegistry<net.minecraft.world.gen.feature.Feature<?>> featureRegistry = event.getRegistry();
+        featureRegistry.register(FlowerFeature.SURFACE_PLANT.setRegistryName(ResynthMod.MODID, "surface_plant"));
+
         FEATURE_LIST.stream().peek(
                 feature -> LOG.info("Registering ResynthFeature {}.", feature.getID().toString())
         ).filter(
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.features;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.DoublePlantBlock;
+import net.minecraft.state.properties.DoubleBlockHalf;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.ISeedReader;
+import net.minecraft.world.gen.ChunkGenerator;
+import net.minecraft.world.gen.Heightmap;
+import net.minecraft.world.gen.feature.OreFeatureConfig;
+
+import java.util.Random;
+
+/**
+ * A surface decoration {@link net.minecraft.world.gen.feature.Feature}
+ * that replaces existing vegetation with a given plant.
+ *
+ * <p/>Rather than scanning a volume of blocks like an ore, the feature
+ * picks {@link OreFeatureConfig#size size} random columns around the
+ * placement position, looks up the top of each column in the world
+ * surface heightmap and tests only the block sitting there against
+ * the {@link OreFeatureConfig#target target}. Matching blocks are
+ * replaced with the {@link OreFeatureConfig#state state}; the top
+ * half of two block tall plants is removed.
+ */
+public class SurfacePlantFeature extends net.minecraft.world.gen.feature.Feature<OreFeatureConfig> {
+
+    /**
+     * The maximum horizontal distance from the placement
+     * position plants in a patch are placed.
+     */
+    private static final int PATCH_RADIUS = 4;
+
+    /**
+     * Creates the feature. Only a single instance is needed and
+     * it must be registered to the game before it can be used.
+     */
+    SurfacePlantFeature() {
+        super(OreFeatureConfig.CODEC);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} if at least one plant was placed.
+     */
+    @Override
+    public boolean place(ISeedReader world, ChunkGenerator generator, Random random,
+                         BlockPos pos, OreFeatureConfig config) {
+        BlockPos.Mutable column = new BlockPos.Mutable();
+        boolean placed = false;
+
+        for(int i = 0; i < config.size; i++) {
+            int x = pos.getX() + random.nextInt(PATCH_RADIUS * 2 + 1) - PATCH_RADIUS;
+            int z = pos.getZ() + random.nextInt(PATCH_RADIUS * 2 + 1) - PATCH_RADIUS;
+
+            //The heightmap gives the first free block above the column
+            column.set(x, world.getHeight(Heightmap.Type.WORLD_SURFACE_WG, x, z) - 1, z);
+            BlockState plant = world.getBlockState(column);
+
+            if(!config.target.test(plant, random))
+                continue;
+
+            if(plant.hasProperty(DoublePlantBlock.HALF) && plant.getValue(DoublePlantBlock.HALF) == DoubleBlockHalf.UPPER) {
+                world.setBlock(column, Blocks.AIR.defaultBlockState(), 2);
+                column.move(0, -1, 0);
+            }
+
+            world.setBlock(column, config.state, 2);
+            placed = true;
+        }
+
+        return placed;
+    }
+}
@@ -78,7 +78,7 @@ class ItemMineralCrystal extends ResynthItem<ItemMineralCrystal> {
     public void appendHoverText(ItemStack stack, @Nullable World world, List<ITextComponent> tooltip,
                                ITooltipFlag flagIn) {
         new ExpandingTooltip().setCollapsedTooltip(null).setExpandedTooltip(CommonTooltips.NEW_LINE).setCondition(
-                CONFIG.isECMEnabled() && CommonRKeys.SHIFT.rKey.query()
+                CONFIG.isECMEnabled() && CommonRKeys.SHIFT.isPressed()
         ).write(tooltip);
 
         if(CONFIG.isECMEnabled())
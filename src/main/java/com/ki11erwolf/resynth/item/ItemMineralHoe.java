@@ -22,27 +22,43 @@ import com.ki11erwolf.resynth.ResynthMod;
 import com.ki11erwolf.resynth.block.ResynthBlocks;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.MineralHoeConfig;
+import com.ki11erwolf.resynth.metrics.Metric;
+import com.ki11erwolf.resynth.metrics.ResynthMetrics;
+import com.ki11erwolf.resynth.packet.CycleHoeAreaPacket;
 import com.ki11erwolf.resynth.packet.DisplayHoeInfoPacket;
 import com.ki11erwolf.resynth.packet.Packet;
 import com.ki11erwolf.resynth.util.*;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.IGrowable;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.util.ITooltipFlag;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemUseContext;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.play.server.SMultiBlockChangePacket;
 import net.minecraft.particles.ParticleTypes;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.TextFormatting;
+import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.InputEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.network.PacketDistributor;
 import org.apache.logging.log4j.Logger;
 
@@ -80,6 +96,17 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
      */
     private static final String NBT_TAG_CHARGES = "charges";
 
+    /**
+     * NBT key used to store the size of the area the hoe tills.
+     */
+    private static final String NBT_TAG_AREA = "area";
+
+    /**
+     * The sizes (width and length) of the areas the hoe can till,
+     * in the order they're cycled through.
+     */
+    private static final int[] AREA_SIZES = {1, 3, 5};
+
     /**
      * Constructs the Mineral Hoe item class.
      *
@@ -122,6 +149,15 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
                 )
         );
 
+        //Add area tooltip
+        if(CONFIG.isAreaModeEnabled())
+            tooltip.add(
+                    getFormattedTooltip(
+                            "mineral_hoe_area", TextFormatting.GOLD,
+                            TextFormatting.AQUA, getArea(stack), getArea(stack)
+                    )
+            );
+
         //Add default information tooltip.
         super.appendHoverText(stack, worldIn, tooltip, flagIn);
     }
@@ -230,6 +266,61 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
         return setCharges(stack, charges - 1);
     }
 
+    // ********
+    // Area NBT
+    // ********
+
+    /**
+     * Used to get the size (width and length) of the area
+     * the given Mineral Hoe item stack tills at once.
+     *
+     * @param stack the Mineral Hoe item stack.
+     * @return the size of the area the hoe tills,
+     * {@code 1} if area mode is not in use.
+     */
+    private static int getArea(ItemStack stack){
+        CompoundNBT tag = stack.getTag();
+
+        if(tag == null || !CONFIG.isAreaModeEnabled())
+            return AREA_SIZES[0];
+
+        int area = tag.getInt(NBT_TAG_AREA);
+        for(int size : AREA_SIZES){
+            if(size == area)
+                return area;
+        }
+
+        return AREA_SIZES[0];
+    }
+
+    /**
+     * Changes the size of the area tilled by the Mineral Hoe
+     * held in the main hand of the given player to the next
+     * (or previous) size, and tells the player the new size.
+     * Does nothing if the player isn't holding a Mineral Hoe.
+     *
+     * @param player the player holding the Mineral Hoe.
+     * @param grow {@code true} to change to the next larger
+     *             size, {@code false} to change to the next
+     *             smaller size. Wraps around at either end.
+     */
+    public static void cycleArea(ServerPlayerEntity player, boolean grow){
+        ItemStack stack = player.getMainHandItem();
+
+        if(!(stack.getItem() instanceof ItemMineralHoe) || !CONFIG.isAreaModeEnabled())
+            return;
+
+        int index = Arrays.binarySearch(AREA_SIZES, getArea(stack));
+        int size = AREA_SIZES[Math.floorMod(index + (grow ? 1 : -1), AREA_SIZES.length)];
+
+        ensureChargesNBT(stack);
+        Objects.requireNonNull(stack.getTag()).putInt(NBT_TAG_AREA, size);
+
+        player.displayClientMessage(new TranslationTextComponent(
+                "message.resynth.mineral_hoe_area", size, size
+        ).withStyle(TextFormatting.GOLD), true);
+    }
+
     // ****************
     // MC Action Events
     // ****************
@@ -318,7 +409,9 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
      */
     private boolean onBlockClick(World world, BlockPos pos, BlockState block, ItemStack item, PlayerEntity player,
                                  Direction face){
-        boolean tilled = tryTillBlock(world, pos, block, item, player, face);
+        boolean tilled = getArea(item) > 1
+                ? tryTillArea(world, pos, block, item, player, face)
+                : tryTillBlock(world, pos, block, item, player, face);
 
         if(!tilled) //return tryGetInfo(world, pos, block, player);
             return tryGetBlockInfoAsProvider(world, pos, block, player);
@@ -494,23 +587,13 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
     private boolean tryTillBlock(World world, BlockPos pos, BlockState state, ItemStack item,
                                  PlayerEntity player, Direction face){
 
-        //Check for dirt and grass.
-        if(!(state.getBlock() == Blocks.DIRT || state.getBlock() == Blocks.GRASS_BLOCK))
+        //Check block and direction.
+        if(!canTill(world, pos, state, face))
             return false;
 
-        //Check direction
-        if (!(face != Direction.DOWN && world.isEmptyBlock(pos.above()))) {
-            return false;
-        }
-
         //Check for creative and charges.
-        if(!(player.isCreative() || getCharges(item) > 0)){
-            if(CONFIG.playFailSound())
-                EffectsUtil.playNormalSound(
-                        world, player, pos, SoundEvents.NOTE_BLOCK_HAT, SoundCategory.BLOCKS
-                );
+        if(!hasCharges(world, pos, item, player))
             return false;
-        }
 
         //If all checks pass
 
@@ -525,6 +608,161 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
         return replaced;
     }
 
+    /**
+     * Will attempt to till every eligible block in the hoes area,
+     * centered on the given block, into Mineral Soil. The given
+     * block must itself be tillable for anything to be tilled.
+     *
+     * <p/>Unlike tilling a single block, every block is changed
+     * without notifying the client, and a single charge update,
+     * sound and client sync is done for the whole area - with one
+     * particle burst and block change packet per chunk section
+     * touched. Blocks are only tilled for as long as there are
+     * charges left, starting with the given block.
+     *
+     * @param world the world the blocks to till are in.
+     * @param center the position of the block the hoe was used on.
+     * @param state the state of the block the hoe was used on.
+     * @param item the item used to till the blocks (Mineral Hoe stack).
+     * @param player the player tilling the blocks.
+     * @param face the direction the block is being tilled from.
+     * @return {@code true} if at least one block was tilled.
+     */
+    private boolean tryTillArea(World world, BlockPos center, BlockState state, ItemStack item,
+                                PlayerEntity player, Direction face){
+
+        //Check the clicked block, so using the hoe on anything else still gets info.
+        if(!canTill(world, center, state, face))
+            return false;
+
+        //Check for creative and charges.
+        if(!hasCharges(world, center, item, player))
+            return false;
+
+        int available = player.isCreative() ? Integer.MAX_VALUE : getCharges(item);
+        int radius = getArea(item) / 2;
+
+        //Find eligible blocks, clicked block first.
+        List<BlockPos> eligible = new ArrayList<>();
+        eligible.add(center);
+
+        for(BlockPos pos : BlockPos.betweenClosed(center.offset(-radius, 0, -radius), center.offset(radius, 0, radius))){
+            if(eligible.size() >= available)
+                break;
+
+            if(!pos.equals(center) && canTill(world, pos, world.getBlockState(pos), face))
+                eligible.add(pos.immutable());
+        }
+
+        //Replace, grouped by chunk section.
+        BlockState soil = ResynthBlocks.BLOCK_MINERAL_SOIL.defaultBlockState();
+        Long2ObjectMap<List<BlockPos>> sections = new Long2ObjectOpenHashMap<>();
+        int tilled = 0;
+
+        for(BlockPos pos : eligible){
+            if(world.setBlock(pos, soil, 0)){
+                sections.computeIfAbsent(SectionPos.of(pos).asLong(), section -> new ArrayList<>()).add(pos);
+                tilled++;
+            }
+        }
+
+        if(tilled == 0)
+            return false;
+
+        //Single charge update.
+        if(!player.isCreative())
+            setCharges(item, getCharges(item) - tilled);
+
+        //Effects & sync, once per section.
+        for(Long2ObjectMap.Entry<List<BlockPos>> section : sections.long2ObjectEntrySet()){
+            if(world instanceof ServerWorld)
+                syncSection((ServerWorld) world, SectionPos.of(section.getLongKey()), section.getValue());
+            else if(CONFIG.showParticles())
+                EffectsUtil.displayStandardEffects(
+                        world, getCenter(section.getValue()).above(),
+                        Math.min(5 * section.getValue().size(), 25), ParticleTypes.FLAME
+                );
+        }
+
+        EffectsUtil.playNormalSound(world, player, center, SoundEvents.HOE_TILL, SoundCategory.BLOCKS);
+        return true;
+    }
+
+    /**
+     * Checks if the given block can be tilled into Mineral Soil:
+     * it must be dirt or grass, with nothing above it, and not
+     * be tilled from below.
+     *
+     * @param world the world the block is in.
+     * @param pos the position of the block in the world.
+     * @param state the state of the block in the world.
+     * @param face the direction the block is being tilled from.
+     * @return {@code true} if the block can be tilled.
+     */
+    private static boolean canTill(World world, BlockPos pos, BlockState state, Direction face){
+        //Check for dirt and grass.
+        if(!(state.getBlock() == Blocks.DIRT || state.getBlock() == Blocks.GRASS_BLOCK))
+            return false;
+
+        //Check direction
+        return face != Direction.DOWN && world.isEmptyBlock(pos.above());
+    }
+
+    /**
+     * Checks if the given player is in creative or the given Mineral
+     * Hoe has charges left, playing the fail sound if not.
+     *
+     * @param world the world the hoe is being used in.
+     * @param pos the position of the block the hoe was used on.
+     * @param item the Mineral Hoe item stack.
+     * @param player the player using the hoe.
+     * @return {@code true} if the hoe can be used.
+     */
+    private static boolean hasCharges(World world, BlockPos pos, ItemStack item, PlayerEntity player){
+        if(player.isCreative() || getCharges(item) > 0)
+            return true;
+
+        if(CONFIG.playFailSound())
+            EffectsUtil.playNormalSound(
+                    world, player, pos, SoundEvents.NOTE_BLOCK_HAT, SoundCategory.BLOCKS
+            );
+        return false;
+    }
+
+    /**
+     * Sends the blocks changed within a single chunk section to every
+     * player tracking the chunk, as one multi block change packet.
+     *
+     * @param world the world the blocks were changed in.
+     * @param sectionPos the chunk section the blocks were changed in.
+     * @param changed the positions of the changed blocks.
+     */
+    private static void syncSection(ServerWorld world, SectionPos sectionPos, List<BlockPos> changed){
+        ChunkSection section = world.getChunk(sectionPos.x(), sectionPos.z()).getSections()[sectionPos.y()];
+        if(section == null)
+            return;
+
+        ShortSet positions = new ShortOpenHashSet(changed.size());
+        for(BlockPos pos : changed)
+            positions.add(SectionPos.sectionRelativePos(pos));
+
+        SMultiBlockChangePacket packet = new SMultiBlockChangePacket(sectionPos, positions, section, false);
+        world.getChunkSource().chunkMap.getPlayers(sectionPos.chunk(), false)
+                .forEach(player -> player.connection.send(packet));
+    }
+
+    /**
+     * @return the position closest to the middle of the given positions.
+     */
+    private static BlockPos getCenter(List<BlockPos> positions){
+        int x = 0, y = 0, z = 0;
+        for(BlockPos pos : positions){
+            x += pos.getX(); y += pos.getY(); z += pos.getZ();
+        }
+
+        return new BlockPos(x / positions.size(), y / positions.size(), z / positions.size());
+    }
+
     /**
      * Will till the given block into Mineral Soil regardless of block.
      * Effects will also be played along with the tilling action.
@@ -576,6 +814,33 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
         return false;
     }
 
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+    private static class Hooks {
+
+        /**
+         * Asks the server to change the area of the held
+         * Mineral Hoe when the player shift-scrolls.
+         */
+        @SubscribeEvent
+        public static void onMouseScroll(InputEvent.MouseScrollEvent event){
+            Minecraft minecraft = Minecraft.getInstance();
+            PlayerEntity player = minecraft.player;
+
+            if(player == null || minecraft.screen != null || !player.isCrouching() || !CONFIG.isAreaModeEnabled())
+                return;
+
+            if(!(player.getMainHandItem().getItem() instanceof ItemMineralHoe) || event.getScrollDelta() == 0)
+                return;
+
+            event.setCanceled(true);
+            Packet.send(PacketDistributor.SERVER.noArg(), new CycleHoeAreaPacket(event.getScrollDelta() > 0));
+        }
+    }
+
     // ********************
     // Information Provider
     // ********************
@@ -593,6 +858,8 @@ public class ItemMineralHoe extends ResynthItem<ItemMineralHoe> {
 
         // Information obtained! Convert to HoeInformation and send display packet
         if(player instanceof ServerPlayerEntity) {
+            ResynthMetrics.count(Metric.HOE_QUERIES, ResynthMetrics.HOE, world);
+
             Packet.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) player),
                     new DisplayHoeInfoPacket(new MineralHoeInformation(information))
             );
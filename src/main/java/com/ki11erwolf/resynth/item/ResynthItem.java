@@ -21,6 +21,7 @@ import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import com.ki11erwolf.resynth.plant.set.PlantSet;
 import com.ki11erwolf.resynth.util.ExpandingTooltip;
 import com.ki11erwolf.resynth.util.Tooltip;
+import com.ki11erwolf.resynth.util.TooltipCache;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.client.util.ITooltipFlag;
 import net.minecraft.item.Item;
@@ -94,11 +95,11 @@ public class ResynthItem<T extends ResynthItem<?>> extends Item {
      */
     @Override
     public void appendHoverText(ItemStack stack, World world, List<ITextComponent> tooltip, ITooltipFlag flagIn) {
-        new ExpandingTooltip().setCtrlForDescription(
+        TooltipCache.write(tooltip, this, cached -> new ExpandingTooltip().setCtrlForDescription(
                 tooltips -> Tooltip.addBlankLine(tooltips).addAll(
                         Arrays.asList(Tooltip.formatLineFeeds(getDescriptiveTooltip(this), TextFormatting.DARK_GRAY))
                 )
-        ).write(tooltip).add(newBlankLine());
+        ).write(cached).add(newBlankLine()));
     }
 
     /**
@@ -132,11 +133,14 @@ public class ResynthItem<T extends ResynthItem<?>> extends Item {
      *
      * @param tooltip the tooltip we're modifying with the new
      *                new tooltips.
+     * @param item the item the tooltip belongs to. Used
+     *             to cache the tooltip.
      * @param itemName the registry name (path only) of the
      *                 item we're getting the tooltip of.
      */
-    protected static void addPlantItemTooltips(List<ITextComponent> tooltip, String itemName, PlantSet<?, ?> parentSet){
-        Tooltip.addPlantItemOrBlockTooltips(tooltip, parentSet, getDescriptiveTooltip(itemName));
+    protected static void addPlantItemTooltips(List<ITextComponent> tooltip, ResynthItem<?> item, String itemName,
+                                               PlantSet<?, ?> parentSet){
+        Tooltip.addPlantItemOrBlockTooltips(tooltip, item, parentSet, () -> getDescriptiveTooltip(itemName));
     }
 
     /**
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A simple, thread safe histogram with fixed width buckets
+ * backed by striped counters. Values below zero go in the
+ * first bucket, and values above the range go in the last.
+ */
+class Histogram {
+
+    /**
+     * The counts for each bucket.
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * The width of a single bucket.
+     */
+    private final double bucketWidth;
+
+    /**
+     * @param max the upper bound of the last bucket.
+     * @param bucketCount the number of buckets.
+     */
+    Histogram(double max, int bucketCount) {
+        this.bucketWidth = max / bucketCount;
+        this.buckets = new LongAdder[bucketCount];
+
+        for(int i = 0; i < bucketCount; i++)
+            buckets[i] = new LongAdder();
+    }
+
+    /**
+     * Records a single value.
+     */
+    void record(double value) {
+        int bucket = (int) (value / bucketWidth);
+        buckets[Math.max(0, Math.min(bucket, buckets.length - 1))].increment();
+    }
+
+    /**
+     * @return the number of buckets.
+     */
+    int getBucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * @return the lower bound of the given bucket.
+     */
+    double getBucketStart(int bucket) {
+        return bucket * bucketWidth;
+    }
+
+    /**
+     * @return the count of the given bucket.
+     */
+    long getCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * @return the count of every bucket combined.
+     */
+    long getTotal() {
+        long total = 0;
+        for(LongAdder bucket : buckets)
+            total += bucket.sum();
+
+        return total;
+    }
+}
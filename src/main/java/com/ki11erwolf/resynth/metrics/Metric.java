@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics;
+
+/**
+ * The individual events that are counted by {@link ResynthMetrics}.
+ */
+public enum Metric {
+
+    /**
+     * A plant received a random tick and had a chance to grow.
+     */
+    RANDOM_TICKS("random ticks"),
+
+    /**
+     * A plant grew one or more growth stages.
+     */
+    GROWTH_SUCCESSES("growth successes"),
+
+    /**
+     * A fully grown plant had its produce pulled out by a hopper or pipe.
+     */
+    AUTO_HARVESTS("auto-harvests"),
+
+    /**
+     * Seeds dropped from a mined ore block.
+     */
+    SEEDS_FROM_ORE("seeds from ore"),
+
+    /**
+     * Seeds dropped from a shard despawning in water.
+     */
+    SEEDS_FROM_SHARD("seeds from shard"),
+
+    /**
+     * Seeds dropped from a killed mob.
+     */
+    SEEDS_FROM_MOB("seeds from mob"),
+
+    /**
+     * Seeds dropped from a smashed bulb.
+     */
+    SEEDS_FROM_BULB("seeds from bulb"),
+
+    /**
+     * Seeds dropped from an exploded ore or organic ore block.
+     */
+    SEEDS_FROM_EXPLOSION("seeds from explosion"),
+
+    /**
+     * Mineral Rocks added to a Mineral Soil block.
+     */
+    SOIL_INFUSIONS("soil infusions"),
+
+    /**
+     * Blocks queried for information with the Mineral Hoe.
+     */
+    HOE_QUERIES("hoe queries");
+
+    /**
+     * The human readable name of the metric.
+     */
+    private final String displayName;
+
+    /**
+     * @param displayName the human readable name of the metric.
+     */
+    Metric(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return the human readable name of the metric.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
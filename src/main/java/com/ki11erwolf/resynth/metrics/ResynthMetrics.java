@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import net.minecraft.world.World;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-process registry of counters that track what Resynth's
+ * plants, seeds and soil are doing, per plant set type and per world.
+ *
+ * <p/>Metrics are disabled by default in the config. When disabled,
+ * every call into this class returns immediately on a constant flag,
+ * which the JIT folds away - costing effectively nothing.
+ */
+public final class ResynthMetrics {
+
+    /**
+     * {@code true} if metrics are enabled in the config.
+     */
+    public static final boolean ENABLED
+            = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).areMetricsEnabled();
+
+    /**
+     * The category used for Mineral Soil metrics.
+     */
+    public static final String SOIL = "mineral_soil";
+
+    /**
+     * The category used for Mineral Hoe metrics.
+     */
+    public static final String HOE = "mineral_hoe";
+
+    /**
+     * The sliding windows, in seconds, that rates are reported over.
+     */
+    private static final int[] WINDOWS = {60, 5 * 60, WindowedCounter.MAX_WINDOW};
+
+    /**
+     * Counters mapped by world, then by category (plant set type, soil or hoe).
+     * Each category holds one counter per {@link Metric}, indexed by ordinal.
+     */
+    private static final Map<String, Map<String, WindowedCounter[]>> COUNTERS = new ConcurrentHashMap<>();
+
+    /**
+     * The distribution of growth chances (as percentages) plants have had on a random tick.
+     */
+    private static final Histogram GROWTH_CHANCES = new Histogram(100, 10);
+
+    //Static class.
+    private ResynthMetrics(){}
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * Counts a single occurrence of the given metric.
+     *
+     * @param metric the metric to count.
+     * @param category the plant set type name, {@link #SOIL}, or {@link #HOE}.
+     * @param world the world the occurrence happened in.
+     */
+    public static void count(Metric metric, String category, World world) {
+        if(!ENABLED)
+            return;
+
+        getCounters(world, category)[metric.ordinal()].increment();
+    }
+
+    /**
+     * Counts a number of occurrences of the given metric.
+     *
+     * @param metric the metric to count.
+     * @param category the plant set type name, {@link #SOIL}, or {@link #HOE}.
+     * @param world the world the occurrences happened in.
+     * @param amount the number of occurrences.
+     */
+    public static void count(Metric metric, String category, World world, long amount) {
+        if(!ENABLED)
+            return;
+
+        getCounters(world, category)[metric.ordinal()].add(amount);
+    }
+
+    /**
+     * Records the chance of growth a plant had on a random tick.
+     *
+     * @param percentage the growth chance, as a percentage.
+     */
+    public static void recordGrowthChance(double percentage) {
+        if(!ENABLED)
+            return;
+
+        GROWTH_CHANCES.record(percentage);
+    }
+
+    /**
+     * Creates a human readable report of every metric counted so far,
+     * with its total and rate over each sliding window. Should only
+     * be called from the server thread.
+     *
+     * @return the lines of the report.
+     */
+    public static List<String> getReport() {
+        List<String> report = new ArrayList<>();
+
+        if(!ENABLED) {
+            report.add("Metrics are disabled. Enable them in the Resynth general config.");
+            return report;
+        }
+
+        report.add(String.format("Resynth metrics - totals and rates (per second) over %ss / %ss / %ss",
+                WINDOWS[0], WINDOWS[1], WINDOWS[2]));
+
+        new TreeMap<>(COUNTERS).forEach((world, categories) -> {
+            report.add("World: " + world);
+
+            new TreeMap<>(categories).forEach((category, counters) -> {
+                report.add("  " + category + ":");
+
+                for(Metric metric : Metric.values()) {
+                    WindowedCounter counter = counters[metric.ordinal()];
+                    if(counter.getTotal() == 0)
+                        continue;
+
+                    report.add(String.format("    %s: %d | %.2f / %.2f / %.2f",
+                            metric.getDisplayName(), counter.getTotal(), counter.getRate(WINDOWS[0]),
+                            counter.getRate(WINDOWS[1]), counter.getRate(WINDOWS[2])
+                    ));
+                }
+            });
+        });
+
+        long chances = GROWTH_CHANCES.getTotal();
+        if(chances != 0) {
+            report.add("Growth chance distribution:");
+
+            for(int i = 0; i < GROWTH_CHANCES.getBucketCount(); i++) {
+                long count = GROWTH_CHANCES.getCount(i);
+                report.add(String.format("  %3.0f%%+: %d (%.1f%%)",
+                        GROWTH_CHANCES.getBucketStart(i), count, (count * 100D) / chances));
+            }
+        }
+
+        return report;
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * @return the counters for the given world and category,
+     * creating them if needed.
+     */
+    private static WindowedCounter[] getCounters(World world, String category) {
+        return COUNTERS.computeIfAbsent(world.dimension().location().toString(), w -> new ConcurrentHashMap<>())
+                .computeIfAbsent(category, c -> {
+                    WindowedCounter[] counters = new WindowedCounter[Metric.values().length];
+                    for(int i = 0; i < counters.length; i++)
+                        counters[i] = new WindowedCounter();
+
+                    return counters;
+                });
+    }
+
+    /**
+     * Samples every counter. Called once a second.
+     */
+    private static void sample() {
+        for(Map<String, WindowedCounter[]> categories : COUNTERS.values())
+            for(WindowedCounter[] counters : categories.values())
+                for(WindowedCounter counter : counters)
+                    counter.sample();
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * The number of server ticks between samples.
+         */
+        private static final int SAMPLE_INTERVAL = 20;
+
+        /**
+         * Ticks since the last sample.
+         */
+        private static int ticks;
+
+        @SubscribeEvent
+        public static void onServerTick(TickEvent.ServerTickEvent event) {
+            if(!ENABLED || event.phase != TickEvent.Phase.END)
+                return;
+
+            if(++ticks >= SAMPLE_INTERVAL) {
+                ticks = 0;
+                sample();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A striped counter that can also report its rate of
+ * increase over a number of sliding time windows.
+ *
+ * <p/>Increments can come from any thread. The counter
+ * total is sampled once a second by {@link #sample()},
+ * which must only be called from a single thread (the
+ * server thread), as must {@link #getRate(int)}.
+ */
+class WindowedCounter {
+
+    /**
+     * The number of one second samples kept - the
+     * longest window a rate can be given for.
+     */
+    static final int MAX_WINDOW = 15 * 60;
+
+    /**
+     * The running total.
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Ring buffer of the total at each sample.
+     */
+    private final long[] samples = new long[MAX_WINDOW + 1];
+
+    /**
+     * The number of samples taken so far.
+     */
+    private long sampleCount;
+
+    /**
+     * Increments the counter by one.
+     */
+    void increment() {
+        total.increment();
+    }
+
+    /**
+     * Increments the counter by the given amount.
+     */
+    void add(long amount) {
+        total.add(amount);
+    }
+
+    /**
+     * @return the running total.
+     */
+    long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Records the current total as the newest sample.
+     */
+    void sample() {
+        samples[(int) (sampleCount++ % samples.length)] = total.sum();
+    }
+
+    /**
+     * @param window the window, in seconds, to get the rate over.
+     * @return the average increase per second over the given
+     * window, or over every sample taken if fewer samples have
+     * been taken than the window is long.
+     */
+    double getRate(int window) {
+        if(sampleCount < 2)
+            return 0;
+
+        int span = (int) Math.min(Math.min(window, MAX_WINDOW), sampleCount - 1);
+        long newest = samples[(int) ((sampleCount - 1) % samples.length)];
+        long oldest = samples[(int) ((sampleCount - 1 - span) % samples.length)];
+
+        return (double) (newest - oldest) / span;
+    }
+}
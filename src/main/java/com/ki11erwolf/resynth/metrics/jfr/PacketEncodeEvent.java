@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records a Resynth packet being written to a buffer.
+ */
+@Name("resynth.PacketEncode")
+@Label("Packet Encode")
+@Description("A Resynth packet being written. Detail is the packet type, count is the number of bytes.")
+final class PacketEncodeEvent extends ResynthEvent {
+
+    /**
+     * @return a new, begun, event.
+     */
+    static ResynthEvent start() {
+        PacketEncodeEvent event = new PacketEncodeEvent();
+        event.begin();
+        return event;
+    }
+}
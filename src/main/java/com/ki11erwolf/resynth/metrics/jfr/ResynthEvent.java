@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The base of every Resynth Flight Recorder event. Each event records
+ * how long a piece of Resynth's work took, along with the plant set and
+ * position the work was for (where there is one).
+ *
+ * <p/>Never reference this class, or any of its subclasses, directly
+ * from outside this package - the classes can't be loaded on Java
+ * runtimes without the Flight Recorder. Use {@link ResynthEvents}.
+ */
+@Category("Resynth")
+@Enabled(false)
+@StackTrace(false)
+public abstract class ResynthEvent extends Event {
+
+    /**
+     * The name of the plant set the work was for.
+     */
+    @Label("Set Name")
+    String setName;
+
+    /**
+     * The X coordinate of the position the work was for.
+     */
+    @Label("X")
+    int x;
+
+    /**
+     * The Y coordinate of the position the work was for.
+     */
+    @Label("Y")
+    int y;
+
+    /**
+     * The Z coordinate of the position the work was for.
+     */
+    @Label("Z")
+    int z;
+
+    /**
+     * What the work was, or its outcome. Depends on the event type.
+     */
+    @Label("Detail")
+    String detail;
+
+    /**
+     * How many things the work handled. Depends on the event type.
+     */
+    @Label("Count")
+    int count;
+
+    /**
+     * Ends the event and, if it's being recorded, commits it.
+     *
+     * @param setName the name of the plant set the work was for. May be {@code null}.
+     * @param pos the position the work was for. May be {@code null}.
+     * @param detail what the work was, or its outcome. May be {@code null}.
+     * @param count how many things the work handled.
+     */
+    public void finish(String setName, BlockPos pos, String detail, int count) {
+        end();
+
+        if(!shouldCommit())
+            return;
+
+        this.setName = setName;
+        this.detail = detail;
+        this.count = count;
+
+        if(pos != null) {
+            this.x = pos.getX();
+            this.y = pos.getY();
+            this.z = pos.getZ();
+        }
+
+        commit();
+    }
+}
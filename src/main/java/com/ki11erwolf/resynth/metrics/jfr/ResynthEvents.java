@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import net.minecraft.util.math.BlockPos;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates Resynth's JDK Flight Recorder events, which make Resynth's work
+ * show up separately from the rest of the game in Flight Recorder
+ * recordings (e.g. in JDK Mission Control when profiling lag).
+ *
+ * <p/>Events are timed around a piece of work:
+ *
+ * <pre>
+ * ResynthEvent event = ResynthEvents.beginPlantGrowth();
+ * ...
+ * ResynthEvents.end(event, setName, pos);
+ * </pre>
+ *
+ * <p/>Every event type is disabled by default, and has to be enabled in
+ * the recording settings (e.g. a custom {@code .jfc} file, or the event
+ * browser in Mission Control) - they're all under the "Resynth" category.
+ * While no recording is running, no event objects are created at all,
+ * and on Java runtimes without the Flight Recorder the event classes
+ * are never loaded.
+ */
+public final class ResynthEvents {
+
+    /**
+     * {@code true} if the Java runtime has a Flight Recorder.
+     */
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    /**
+     * {@code true} while a Flight Recorder recording is running.
+     * Kept up to date by a {@link RecordingListener}.
+     */
+    private static volatile boolean recording = false;
+
+    static {
+        if(AVAILABLE)
+            RecordingListener.register();
+    }
+
+    /**Private constructor.*/
+    private ResynthEvents(){}
+
+    // *****
+    // Begin
+    // *****
+
+    /**
+     * @return a new event for a plant deciding whether it
+     * grows, or {@code null} if nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginPlantGrowth() {
+        return isRecording() ? PlantGrowthEvent.start() : null;
+    }
+
+    /**
+     * @return a new event for a plant having its produce pulled
+     * out by automation, or {@code null} if nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginAutoHarvest() {
+        return isRecording() ? AutoHarvestEvent.start() : null;
+    }
+
+    /**
+     * @return a new event for seeds being dropped, or a batch
+     * of blocks being checked for seeds, or {@code null} if
+     * nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginSeedHook() {
+        return isRecording() ? SeedHookEvent.start() : null;
+    }
+
+    /**
+     * @return a new event for a packet being written,
+     * or {@code null} if nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginPacketEncode() {
+        return isRecording() ? PacketEncodeEvent.start() : null;
+    }
+
+    /**
+     * @return a new event for a packet being sent,
+     * or {@code null} if nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginPacketSend() {
+        return isRecording() ? PacketSendEvent.start() : null;
+    }
+
+    /**
+     * @return a new event for a config file or category being
+     * loaded, or {@code null} if nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginConfigLoad() {
+        return isRecording() ? ConfigLoadEvent.start() : null;
+    }
+
+    /**
+     * @return a new event for a config file being saved,
+     * or {@code null} if nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginConfigSave() {
+        return isRecording() ? ConfigSaveEvent.start() : null;
+    }
+
+    /**
+     * @return a new event for recipes being injected,
+     * or {@code null} if nothing is being recorded.
+     */
+    @Nullable
+    public static ResynthEvent beginRecipeInjection() {
+        return isRecording() ? RecipeInjectionEvent.start() : null;
+    }
+
+    // ***
+    // End
+    // ***
+
+    /**
+     * Ends the given event and commits it, if its event
+     * type is enabled in the running recording.
+     *
+     * @param event the event to end. Does nothing if {@code null}.
+     * @param setName the name of the plant set the work was for. May be {@code null}.
+     * @param pos the position the work was for. May be {@code null}.
+     */
+    public static void end(@Nullable ResynthEvent event, @Nullable String setName, @Nullable BlockPos pos) {
+        end(event, setName, pos, null, 0);
+    }
+
+    /**
+     * Ends the given event and commits it, if its event
+     * type is enabled in the running recording.
+     *
+     * @param event the event to end. Does nothing if {@code null}.
+     * @param setName the name of the plant set the work was for. May be {@code null}.
+     * @param pos the position the work was for. May be {@code null}.
+     * @param detail what the work was, or its outcome. May be {@code null}.
+     * @param count how many things the work handled.
+     */
+    public static void end(@Nullable ResynthEvent event, @Nullable String setName, @Nullable BlockPos pos,
+                           @Nullable String detail, int count) {
+        if(event != null)
+            event.finish(setName, pos, detail, count);
+    }
+
+    // ****
+    // Util
+    // ****
+
+    /**
+     * @return {@code true} if the Java runtime has a Flight Recorder,
+     * and a {@link ResynthProfile} can be recorded.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @return {@code true} if a Flight Recorder recording
+     * is running, and events can be recorded.
+     */
+    private static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * @return {@code true} if the Java runtime has a Flight Recorder.
+     */
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            return FlightRecorder.isAvailable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    // ********
+    // Listener
+    // ********
+
+    /**
+     * Tracks whether any recording is running. The Flight Recorder stays
+     * initialized once a recording has been started, even after it stops,
+     * so whether it's initialized says nothing about events being recorded.
+     *
+     * <p/>Only loaded on Java runtimes with the Flight Recorder.
+     */
+    private static final class RecordingListener implements FlightRecorderListener {
+
+        /**
+         * Starts tracking recordings. If the Flight Recorder is already
+         * initialized (e.g. started from the command line), the
+         * recordings already running are picked up straight away.
+         */
+        private static void register() {
+            FlightRecorder.addListener(new RecordingListener());
+        }
+
+        @Override
+        public void recorderInitialized(FlightRecorder recorder) {
+            update(recorder);
+        }
+
+        @Override
+        public void recordingStateChanged(Recording changed) {
+            update(FlightRecorder.getFlightRecorder());
+        }
+
+        /**
+         * Sets {@link #recording} from the state of every recording.
+         */
+        private static void update(FlightRecorder recorder) {
+            boolean running = false;
+
+            for(Recording existing : recorder.getRecordings())
+                if(existing.getState() == RecordingState.RUNNING) {
+                    running = true;
+                    break;
+                }
+
+            recording = running;
+        }
+    }
+}
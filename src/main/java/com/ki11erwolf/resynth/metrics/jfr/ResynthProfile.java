@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics.jfr;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-process Flight Recorder recording of every Resynth event, used
+ * to break the time spent in Resynth down by code path - e.g. by the
+ * farm benchmark. A code path is an event type along with its detail,
+ * such as "Plant Growth (random tick)".
+ *
+ * <p/>Only use when {@link ResynthEvents#isAvailable()}, as this class
+ * can't be loaded on Java runtimes without the Flight Recorder.
+ */
+public final class ResynthProfile {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * Every Resynth event type.
+     */
+    private static final List<Class<? extends ResynthEvent>> EVENTS = Arrays.asList(
+            PlantGrowthEvent.class, AutoHarvestEvent.class, SeedHookEvent.class, PacketEncodeEvent.class,
+            PacketSendEvent.class, ConfigLoadEvent.class, ConfigSaveEvent.class, RecipeInjectionEvent.class
+    );
+
+    private final Recording recording;
+
+    private ResynthProfile(Recording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Starts recording every Resynth event, no matter how short.
+     *
+     * @return the started profile.
+     */
+    public static ResynthProfile start() {
+        Recording recording = new Recording();
+        recording.setName("Resynth Profile");
+
+        for(Class<? extends ResynthEvent> event : EVENTS)
+            recording.enable(event).withoutThreshold();
+
+        recording.start();
+        return new ResynthProfile(recording);
+    }
+
+    /**
+     * Stops recording and works out the time spent in each code path.
+     *
+     * @return every code path taken while recording, the
+     * one that took the most time first. Empty if the
+     * recording couldn't be read.
+     */
+    public List<CodePath> stop() {
+        Map<String, CodePath> paths = new HashMap<>();
+        Path file = null;
+
+        try {
+            recording.stop();
+            file = Files.createTempFile("resynth-profile", ".jfr");
+            Files.delete(file); //Dumping needs a path that doesn't exist yet
+            recording.dump(file);
+
+            try(RecordingFile events = new RecordingFile(file)) {
+                while(events.hasMoreEvents()) {
+                    RecordedEvent event = events.readEvent();
+                    String detail = event.getString("detail");
+                    String name = event.getEventType().getLabel() + (detail == null ? "" : " (" + detail + ")");
+
+                    CodePath path = paths.computeIfAbsent(name, CodePath::new);
+                    path.count++;
+                    path.nanos += event.getDuration().toNanos();
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to read the Resynth profile recording", e);
+            paths.clear();
+        } finally {
+            recording.close();
+
+            try {
+                if(file != null)
+                    Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete the Resynth profile recording: " + file, e);
+            }
+        }
+
+        List<CodePath> sorted = new ArrayList<>(paths.values());
+        sorted.sort(Comparator.comparingLong(CodePath::getNanos).reversed());
+        return sorted;
+    }
+
+    /**
+     * Closes the profile without reading it.
+     */
+    public void discard() {
+        recording.close();
+    }
+
+    /**
+     * The time spent in, and number of times through, a single code path.
+     */
+    public static final class CodePath {
+
+        private final String name;
+
+        private long count;
+
+        private long nanos;
+
+        private CodePath(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the event type label, and detail, of the code path.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the number of times the code path was taken.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the total time spent in the code path, in nanoseconds.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
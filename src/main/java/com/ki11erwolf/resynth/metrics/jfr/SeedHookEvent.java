@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records seeds being dropped from a seed source (e.g. an
+ * ore block), or a whole explosion being checked for seeds.
+ */
+@Name("resynth.SeedHook")
+@Label("Seed Hook")
+@Description("Seeds being dropped from a seed source, or a batch of blocks being checked for seeds. Detail is the seed source, count is the number of blocks.")
+final class SeedHookEvent extends ResynthEvent {
+
+    /**
+     * @return a new, begun, event.
+     */
+    static ResynthEvent start() {
+        SeedHookEvent event = new SeedHookEvent();
+        event.begin();
+        return event;
+    }
+}
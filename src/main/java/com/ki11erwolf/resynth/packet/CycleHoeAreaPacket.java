@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.item.ItemMineralHoe;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sent by the client when the player shift-scrolls with a
+ * Mineral Hoe in hand, asking the server to change the
+ * size of the area the held hoe tills.
+ */
+public class CycleHoeAreaPacket extends Packet<CycleHoeAreaPacket> {
+
+    /**
+     * {@code true} to grow the area, {@code false} to shrink it.
+     */
+    private final boolean grow;
+
+    /**
+     * @param grow {@code true} to grow the area,
+     *             {@code false} to shrink it.
+     */
+    public CycleHoeAreaPacket(boolean grow) {
+        this.grow = grow;
+    }
+
+    @Override
+    BiConsumer<CycleHoeAreaPacket, PacketBuffer> getEncoder() {
+        return (packet, buffer) -> buffer.writeBoolean(packet.grow);
+    }
+
+    @Override
+    Function<PacketBuffer, CycleHoeAreaPacket> getDecoder() {
+        return buffer -> new CycleHoeAreaPacket(buffer.readBoolean());
+    }
+
+    @Override
+    BiConsumer<CycleHoeAreaPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, supplier) -> Packet.handle(supplier, () -> {
+            ServerPlayerEntity player = supplier.get().getSender();
+
+            if(player != null)
+                ItemMineralHoe.cycleArea(player, packet.grow);
+        });
+    }
+}
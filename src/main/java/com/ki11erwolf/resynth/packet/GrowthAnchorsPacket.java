@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.plant.growth.GrowthPrediction;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sent by the server to tell clients when the growth stage of
+ * plants is known, and the schedule they grow on after - so the
+ * client can advance the plants itself (see {@link GrowthPrediction}).
+ */
+public class GrowthAnchorsPacket extends Packet<GrowthAnchorsPacket> {
+
+    /**
+     * The anchors of the plants.
+     */
+    private final List<GrowthPrediction.Anchor> anchors;
+
+    /**
+     * @param anchors the anchors of the plants.
+     */
+    public GrowthAnchorsPacket(List<GrowthPrediction.Anchor> anchors) {
+        this.anchors = anchors;
+    }
+
+    @Override
+    BiConsumer<GrowthAnchorsPacket, PacketBuffer> getEncoder() {
+        return (packet, buffer) -> {
+            buffer.writeVarInt(packet.anchors.size());
+
+            for(GrowthPrediction.Anchor anchor : packet.anchors) {
+                buffer.writeLong(anchor.getPos());
+                buffer.writeVarLong(anchor.getTime());
+                buffer.writeVarInt(anchor.getInterval());
+                buffer.writeFloat(anchor.getChance());
+            }
+        };
+    }
+
+    @Override
+    Function<PacketBuffer, GrowthAnchorsPacket> getDecoder() {
+        return buffer -> {
+            int size = buffer.readVarInt();
+            List<GrowthPrediction.Anchor> anchors = new ArrayList<>(size);
+
+            for(int i = 0; i < size; i++)
+                anchors.add(new GrowthPrediction.Anchor(
+                        buffer.readLong(), buffer.readVarLong(), buffer.readVarInt(), buffer.readFloat()
+                ));
+
+            return new GrowthAnchorsPacket(anchors);
+        };
+    }
+
+    @Override
+    BiConsumer<GrowthAnchorsPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, supplier) -> Packet.handle(supplier, () -> GrowthPrediction.receive(packet.anchors));
+    }
+}
@@ -16,6 +16,8 @@
 package com.ki11erwolf.resynth.packet;
 
 import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvent;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
 import com.ki11erwolf.resynth.plant.set.properties.MetallicProperties;
 import com.ki11erwolf.resynth.plant.set.properties.ProduceProperties;
 import net.minecraft.network.PacketBuffer;
@@ -27,6 +29,7 @@ import net.minecraftforge.fml.network.NetworkRegistry;
 import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -135,9 +138,9 @@ public abstract class Packet<S extends Packet<S>> {
     private static class PacketManager{
 
         /**
-         * Communication protocol version. Value = 1.
+         * Communication protocol version. Value = 2.
          */
-        private final String protocolVersion = Integer.toString(1);
+        private final String protocolVersion = Integer.toString(2);
 
         /**
          * Forge handler provided to register packets.
@@ -169,16 +172,37 @@ public abstract class Packet<S extends Packet<S>> {
          */
         @SuppressWarnings("unchecked")
         void register(@SuppressWarnings("rawtypes") Packet packet){
-            handler.registerMessage(lastID++, packet.getClass(), packet.getEncoder(), packet.getDecoder(), packet.getHandler());
+            handler.registerMessage(lastID++, packet.getClass(), recordedEncoder(packet), packet.getDecoder(), packet.getHandler());
         }
 
         @SuppressWarnings({"unchecked", "OptionalUsedAsFieldOrParameterType"})
         void register(@SuppressWarnings("rawtypes") Packet packet, final Optional<NetworkDirection> direction){
             handler.registerMessage(
-                    lastID++, packet.getClass(), packet.getEncoder(),
+                    lastID++, packet.getClass(), recordedEncoder(packet),
                     packet.getDecoder(), packet.getHandler(), direction
             );
         }
+
+        /**
+         * Wraps the given packets encoder so that each packet
+         * it writes is recorded as a profiling event, along
+         * with the number of bytes written.
+         *
+         * @param packet the given packet object instance.
+         * @return the wrapped encoder.
+         */
+        private static <S extends Packet<S>> BiConsumer<S, PacketBuffer> recordedEncoder(Packet<S> packet){
+            final BiConsumer<S, PacketBuffer> encoder = packet.getEncoder();
+            final String name = packet.getClass().getSimpleName();
+
+            return (message, buffer) -> {
+                ResynthEvent event = ResynthEvents.beginPacketEncode();
+                int start = buffer.writerIndex();
+                encoder.accept(message, buffer);
+
+                ResynthEvents.end(event, null, null, name, buffer.writerIndex() - start);
+            };
+        }
     }
 
     /**
@@ -199,7 +223,11 @@ public abstract class Packet<S extends Packet<S>> {
      * @param <M> the packet type class.
      */
     public static <M> void send(PacketDistributor.PacketTarget target, M packet) {
+        ResynthEvent event = ResynthEvents.beginPacketSend();
         MANAGER.handler.send(target, packet);
+
+        if(event != null)
+            ResynthEvents.end(event, null, null, packet.getClass().getSimpleName(), 1);
     }
 
     /**
@@ -230,5 +258,11 @@ public abstract class Packet<S extends Packet<S>> {
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
 
+        MANAGER.register(new CycleHoeAreaPacket(false), Optional.of(NetworkDirection.PLAY_TO_SERVER));
+
+        MANAGER.register(
+                new GrowthAnchorsPacket(Collections.emptyList()),
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
     }
 }
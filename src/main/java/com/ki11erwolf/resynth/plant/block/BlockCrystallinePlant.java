@@ -15,6 +15,7 @@
  */
 package com.ki11erwolf.resynth.plant.block;
 
+import com.ki11erwolf.resynth.plant.growth.PlantGrowth;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractCrystallineProperties;
 import com.ki11erwolf.resynth.plant.set.PlantSet;
 import net.minecraft.block.Block;
@@ -140,11 +141,6 @@ public abstract class BlockCrystallinePlant extends BlockPlant<BlockCrystallineP
      */
     @Override
     void onGrowPlantBlock(World world, BlockState state, BlockPos pos, int increase) {
-        int growth = increase + getGrowthStage(state);
-
-        if(growth > getMaxGrowthStage())
-            growth = getMaxGrowthStage();
-
-        setGrowthStage(world, pos, growth);
+        setGrowthStage(world, pos, PlantGrowth.grow(getGrowthStage(state), increase, getMaxGrowthStage()));
     }
 }
@@ -15,6 +15,10 @@
  */
 package com.ki11erwolf.resynth.plant.block;
 
+import com.ki11erwolf.resynth.block.BlockMineralSoil;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import com.ki11erwolf.resynth.plant.set.PlantSet;
 import com.ki11erwolf.resynth.util.MathUtil;
 import net.minecraft.block.Block;
@@ -24,6 +28,7 @@ import net.minecraft.block.HorizontalBlock;
 import net.minecraft.state.DirectionProperty;
 import net.minecraft.state.IntegerProperty;
 import net.minecraft.state.StateContainer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.shapes.VoxelShape;
@@ -189,27 +194,57 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
         return null;
     }
 
+    /**
+     * Puts the plants produce straight into the buffer of the
+     * mineral soil below, and resets the plant as though its
+     * produce was harvested.
+     *
+     * @return {@code false} if there is no soil below, or its
+     * buffer is too full to take the produce.
+     */
+    private boolean bufferProduce(World world, BlockPos pos){
+        TileEntity soil = world.getBlockEntity(pos.below());
+        if(!(soil instanceof TileEntityMineralSoil) || !((TileEntityMineralSoil) soil).bufferProduce(getProduce()))
+            return false;
+
+        setGrowthStage(world, pos, getPostHarvestGrowthStage());
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a hopper pulls produce out of the soil
+     * below the plant, and hopper auto farming is enabled.
+     */
+    private boolean isProduceExtracted(World world, BlockPos pos){
+        return ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).isHopperAutoFarmingEnabled()
+                && BlockMineralSoil.hasHopperBelow(world, pos.below());
+    }
+
     /**
      * {@inheritDoc}
      * <p/>
      * Handles growing the plant growth property and placing
-     * its produce when it's already fully grown.
+     * its produce when it's already fully grown. Produce that
+     * a hopper below would pull out anyway, or that can't be
+     * placed on any side, is buffered in the soil instead.
      */
     @Override
     void onGrowPlantBlock(World world, BlockState state, BlockPos pos, int increase) {
         int growth = increase + getGrowthStage(state);
 
         if(growth >= getMaxGrowthStage()){
-            //Plance Produce
-            if(attemptAutoHarvest(growth, world, pos)){
-                setGrowthStage(world, pos, getPostHarvestGrowthStage());
+            if(isProduceExtracted(world, pos) && bufferProduce(world, pos))
                 return;
-            }
 
+            //Place Produce
             growth = getMaxGrowthStage();
             Direction facing = placeProduce(world, pos);
 
-            if(facing == null) return;
+            if(facing == null) {
+                //No room on any side, e.g. in packed farms
+                bufferProduce(world, pos);
+                return;
+            }
 
             world.setBlock(pos, this.defaultBlockState().setValue(this.getGrowthProperty(), growth)
                     .setValue(HorizontalBlock.FACING, facing), 2);
@@ -218,6 +253,34 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
         }
     }
 
+    // ******************
+    // Produce Extraction
+    // ******************
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} if the produce block this plant
+     * placed is still next to it.
+     */
+    @Override
+    boolean hasProduce(World world, BlockState state, BlockPos pos) {
+        BlockPos producePos = pos.relative(state.getValue(HorizontalBlock.FACING));
+        return world.getBlockState(producePos).getBlock() == Block.byItem(getProduce().getItem());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Also removes the placed produce block, which is
+     * what the extracted produce stands in for.
+     */
+    @Override
+    void onExtractionHarvest(World world, BlockState state, BlockPos pos) {
+        super.onExtractionHarvest(world, state, pos);
+        world.removeBlock(pos.relative(state.getValue(HorizontalBlock.FACING)), false);
+    }
+
     // *****
     // Other
     // *****
@@ -63,7 +63,7 @@ public class BlockOrganicOre extends ResynthBlock<BlockOrganicOre> {
      */
     @Override
     public void appendHoverText(ItemStack stack, IBlockReader world, List<ITextComponent> tooltip, ITooltipFlag flag){
-        BlockPlant.addPlantItemBlockTooltips(tooltip, PREFIX, parentSet);
+        BlockPlant.addPlantItemBlockTooltips(tooltip, this, PREFIX, parentSet);
     }
 
     /**
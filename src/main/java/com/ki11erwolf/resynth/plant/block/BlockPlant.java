@@ -18,16 +18,25 @@ package com.ki11erwolf.resynth.plant.block;
 import com.ki11erwolf.resynth.block.BlockEnhancer;
 import com.ki11erwolf.resynth.block.ResynthBlock;
 import com.ki11erwolf.resynth.block.ResynthBlocks;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityGreenhouseController;
 import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import com.ki11erwolf.resynth.item.ItemMineralHoe;
+import com.ki11erwolf.resynth.metrics.Metric;
+import com.ki11erwolf.resynth.metrics.ResynthMetrics;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvent;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
+import com.ki11erwolf.resynth.plant.growth.FarmBenchmark;
+import com.ki11erwolf.resynth.plant.growth.GrowthPrediction;
+import com.ki11erwolf.resynth.plant.growth.PlantGrowth;
 import com.ki11erwolf.resynth.plant.item.ItemSeeds;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractPlantSetProperties;
 import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.util.DropBuffer;
 import com.ki11erwolf.resynth.util.EffectsUtil;
 import com.ki11erwolf.resynth.util.MathUtil;
-import com.ki11erwolf.resynth.util.MinecraftUtil;
+import com.ki11erwolf.resynth.world.ResynthIndex;
 import mcjty.theoneprobe.api.IProbeHitData;
 import mcjty.theoneprobe.api.IProbeInfo;
 import mcjty.theoneprobe.api.IProbeInfoAccessor;
@@ -42,11 +51,9 @@ import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
 import net.minecraft.particles.ParticleTypes;
 import net.minecraft.state.IntegerProperty;
 import net.minecraft.state.StateContainer;
-import net.minecraft.tileentity.HopperTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
@@ -101,6 +108,19 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      */
     final AbstractPlantSetProperties properties;
 
+    /**
+     * The name of the type of plant set this plant belongs
+     * to (e.g. crystalline). Used to categorize metrics.
+     */
+    private final String setTypeName;
+
+    /**
+     * The name of the plant set this plant belongs to (e.g.
+     * diamond). Used to label profiling events and to index
+     * the plant in the {@link ResynthIndex}.
+     */
+    private final String setName;
+
     BlockPlant(PlantSet<?, ?> parentSet) {
         super(
                 Properties.of(Material.PLANT).sound(SoundType.CROP).randomTicks()
@@ -109,6 +129,8 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         );
 
         this.properties = parentSet.getPlantSetProperties();
+        this.setTypeName = parentSet.getSetTypeName();
+        this.setName = parentSet.getSetName();
         super.registerDefaultState(this.stateDefinition.any().setValue(this.getGrowthProperty(), 0));
     }
 
@@ -162,6 +184,45 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
                 super.updateShape(state, facing, facingState, worldIn, currentPos, facingPos) : Blocks.AIR.defaultBlockState();
     }
 
+    /**
+     * Adds the plant to the {@link ResynthIndex} when placed, and
+     * keeps its {@link GrowthPrediction} anchor up to date as
+     * its stage changes.
+     */
+    @Override
+    @ParametersAreNonnullByDefault
+    @SuppressWarnings("deprecation")
+    public void onPlace(BlockState state, World world, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, world, pos, oldState, isMoving);
+
+        if(state.getBlock() != oldState.getBlock())
+            ResynthIndex.add(world, pos, setName);
+
+        if(world.isClientSide || !GrowthPrediction.isEnabled())
+            return;
+
+        if(state.getBlock() != oldState.getBlock())
+            GrowthPrediction.anchor(world, pos, getPredictedChanceOfGrowth(world, pos));
+        else GrowthPrediction.onStageChanged(world, pos, getGrowthStage(oldState), getGrowthStage(state),
+                getMaxGrowthStage() - 1, getPredictedChanceOfGrowth(world, pos));
+    }
+
+    /**
+     * Removes the plant from the {@link ResynthIndex}, and
+     * its {@link GrowthPrediction} anchor, when removed.
+     */
+    @Override
+    @ParametersAreNonnullByDefault
+    @SuppressWarnings("deprecation")
+    public void onRemove(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
+        if(state.getBlock() != newState.getBlock()) {
+            ResynthIndex.remove(world, pos, setName);
+            GrowthPrediction.remove(world, pos);
+        }
+
+        super.onRemove(state, world, pos, newState, isMoving);
+    }
+
     // *************
     // Look and Feel
     // *************
@@ -245,138 +306,63 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         EffectsUtil.displayStandardEffectsWithChance(worldIn, pos, 1, 5, ParticleTypes.SMOKE);
     }
 
-    // *******************
-    // Hopper Auto Farming
-    // *******************
+    // ******************
+    // Produce Extraction
+    // ******************
 
     /**
-     * Auto-Farming check and attempt for all plants.
-     * <b>Should be called in every plant types {@link
-     * #onGrowPlantBlock(World, BlockState, BlockPos, int)}
-     * method, AFTER the growth has been calculated.</b>
+     * Harvests the fully grown plant for automation pulling
+     * produce out of the soil below it (see {@link
+     * TileEntityMineralSoil}), resetting the plant's growth.
      *
-     * <p/><b>If - and only if the plant is fully grown and
-     * config allows,</b> will this method check for any
-     * hoppers below the plants soil block (1 and then 2
-     * blocks below), and if one is found, will try and
-     * dump the produce into the hopper tile entity.
+     * <p/>Fully grown plants keep their produce until harvested,
+     * so nothing happens until something actually pulls.
      *
-     * @param growth the final growth stage of the plant.
      * @param world the world the plant is in.
      * @param pos the position of the plant in the world.
-     * @return {@code true} if hopper auto-farming is enabled,
-     * the plant is fully grown, and the plants produce was
-     * dumped into a hopper below the plant.
-     *
-     * <p/>Will only return {@code true} if the produce was
-     * successfully placed in a hopper below the plant. If the
-     * produce could NOT be placed in a hopper below
-     * the plant, this will return {@code false}.
-     *
-     * <p/><b>The plants growth should be reset if this
-     * returns {@code true}!</b>
-     */
-    protected boolean attemptAutoHarvest(int growth, World world, BlockPos pos) {
-        //IF enabled
-        if(ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).isHopperAutoFarmingEnabled()) {
-            //AND       Plant is fully grown     AND      Produce was hoppered.
-            if (growth >= getMaxGrowthStage() && tryHopperProduce(world, pos)) {
-                //Success - with particles!
-                com.ki11erwolf.resynth.util.EffectsUtil.displayStandardEffectsOnClient(
-                        pos, 3, ParticleTypes.POOF
-                );
-                return true;
-            }
-        }
+     * @param simulate {@code true} to only check what
+     *                 would be harvested.
+     * @return the harvested produce, or an empty stack if the
+     * plant isn't fully grown or auto-farming is disabled.
+     */
+    public ItemStack harvestForExtraction(World world, BlockPos pos, boolean simulate) {
+        if(!ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).isHopperAutoFarmingEnabled())
+            return ItemStack.EMPTY;
 
-        return false;
-    }
+        catchUpPredictedGrowth(world, pos);
 
-    /**
-     * Looks for a hopper tile entity 2 and then 3 blocks below
-     * the given plants block position. The FIRST hopper found
-     * will be returned.
-     *
-     * @param world the world the plant block is in.
-     * @param pos the position of the plant in the world.
-     * @return the FIRST {@link HopperTileEntity} found either
-     * 2 or 3 blocks below the plant, or {@code null} if no
-     * hoppers were found.
-     */
-    private HopperTileEntity getHopper(World world, BlockPos pos){
-        BlockPos posA = pos.below(2), posB = posA.below(1);
+        BlockState state = world.getBlockState(pos);
+        if(state.getBlock() != this || !isFullyGrown(state) || !hasProduce(world, state, pos))
+            return ItemStack.EMPTY;
 
-        TileEntity a;
-        if((a = world.getBlockEntity(posA)) instanceof HopperTileEntity)
-                return (HopperTileEntity) a;
+        if(simulate)
+            return getProduce();
 
-        if((a = world.getBlockEntity(posB)) instanceof HopperTileEntity)
-            return (HopperTileEntity) a;
+        ResynthEvent event = ResynthEvents.beginAutoHarvest();
+        ItemStack produce = getProduce();
+        onExtractionHarvest(world, state, pos);
+        ResynthMetrics.count(Metric.AUTO_HARVESTS, setTypeName, world);
 
-        return null;
+        if(event != null)
+            ResynthEvents.end(event, setName, pos, "extracted", produce.getCount());
+        return produce;
     }
 
     /**
-     * A simple check to see if the plant has any hoppers
-     * below it.
-     *
-     * @param world the world the plant is in.
-     * @param pos the coords of the plant in the world.
-     * @return {@code true} if a hopper was found 2 or 3
-     * blocks beneath the plant. Returns {@code false} if
-     * no hoppers were found.
+     * @return {@code true} if the fully grown
+     * plant has produce to be harvested.
      */
-    private boolean hasHopper(World world, BlockPos pos) {
-        return getHopper(world, pos) != null;
+    boolean hasProduce(World world, BlockState state, BlockPos pos) {
+        return true;
     }
 
     /**
-     * Will try and dump this plant types produce into any hoppers
-     * (found with {@link #getHopper(World, BlockPos)}) below the
-     * plant.
-     *
-     * @param world the world the plant is in.
-     * @param pos the position of the plant in the world.
-     * @return {@code true} if and only if, both a hopper
-     * was found below the plant and the plants produce
-     * was successfully placed within the found hopper, {@code
-     * false} otherwise, such as if the hopper if full.
+     * Resets the plant once its produce is harvested
+     * through {@link #harvestForExtraction(World, BlockPos, boolean)}.
      */
-    private boolean tryHopperProduce(World world, BlockPos pos){
-        HopperTileEntity hopper = getHopper(world, pos);
-        ItemStack produce = getProduce();
-
-        //No hopper
-        if(hopper == null) return false;
-
-        //For each hopper slot
-        for(int i = 0; i <= 4; i++){
-            ItemStack occupied = hopper.getItem(i);
-
-            //Combined deposit if produce already in hopper
-            if(occupied.getItem() == produce.getItem()){
-                int newCount = produce.getCount() + occupied.getCount();
-
-                //Check for stack count above 64
-                if(! (newCount > 64)){
-                    ItemStack combinedProduce = new ItemStack(
-                            produce.getItem(), newCount
-                    );
-                    hopper.setItem(i, combinedProduce);
-                    return true;
-                }
-            }
-
-            //Deposit if slot is empty
-            if(occupied == ItemStack.EMPTY || occupied.getItem() == Items.AIR
-                    || occupied.getCount() == 0){
-                hopper.setItem(i, produce);
-                return true;
-            }
-        }
-
-        //Could not deposit
-        return false;
+    void onExtractionHarvest(World world, BlockState state, BlockPos pos) {
+        setGrowthStage(world, pos, getPostHarvestGrowthStage());
+        EffectsUtil.displayStandardEffectsOnClient(pos, 3, ParticleTypes.POOF);
     }
 
     // *************************
@@ -423,6 +409,8 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         if(getPostHarvestGrowthStage() == -1 || getHarvestProduceQuantity() == -1
                 || getSoundEventOfHarvest() == null) return false;//Not harvestable!
 
+        catchUpPredictedGrowth(world, pos);
+
         int growth = world.getBlockState(pos).getValue(getGrowthProperty());
         int postHarvestGrowth = getPostHarvestGrowthStage();
 
@@ -430,7 +418,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         if(growth >= ((BlockPlant)world.getBlockState(pos).getBlock()).getMaxGrowthStage()){
             if(setGrowthStage(world, pos, postHarvestGrowth)){
                 if(!world.isClientSide) {
-                    MinecraftUtil.spawnItemStackInWorld(
+                    DropBuffer.drop(
                             new ItemStack(
                                     getProduce().getItem(),
                                     getHarvestProduceQuantity()
@@ -493,7 +481,11 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      * for a random update tick.
      *
      * <p/>When called, it will call {@link #growPlantWithProbability(BlockState, IWorld, BlockPos)},
-     * which is how the plant determines its own growth and ultimately grows.
+     * which is how the plant determines its own growth and ultimately grows - unless the
+     * plant is {@link TileEntityGreenhouseController#isControlled(World, BlockPos) controlled}
+     * by a Greenhouse Controller, which grows it instead, or part of a running {@link
+     * FarmBenchmark}, which ticks it itself. When {@link GrowthPrediction predicted growth}
+     * is enabled, the plant is caught up to its growth schedule instead.
      *
      * @param world the world the plant is in.
      * @param state the block state as it is in the world.
@@ -502,7 +494,34 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     @Override @SuppressWarnings("deprecation")
     @ParametersAreNonnullByDefault
     public void randomTick(BlockState state, ServerWorld world, BlockPos pos, Random random) {
-        growPlantWithProbability(state, world, pos);
+        if(TileEntityGreenhouseController.isControlled(world, pos) || FarmBenchmark.isFrozen(world, pos))
+            return;
+
+        if(GrowthPrediction.isEnabled())
+            growPlantFromPrediction(world, pos);
+        else growPlantWithProbability(state, world, pos);
+    }
+
+    /**
+     * Grows the plant as though it succeeded in growing
+     * on a random tick. Used by Greenhouse Controllers, which
+     * decide when the plants they control grow.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return {@code false} if the block at the given position
+     * is no longer this plant.
+     */
+    public boolean growFromController(World world, BlockPos pos) {
+        BlockState state = world.getBlockState(pos);
+        if(state.getBlock() != this)
+            return false;
+
+        ResynthEvent event = ResynthEvents.beginPlantGrowth();
+        handlePlantGrowth(world, state, pos, 1);
+
+        ResynthEvents.end(event, setName, pos, "greenhouse controller", 1);
+        return true;
     }
 
     /**
@@ -533,7 +552,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      * @return a random int in the range of 1 to 3 (inclusive).
      */
     private int getGrowthFromBonemeal(Random random){
-        return MathUtil.getRandomIntegerInRange(random, 1, 3);
+        return PlantGrowth.bonemealGrowth(random);
     }
 
     /**
@@ -609,6 +628,15 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         return state.getValue(getGrowthProperty());
     }
 
+    /**
+     * @param state the given plant block.
+     * @param growthStage the growth stage.
+     * @return the given plant block at the given growth stage.
+     */
+    public BlockState getStateAtGrowthStage(BlockState state, int growthStage) {
+        return state.setValue(getGrowthProperty(), growthStage);
+    }
+
     /**
      * Used to set the growth stage of a specific plant in the world.
      *
@@ -711,10 +739,16 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     // ********************
 
     private void growPlantFromProbability(World world, BlockState state, BlockPos pos) {
-        MathUtil.Probability.newPercentageProbability(calculateChanceOfGrowth(world, state, pos)).randomResult().ifTrue((b) -> {
+        ResynthEvent event = ResynthEvents.beginPlantGrowth();
+        double chance = calculateChanceOfGrowth(world, state, pos);
+        ResynthMetrics.count(Metric.RANDOM_TICKS, setTypeName, world);
+        ResynthMetrics.recordGrowthChance(chance);
+
+        boolean grown = PlantGrowth.rollGrowth(chance, MathUtil.getRandom());
+        if(grown)
             handlePlantGrowth(world, state, pos, 1);
-            return null;
-        });
+
+        ResynthEvents.end(event, setName, pos, "random tick", grown ? 1 : 0);
     }
 
     /**
@@ -741,60 +775,144 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     }
 
     private void handlePlantGrowth(World world, BlockState state, BlockPos pos, int increase) {
-        int growth = getGrowthStage(state);
+        //Fully grown plants keep their produce until harvested
+        if(isFullyGrown(state) || !isGrowthPossible(world, pos))
+            return;
 
-        //If fully grown, skip growth and try auto harvest.
-        if(isFullyGrown(state)){
-            if(attemptAutoHarvest(growth, world, pos)) {
-                setGrowthStage(world, pos, getPostHarvestGrowthStage());
-            }
+        //Finally, if determined, grow in the world
+        growPlantBlock(world, state, pos, increase);
+        ResynthMetrics.count(Metric.GROWTH_SUCCESSES, setTypeName, world);
+    }
 
-            return;
+    // ******************
+    //  Predicted Growth
+    // ******************
+
+    private void growPlantFromPrediction(World world, BlockPos pos) {
+        ResynthEvent event = ResynthEvents.beginPlantGrowth();
+        ResynthMetrics.count(Metric.RANDOM_TICKS, setTypeName, world);
+
+        int grown = catchUpPredictedGrowth(world, pos);
+        ResynthEvents.end(event, setName, pos, "predicted", grown);
+    }
+
+    /**
+     * Grows the plant to the stage its {@link GrowthPrediction
+     * growth schedule} predicts, if predicted growth is enabled.
+     *
+     * <p/>Stages clients predict themselves are set without a block
+     * update. Becoming fully grown is done as normal growth, as it's
+     * what decides the yield of the plant, and isn't predicted.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return the number of stages the plant grew by.
+     */
+    public int catchUpPredictedGrowth(World world, BlockPos pos) {
+        if(world.isClientSide || !GrowthPrediction.isEnabled())
+            return 0;
+
+        BlockState state = world.getBlockState(pos);
+        if(state.getBlock() != this)
+            return 0;
+
+        float chance = getPredictedChanceOfGrowth(world, pos);
+        GrowthPrediction.Anchor anchor = GrowthPrediction.getAnchor(world, pos);
+        if(anchor == null) {
+            GrowthPrediction.anchor(world, pos, chance);
+            return 0;
         }
 
-        //Otherwise, if conditions for possible growth are met
-        if(!isGrowthPossible(world, pos))
-            return;
+        int stage = getGrowthStage(state), max = getMaxGrowthStage();
+        int predicted = anchor.predictStage(stage, world.getGameTime(), max);
 
-        //Finally, if determined, grow in the world
-        growPlantBlock(world, state, pos, increase);
-        //And try a harvest with the new growth
-        if(attemptAutoHarvest(growth, world, pos))
-            setGrowthStage(world, pos, getPostHarvestGrowthStage());
+        //Keep the anchor until growth is possible again
+        if(predicted > stage && !isGrowthPossible(world, pos))
+            return 0;
+
+        if(predicted > stage) {
+            if(Math.min(predicted, max - 1) > stage)
+                setPredictedGrowthStage(world, state, pos, Math.min(predicted, max - 1));
+            if(predicted >= max)
+                handlePlantGrowth(world, world.getBlockState(pos), pos, 1);
+        }
+
+        GrowthPrediction.update(world, pos, chance);
+        return getGrowthStage(world.getBlockState(pos)) - stage;
     }
 
-    // **********************
-    //  Grow Rates & Chances
-    // **********************
+    /**
+     * Called when something the chance of growth of a plant depends on
+     * changes - its soil, its enhancer, or a Greenhouse Controller claiming
+     * or releasing it. Catches the plant up to the schedule it followed so
+     * far, then anchors it on a schedule with its new chance of growth.
+     * Does nothing if there is no plant at the position, or predicted
+     * growth is disabled.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     */
+    public static void onChanceOfGrowthChanged(World world, BlockPos pos) {
+        if(world.isClientSide || !GrowthPrediction.isEnabled())
+            return;
 
-    private double calculateChanceOfGrowth(World world, BlockState state, BlockPos pos) {
-        // Get plant value
-        double baseGrowth = getPlantBaseGrowthChance();
+        Block block = world.getBlockState(pos).getBlock();
+        if(!(block instanceof BlockPlant))
+            return;
 
-        // Get Soil & Enhancer values
-        double soilModifier = getSoilGrowthModifier(world, pos);
-        double enhancedSoilModifier = applyEnhancerModifier(world, pos, soilModifier);
+        BlockPlant<?> plant = (BlockPlant<?>) block;
+        plant.catchUpPredictedGrowth(world, pos);
 
-        // Combine into single probability
-        double growthRate = enhancedSoilModifier * baseGrowth;
+        if(world.getBlockState(pos).getBlock() == plant)
+            GrowthPrediction.update(world, pos, plant.getPredictedChanceOfGrowth(world, pos));
+    }
 
-        // and return the probability with lighting modifier
-        return applyLightingModifier(world, pos, growthRate);
+    /**
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return the percentage chance of the plant growing on a step of
+     * its growth schedule. {@code 0} for plants controlled by a Greenhouse
+     * Controller, as the controller decides when they grow.
+     */
+    public float getPredictedChanceOfGrowth(World world, BlockPos pos) {
+        if(TileEntityGreenhouseController.isControlled(world, pos))
+            return 0;
+
+        return (float) calculateChanceOfGrowth(world, world.getBlockState(pos), pos);
     }
 
-    private double applyLightingModifier(World world, BlockPos pos, double in) {
-        if(!GENERAL_CONFIG.isGrowthLightDependent()) return in; //If disabled
+    /**
+     * Sets the growth stage of the plant without sending a block
+     * update to clients, which predict the stage themselves.
+     */
+    private void setPredictedGrowthStage(World world, BlockState state, BlockPos pos, int growthStage) {
+        ForgeHooks.onCropsGrowPre(world, pos, state, true);
+        world.setBlock(pos, getStateAtGrowthStage(state, growthStage), 0);
+        onPlantGrow(state, world, pos.below(), pos);
+        ForgeHooks.onCropsGrowPost(world, pos, state);
 
-        double lightModifier = getLightGrowthModifier(world, pos);
-        return lightModifier * in;
+        ResynthMetrics.count(Metric.GROWTH_SUCCESSES, setTypeName, world);
     }
 
-    private double applyEnhancerModifier(World world, BlockPos pos, double in) {
-        double enhancerModifier = getEnhancerModifier(world, pos);
+    // **********************
+    //  Grow Rates & Chances
+    // **********************
 
-        if(in >= 0.50 && enhancerModifier != 0)
-            return enhancerModifier + in;
-        else return in;
+    /**
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return the percentage chance of the plant growing
+     * on a random tick, given its soil, enhancer and light.
+     */
+    public double getChanceOfGrowth(World world, BlockPos pos) {
+        return calculateChanceOfGrowth(world, world.getBlockState(pos), pos);
+    }
+
+    private double calculateChanceOfGrowth(World world, BlockState state, BlockPos pos) {
+        return PlantGrowth.chanceOfGrowth(
+                getPlantBaseGrowthChance(), getSoilGrowthModifier(world, pos), getEnhancerModifier(world, pos),
+                GENERAL_CONFIG.isGrowthLightDependent() ? getLightGrowthModifier(world, pos) : 1D
+        );
     }
 
     private double getLightGrowthModifier(World world, BlockPos pos) {
@@ -833,32 +951,11 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     }
 
     public double lightLevelToGrowthMultiplier(int lightLevel, int maxLightLevel) {
-        return lightLevelToGrowthMultiplier(lightLevel, maxLightLevel,
+        return PlantGrowth.lightLevelToGrowthMultiplier(lightLevel,
                 getLightLevelZeroPoint(), getWorthPerLightLevel(), getInterestPerLightLevel()
         );
     }
 
-    public double lightLevelToGrowthMultiplier(int lightLevel, int maxLightLevel, int zeroPoint, double cost, double interest) {
-        double multiplier = 1D;
-        int difference;
-
-        if ((difference = lightLevel - zeroPoint) > 0)
-            while(difference != 0) {
-                cost += interest;
-                multiplier += cost;
-                difference--;
-            }
-
-        if (difference < 0)
-            while(difference != 0) {
-                cost += interest;
-                multiplier -= cost;
-                difference++;
-            }
-
-        return Math.max(multiplier, 0D);
-    }
-
     // **********
     // Drop Logic
     // **********
@@ -875,10 +972,10 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     @SuppressWarnings("deprecation")
     @ParametersAreNonnullByDefault
     public void spawnAfterBreak(BlockState state, ServerWorld world, BlockPos pos, ItemStack stack) {
-        MinecraftUtil.spawnItemInWorld(getSeedsItem(), world, pos);
+        DropBuffer.drop(new ItemStack(getSeedsItem()), world, pos);
 
         if(getGrowthStage(state) == getMaxGrowthStage() && dropsProduceWhenGrown() && getProduce() != null)
-            MinecraftUtil.spawnItemStackInWorld(getProduce(), world, pos);
+            DropBuffer.drop(getProduce(), world, pos);
     }
 
     /**
@@ -1015,6 +1112,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     @Override
     public boolean provideHoeInformation(Map<String, Object[]> information, BlockState state, World world, BlockPos pos) {
         information.put("plant_info_header", new Object[]{TextFormatting.GRAY, TextFormatting.RED, TextFormatting.GRAY});
+        catchUpPredictedGrowth(world, pos);
 
         //Growth Stage
         int growthStage = getGrowthStage(world.getBlockState(pos));
@@ -1029,7 +1127,8 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         });
 
         //Soil Growth Modifier
-        double total = applyEnhancerModifier(world, pos, getSoilGrowthModifier(world, pos)) * 100;
+        double soil = getSoilGrowthModifier(world, pos), enhancer = getEnhancerModifier(world, pos);
+        double total = PlantGrowth.applyEnhancerModifier(soil, enhancer) * 100;
         information.put("soil_growth_modifier", new Object[]{
                 TextFormatting.AQUA, TextFormatting.GOLD, MathUtil.roundToNDecimals(total, 3)
         });
@@ -1045,10 +1144,11 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         });
 
         //Final Growth Chance
-        double growthChance = ( ((total / 100) * (getPlantBaseGrowthChance() / 100)) * 100);
-        double lightBasedGrowthChance = ((lightMultiplier * (growthChance / 100)) * 100);
+        double growthChance = PlantGrowth.chanceOfGrowth(
+                getPlantBaseGrowthChance(), soil, enhancer, useLight ? lightMultiplier : 1D
+        );
         information.put("plant_growth_rate", new Object[]{ TextFormatting.BLUE, TextFormatting.GOLD,
-                MathUtil.roundToNDecimals((useLight ? lightBasedGrowthChance : growthChance), 3),
+                MathUtil.roundToNDecimals(growthChance, 3),
                 TextFormatting.DARK_BLUE
         });
 
@@ -1066,6 +1166,30 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         return this.properties;
     }
 
+    /**
+     * @return the name of the plant set this
+     * plant belongs to (e.g. diamond).
+     */
+    public String getSetName(){
+        return this.setName;
+    }
+
+    /**
+     * @return a new stack of the produce this plant
+     * type gives each time it's auto-harvested.
+     */
+    public ItemStack getHarvestProduce(){
+        return getProduce();
+    }
+
+    /**
+     * @return the growth stage this plant type is reset
+     * to after being auto-harvested.
+     */
+    public int getHarvestResetGrowthStage(){
+        return Math.max(getPostHarvestGrowthStage(), 0);
+    }
+
     // ****************
     // Abstract Methods
     // ****************
@@ -0,0 +1,728 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.growth;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.block.ResynthBlocks;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthProfile;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import com.ki11erwolf.resynth.util.DropBuffer;
+import com.ki11erwolf.resynth.util.MathUtil;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.command.CommandSource;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.inventory.IClearable;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tileentity.HopperTileEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a temporary farm of real Resynth plants in the world and
+ * measures what growing it costs, so identical load can be compared
+ * across versions and hardware.
+ *
+ * <p/>The farm is a square of plants, each planted on Mineral Soil with
+ * an optional enhancer and hopper below it, built next to whoever started
+ * the benchmark. The blocks it replaces are saved first. For the given
+ * number of server ticks, every plant is randomly ticked once per tick -
+ * through the same {@link BlockState#randomTick} the game uses - with
+ * Resynth's randomness made deterministic, and the time taken is recorded
+ * per tick. The plants of the farm ignore the game's own random ticks
+ * while the benchmark runs, so only the benchmark grows them - the world
+ * and its game rules are left as they are. Unless turned off, the time
+ * spent in each Resynth code path (see {@link ResynthProfile}) is recorded
+ * as well. Once done, the report is sent to the command source and written,
+ * along with the time taken by every tick, to a file in the {@code logs}
+ * folder. The farm is then removed, along with anything it dropped, and
+ * the replaced blocks are put back.
+ *
+ * <p/>Started with the {@code /resynth bench farm} command. Only one
+ * farm benchmark can run at a time.
+ */
+public final class FarmBenchmark {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The default number of plants along each side of the farm.
+     */
+    public static final int DEFAULT_SIZE = 8;
+
+    /**
+     * The largest allowed number of plants along each side of the farm.
+     */
+    public static final int MAX_SIZE = 32;
+
+    /**
+     * The default number of ticks to run the farm for (one minute).
+     */
+    public static final int DEFAULT_TICKS = 1200;
+
+    /**
+     * The largest allowed number of ticks to run the farm for (one hour).
+     */
+    public static final int MAX_TICKS = 72_000;
+
+    /**
+     * The number of blocks between plants. Leaves room
+     * for metallic plants to place their produce.
+     */
+    private static final int SPACING = 2;
+
+    /**
+     * The number of layers in the farm: hopper, enhancer (or the
+     * hopper when there is none), soil, plant, an empty layer and
+     * the ceiling.
+     */
+    private static final int HEIGHT = 6;
+
+    /**
+     * The number of rows in the timeline printed in the report.
+     */
+    private static final int TIMELINE_ROWS = 10;
+
+    /**
+     * The folder the full reports, with per-tick timings, are written to.
+     */
+    private static final File REPORT_FOLDER = new File("logs");
+
+    /**
+     * The farm benchmark currently running, if any.
+     */
+    private static FarmBenchmark running;
+
+    private final CommandSource source;
+
+    private final ServerWorld world;
+
+    private final List<PlantSet<?, ?>> sets;
+
+    private final int size;
+
+    private final Options options;
+
+    /**
+     * The lowest corner of the farm, including its border.
+     */
+    private final BlockPos min;
+
+    /**
+     * The highest corner of the farm, including its border.
+     */
+    private final BlockPos max;
+
+    /**
+     * The position of every plant in the farm.
+     */
+    private final BlockPos[] plants;
+
+    /**
+     * The blocks replaced by the farm, indexed by {@link #index(BlockPos)}.
+     */
+    private final BlockState[] savedStates;
+
+    /**
+     * The data of the tile entities replaced by the farm.
+     */
+    private final Map<BlockPos, CompoundNBT> savedTiles = new HashMap<>();
+
+    /**
+     * The time spent randomly ticking the plants in each tick, in nanoseconds.
+     */
+    private final long[] plantNanos;
+
+    /**
+     * The time taken by each whole server tick, in nanoseconds.
+     */
+    private final long[] serverNanos;
+
+    private final boolean wasDeterministic;
+
+    private final long previousSeed;
+
+    /**
+     * The recording of the time spent in each Resynth code path,
+     * or {@code null} if it isn't being recorded.
+     */
+    private ResynthProfile profile;
+
+    /**
+     * {@code true} while the benchmark itself is randomly ticking the
+     * plants, which are otherwise {@link #isFrozen(World, BlockPos) frozen}.
+     */
+    private boolean ticking;
+
+    private int tick;
+
+    private long tickStartNanos;
+
+    /**
+     * @param source the command source that started the benchmark.
+     * @param sets the plant sets grown in the farm, in turn.
+     * @param size the number of plants along each side of the farm.
+     * @param ticks the number of ticks to run the farm for.
+     * @param options the farm options.
+     */
+    private FarmBenchmark(CommandSource source, List<PlantSet<?, ?>> sets, int size, int ticks, Options options) {
+        this.source = source;
+        this.world = source.getLevel();
+        this.sets = sets;
+        this.size = size;
+        this.options = options;
+
+        BlockPos origin = new BlockPos(source.getPosition()).offset(2, 0, 2);
+        int width = (size - 1) * SPACING + 3;
+        this.min = origin;
+        this.max = origin.offset(width - 1, HEIGHT - 1, width - 1);
+
+        this.plants = new BlockPos[size * size];
+        for(int i = 0; i < plants.length; i++)
+            plants[i] = origin.offset(1 + (i % size) * SPACING, 3, 1 + (i / size) * SPACING);
+
+        this.savedStates = new BlockState[width * width * HEIGHT];
+        this.plantNanos = new long[ticks];
+        this.serverNanos = new long[ticks];
+        this.wasDeterministic = MathUtil.isDeterministic();
+        this.previousSeed = MathUtil.getSeed();
+    }
+
+    /**
+     * Builds the farm and starts the benchmark. The report is sent
+     * to the command source once the benchmark has finished.
+     *
+     * @param source the command source that started the benchmark.
+     *               The farm is built next to its position.
+     * @param sets the name of a plant set type (e.g. crystalline,
+     *             or all) or of a single plant set (e.g. diamond).
+     * @param size the number of plants along each side of the farm.
+     * @param ticks the number of ticks to run the farm for.
+     * @param options the farm options, see {@link Options#parse(String)}.
+     * @return a message describing the started benchmark.
+     * @throws IllegalArgumentException if the sets or options are
+     * invalid, or the farm can't be built.
+     * @throws IllegalStateException if a farm benchmark is already running.
+     */
+    public static String start(CommandSource source, String sets, int size, int ticks, String options) {
+        if(running != null)
+            throw new IllegalStateException("A farm benchmark is already running");
+
+        FarmBenchmark benchmark = new FarmBenchmark(
+                source, getSets(sets), Math.max(1, Math.min(size, MAX_SIZE)),
+                Math.max(1, Math.min(ticks, MAX_TICKS)), Options.parse(options)
+        );
+
+        if(!benchmark.world.hasChunksAt(benchmark.min, benchmark.max))
+            throw new IllegalArgumentException("The area around the farm is not loaded");
+
+        benchmark.save();
+        benchmark.build();
+        MathUtil.setSeed(benchmark.options.seed);
+        if(benchmark.options.profile && ResynthEvents.isAvailable())
+            benchmark.profile = ResynthProfile.start();
+        running = benchmark;
+
+        String message = String.format("Running farm benchmark of %d plants for %d ticks...",
+                benchmark.plants.length, benchmark.plantNanos.length);
+        LOG.info(message);
+        return message;
+    }
+
+    /**
+     * @return every working plant set matching the given set type or set name.
+     */
+    private static List<PlantSet<?, ?>> getSets(String name) {
+        PlantSetAPI.SetType type = Arrays.stream(PlantSetAPI.SetType.values())
+                .filter(setType -> setType.name().equalsIgnoreCase(name)).findFirst().orElse(null);
+
+        List<PlantSet<?, ?>> sets = type != null
+                ? Arrays.stream(PlantSetAPI.getSetsByType(type)).collect(Collectors.toList())
+                : new ArrayList<>();
+
+        if(type == null && PlantSetAPI.getSetByName(name) != null)
+            sets.add(PlantSetAPI.getSetByName(name));
+
+        sets.removeIf(PlantSet::isBroken);
+        if(sets.isEmpty())
+            throw new IllegalArgumentException("No working plant sets match: " + name);
+
+        return sets;
+    }
+
+    // *****
+    // Setup
+    // *****
+
+    /**
+     * Saves every block, and tile entity, the farm replaces.
+     */
+    private void save() {
+        for(BlockPos pos : BlockPos.betweenClosed(min, max)) {
+            savedStates[index(pos)] = world.getBlockState(pos);
+
+            TileEntity tile = world.getBlockEntity(pos);
+            if(tile != null)
+                savedTiles.put(pos.immutable(), tile.save(new CompoundNBT()));
+        }
+    }
+
+    /**
+     * Builds the farm, layer by layer from the bottom up.
+     */
+    private void build() {
+        for(BlockPos pos : BlockPos.betweenClosed(min, max))
+            if(pos.getY() < min.getY() + 3)
+                setBlock(pos, Blocks.STONE.defaultBlockState());
+            else if(pos.getY() < max.getY())
+                setBlock(pos, Blocks.AIR.defaultBlockState());
+            else setBlock(pos, options.light.ceiling.get());
+
+        for(int i = 0; i < plants.length; i++) {
+            BlockPos pos = plants[i];
+
+            //Hoppers pull through enhancers, or straight from the soil without one
+            if(options.enhancer != Enhancer.NONE)
+                setBlock(pos.below(2), options.enhancer.block.get());
+            if(options.hoppers)
+                setBlock(options.enhancer == Enhancer.NONE ? pos.below(2) : pos.below(3),
+                        Blocks.HOPPER.defaultBlockState());
+            setBlock(pos.below(), ResynthBlocks.BLOCK_MINERAL_SOIL.defaultBlockState());
+
+            TileEntity soil = world.getBlockEntity(pos.below());
+            if(soil instanceof TileEntityMineralSoil)
+                ((TileEntityMineralSoil) soil).setMineralPercentage(options.mineral);
+
+            setBlock(pos, sets.get(i % sets.size()).getPlantBlock().defaultBlockState());
+        }
+    }
+
+    /**
+     * Whether a plant should ignore a random tick from the game: true
+     * for the plants of a running farm benchmark, which randomly ticks
+     * them itself. Leaves the {@code randomTickSpeed} game rule alone,
+     * so nothing has to be put back if the server stops unexpectedly.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant.
+     * @return {@code true} if the plant is in a running farm
+     * benchmark, and isn't being ticked by the benchmark.
+     */
+    public static boolean isFrozen(World world, BlockPos pos) {
+        FarmBenchmark benchmark = running;
+
+        return benchmark != null && !benchmark.ticking && benchmark.world == world
+                && pos.getX() >= benchmark.min.getX() && pos.getX() <= benchmark.max.getX()
+                && pos.getY() >= benchmark.min.getY() && pos.getY() <= benchmark.max.getY()
+                && pos.getZ() >= benchmark.min.getZ() && pos.getZ() <= benchmark.max.getZ();
+    }
+
+    /**
+     * Sets the block at the given position, clearing the contents
+     * of the block being replaced first so nothing is dropped.
+     */
+    private void setBlock(BlockPos pos, BlockState state) {
+        IClearable.tryClear(world.getBlockEntity(pos));
+        world.setBlock(pos, state, 3);
+    }
+
+    // *******
+    // Ticking
+    // *******
+
+    private void onTickStart() {
+        tickStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Randomly ticks every plant, then finishes the
+     * benchmark once it has run for every tick.
+     */
+    private void onTickEnd() {
+        Random random = MathUtil.getRandom();
+        long start = System.nanoTime();
+        ticking = true;
+
+        try {
+            for(BlockPos pos : plants) {
+                BlockState state = world.getBlockState(pos);
+                if(state.getBlock() instanceof BlockPlant)
+                    state.randomTick(world, pos, random);
+            }
+        } finally {
+            ticking = false;
+        }
+
+        long end = System.nanoTime();
+        plantNanos[tick] = end - start;
+        serverNanos[tick] = end - tickStartNanos;
+
+        if(++tick == plantNanos.length)
+            finish();
+    }
+
+    // *******
+    // Results
+    // *******
+
+    /**
+     * Reports the results and {@link #stop() stops} the benchmark.
+     */
+    private void finish() {
+        List<String> report;
+        try {
+            report = getReport();
+        } finally {
+            stop();
+        }
+
+        File file = writeReport(report);
+        if(file != null)
+            report.add("  Per-tick timings written to: " + file.getPath());
+
+        report.forEach(LOG::info);
+        for(String line : report)
+            source.sendSuccess(new StringTextComponent(line), false);
+    }
+
+    /**
+     * Writes the report, followed by the time taken by
+     * every tick, to a new file in the {@link #REPORT_FOLDER}.
+     *
+     * @return the written file, or {@code null} if it couldn't be written.
+     */
+    private File writeReport(List<String> report) {
+        File file = new File(REPORT_FOLDER, "resynth-farm-benchmark-"
+                + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".txt");
+
+        List<String> lines = new ArrayList<>(report);
+        lines.add("");
+        lines.add("tick,plant_ms,server_ms");
+        for(int i = 0; i < plantNanos.length; i++)
+            lines.add(String.format(Locale.ROOT, "%d,%.6f,%.6f", i, plantNanos[i] / 1e6, serverNanos[i] / 1e6));
+
+        try {
+            Files.createDirectories(REPORT_FOLDER.toPath());
+            Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+            return file;
+        } catch (IOException e) {
+            LOG.error("Failed to write farm benchmark report to: " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stops the benchmark, removes the farm and restores
+     * the randomness to how it was before the benchmark.
+     */
+    private void stop() {
+        running = null;
+        if(profile != null) {
+            profile.discard();
+            profile = null;
+        }
+
+        restore();
+
+        if(wasDeterministic)
+            MathUtil.setSeed(previousSeed);
+        else MathUtil.clearSeed();
+    }
+
+    /**
+     * @return the human-readable report.
+     */
+    private List<String> getReport() {
+        List<ResynthProfile.CodePath> paths = null;
+        if(profile != null) {
+            paths = profile.stop();
+            profile = null;
+        }
+
+        int growth = 0, produce = 0;
+
+        for(BlockPos pos : plants) {
+            BlockState state = world.getBlockState(pos);
+            if(state.getBlock() instanceof BlockPlant)
+                growth += ((BlockPlant<?>) state.getBlock()).getGrowthStage(state);
+
+            for(int depth = 2; depth <= 3; depth++) {
+                TileEntity hopper = world.getBlockEntity(pos.below(depth));
+                if(hopper instanceof HopperTileEntity)
+                    for(int slot = 0; slot < ((HopperTileEntity) hopper).getContainerSize(); slot++)
+                        produce += ((HopperTileEntity) hopper).getItem(slot).getCount();
+            }
+        }
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("Farm benchmark: %dx%d plants of %s, %d ticks, seed %d",
+                size, size, sets.size() == 1 ? sets.get(0).getSetName() : sets.size() + " sets",
+                plantNanos.length, options.seed));
+        report.add(String.format("  Soil %.1f%%, enhancer %s, hoppers %s, light %s",
+                options.mineral, options.enhancer.name().toLowerCase(Locale.ROOT),
+                options.hoppers ? "on" : "off", options.light.name().toLowerCase(Locale.ROOT)));
+        if(GrowthPrediction.isEnabled())
+            report.add("  Predicted growth is enabled: plants grow on its schedule, at the world's randomTickSpeed");
+        report.add("  Plant ticks (ms/tick): " + summarize(plantNanos));
+        report.add("  Server ticks (ms/tick): " + summarize(serverNanos));
+        report.add(String.format("  Growth stages standing: %d, produce hoppered: %d", growth, produce));
+        addCodePaths(report, paths);
+
+        int rowTicks = (plantNanos.length + TIMELINE_ROWS - 1) / TIMELINE_ROWS;
+        for(int from = 0; from < plantNanos.length; from += rowTicks) {
+            int to = Math.min(from + rowTicks, plantNanos.length);
+            report.add(String.format("  Ticks %d-%d: %s", from, to - 1,
+                    summarize(Arrays.copyOfRange(plantNanos, from, to))));
+        }
+
+        return report;
+    }
+
+    /**
+     * Adds the time spent in each Resynth code path to the report, with
+     * the plant tick time not spent in any of them (e.g. in vanilla and
+     * Forge code, or in Resynth code without an event) last.
+     */
+    private void addCodePaths(List<String> report, List<ResynthProfile.CodePath> paths) {
+        if(paths == null) {
+            report.add("  Code paths: not recorded (" + (options.profile
+                    ? "the Flight Recorder is not available" : "profile=false") + ")");
+            return;
+        }
+
+        long plantTotal = Arrays.stream(plantNanos).sum(), growthTotal = 0;
+        //Includes work outside the plant ticks, such as hoppers pulling produce
+        report.add("  Resynth code paths over the whole run (total ms, calls, us/call, ms/tick):");
+
+        for(ResynthProfile.CodePath path : paths) {
+            if(path.getName().startsWith("Plant Growth"))
+                growthTotal += path.getNanos();
+
+            report.add(String.format(Locale.ROOT, "    %s: %.3f, %d, %.3f, %.4f", path.getName(),
+                    path.getNanos() / 1e6, path.getCount(), path.getNanos() / 1e3 / Math.max(1, path.getCount()),
+                    path.getNanos() / 1e6 / plantNanos.length));
+        }
+
+        long untracked = Math.max(0, plantTotal - growthTotal);
+        report.add(String.format(Locale.ROOT, "    Plant ticks outside Plant Growth: %.3f, -, -, %.4f",
+                untracked / 1e6, untracked / 1e6 / plantNanos.length));
+    }
+
+    /**
+     * @return the mean, median, 95th percentile and max
+     * of the given tick times, in milliseconds.
+     */
+    private static String summarize(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+
+        return String.format("mean %.3f, p50 %.3f, p95 %.3f, max %.3f",
+                Arrays.stream(sorted).average().orElse(0) / 1e6, sorted[(sorted.length - 1) / 2] / 1e6,
+                sorted[(int) ((sorted.length - 1) * 0.95)] / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+
+    /**
+     * Removes the farm, and anything it dropped,
+     * putting back the blocks it replaced.
+     */
+    private void restore() {
+        //Drops from the last tick are still buffered until the end of the next world tick
+        DropBuffer.spawnAll(world);
+
+        //Top down, so plants don't pop off their soil
+        for(int y = max.getY(); y >= min.getY(); y--)
+            for(BlockPos pos : BlockPos.betweenClosed(min.getX(), y, min.getZ(), max.getX(), y, max.getZ()))
+                setBlock(pos, Blocks.AIR.defaultBlockState());
+
+        for(BlockPos pos : BlockPos.betweenClosed(min, max)) {
+            BlockState state = savedStates[index(pos)];
+            world.setBlock(pos, state, 3);
+
+            CompoundNBT tileData = savedTiles.get(pos);
+            TileEntity tile = world.getBlockEntity(pos);
+            if(tileData != null && tile != null)
+                tile.load(state, tileData);
+        }
+
+        world.getEntitiesOfClass(ItemEntity.class, new AxisAlignedBB(min, max.offset(1, 1, 1)).inflate(1))
+                .forEach(Entity::remove);
+    }
+
+    /**
+     * @return the index of the given position within the farm.
+     */
+    private int index(BlockPos pos) {
+        int width = max.getX() - min.getX() + 1;
+        return ((pos.getY() - min.getY()) * width + (pos.getZ() - min.getZ())) * width + (pos.getX() - min.getX());
+    }
+
+    // *******
+    // Options
+    // *******
+
+    /**
+     * The enhancers that can be placed below the soil.
+     */
+    private enum Enhancer {
+        NONE(Blocks.STONE::defaultBlockState),
+        CALVINITE(ResynthBlocks.BLOCK_CALVINITE_ENHANCER::defaultBlockState),
+        SYLVANITE(ResynthBlocks.BLOCK_SYLVANITE_ENHANCER::defaultBlockState);
+
+        private final Supplier<BlockState> block;
+
+        Enhancer(Supplier<BlockState> block) {
+            this.block = block;
+        }
+    }
+
+    /**
+     * The light the plants grow in, set by the ceiling above them.
+     */
+    private enum Light {
+        SKY(Blocks.AIR::defaultBlockState),
+        LAMP(Blocks.GLOWSTONE::defaultBlockState),
+        DARK(Blocks.STONE::defaultBlockState);
+
+        private final Supplier<BlockState> ceiling;
+
+        Light(Supplier<BlockState> ceiling) {
+            this.ceiling = ceiling;
+        }
+    }
+
+    /**
+     * The options of a farm benchmark.
+     */
+    private static final class Options {
+
+        private float mineral = 50.0F;
+
+        private Enhancer enhancer = Enhancer.NONE;
+
+        private boolean hoppers = true;
+
+        private Light light = Light.SKY;
+
+        private long seed = 0;
+
+        private boolean profile = true;
+
+        /**
+         * Parses options given as space separated {@code key=value} pairs:
+         * {@code mineral=<0.1-50>}, {@code enhancer=<none|calvinite|sylvanite>},
+         * {@code hoppers=<true|false>}, {@code light=<sky|lamp|dark>},
+         * {@code seed=<n>} and {@code profile=<true|false>}. Options not given
+         * keep their defaults ({@code mineral=50 enhancer=none hoppers=true
+         * light=sky seed=0 profile=true}).
+         *
+         * @throws IllegalArgumentException if an option is unknown or invalid.
+         */
+        private static Options parse(String options) {
+            Options parsed = new Options();
+            if(options == null || options.trim().isEmpty())
+                return parsed;
+
+            for(String option : options.trim().split("\\s+")) {
+                String[] pair = option.split("=", 2);
+                if(pair.length != 2)
+                    throw new IllegalArgumentException("Expected 'option=value' but got: " + option);
+
+                String value = pair[1].toUpperCase(Locale.ROOT);
+                try {
+                    switch (pair[0].toLowerCase(Locale.ROOT)) {
+                        case "mineral": parsed.mineral = Math.max(0.1F, Math.min(Float.parseFloat(value), 50.0F)); break;
+                        case "enhancer": parsed.enhancer = Enhancer.valueOf(value); break;
+                        case "hoppers": parsed.hoppers = Boolean.parseBoolean(pair[1]); break;
+                        case "light": parsed.light = Light.valueOf(value); break;
+                        case "seed": parsed.seed = Long.parseLong(pair[1]); break;
+                        case "profile": parsed.profile = Boolean.parseBoolean(pair[1]); break;
+                        default: throw new IllegalArgumentException("Unknown option: " + pair[0]);
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid option: " + option);
+                }
+            }
+
+            return parsed;
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Drives and times the running farm benchmark, if any.
+         */
+        @SubscribeEvent
+        public static void onServerTick(TickEvent.ServerTickEvent event) {
+            if(running == null)
+                return;
+
+            if(event.phase == TickEvent.Phase.START)
+                running.onTickStart();
+            else running.onTickEnd();
+        }
+
+        /**
+         * Removes the farm of a benchmark still running when the server stops.
+         */
+        @SubscribeEvent
+        public static void onServerStopping(FMLServerStoppingEvent event) {
+            if(running == null)
+                return;
+
+            LOG.warn("Server stopping, abandoning farm benchmark after " + running.tick + " ticks");
+            running.stop();
+        }
+    }
+}
@@ -0,0 +1,517 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.growth;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import com.ki11erwolf.resynth.packet.GrowthAnchorsPacket;
+import com.ki11erwolf.resynth.packet.Packet;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import com.ki11erwolf.resynth.world.ResynthIndex;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Lets clients advance the growth stages of plants themselves,
+ * instead of being sent a block update for every stage a plant
+ * grows, when predicted growth is enabled in the config.
+ *
+ * <p/>Plants then grow on the fixed schedule worked out by {@link
+ * PredictedGrowth}, rather than rolling for growth on random ticks.
+ * Each plant has an anchor: a game time its stage is known at,
+ * as well as the step interval and chance of growth its schedule
+ * uses. Anchors are sent to clients when they start watching a
+ * chunk, and again whenever a plant stops following its schedule
+ * (e.g. it was harvested, bonemealed, or its soil changed) - which
+ * are the only growth packets sent. Clients advance their plants
+ * up to, but not including, the final stage.
+ *
+ * <p/>The server stays authoritative. It catches plants up to their
+ * schedule on random ticks, and before harvesting them, setting
+ * the stages clients predict without a block update. A plant
+ * becoming fully grown - which decides its yield - always happens
+ * on the server and is sent to clients as normal.
+ *
+ * <p/>Plants follow their schedule while their chunk is loaded on
+ * the server, and anchors are only kept for loaded chunks.
+ */
+public final class GrowthPrediction {
+
+    /**
+     * Configuration settings for predicted growth.
+     */
+    private static final GeneralConfig CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The maximum number of anchors sent in a single packet.
+     */
+    private static final int MAX_ANCHORS_PER_PACKET = 4096;
+
+    /**
+     * The anchors of the plants in every loaded chunk, by server world.
+     */
+    private static final Map<IWorld, Anchors> SERVER = new WeakHashMap<>();
+
+    /**
+     * The packed positions of the plants whose anchors have changed
+     * this tick, and need sending to clients, by server world.
+     */
+    private static final Map<World, LongSet> PENDING = new HashMap<>();
+
+    /**
+     * The anchors of the plants in the client world.
+     */
+    private static final Anchors CLIENT = new Anchors();
+
+    //Static class.
+    private GrowthPrediction(){}
+
+    /**
+     * @return {@code true} if predicted growth is enabled in the config.
+     */
+    public static boolean isEnabled() {
+        return CONFIG.isGrowthPredicted();
+    }
+
+    // ******
+    // Server
+    // ******
+
+    /**
+     * @param world the server world the plant is in.
+     * @param pos the position of the plant.
+     * @return the anchor of the plant, or {@code null}
+     * if it hasn't been anchored yet.
+     */
+    @Nullable
+    public static Anchor getAnchor(World world, BlockPos pos) {
+        Anchors anchors = SERVER.get(world);
+        return anchors == null ? null : anchors.get(pos.asLong());
+    }
+
+    /**
+     * Anchors the plant at its current stage and the current game
+     * time, replacing any previous anchor, and sends the new anchor
+     * to clients.
+     *
+     * @param world the server world the plant is in.
+     * @param pos the position of the plant.
+     * @param chanceOfGrowth the percentage chance of the plant growing on a step.
+     */
+    public static void anchor(World world, BlockPos pos, float chanceOfGrowth) {
+        if(world.isClientSide)
+            return;
+
+        SERVER.computeIfAbsent(world, w -> new Anchors()).put(new Anchor(
+                pos.asLong(), world.getGameTime(), getStepInterval(world), chanceOfGrowth
+        ));
+        PENDING.computeIfAbsent(world, w -> new LongOpenHashSet()).add(pos.asLong());
+    }
+
+    /**
+     * Moves the anchor of the plant to the current game time if the
+     * plant is still following its schedule - which clients follow as
+     * well, so they aren't told. Otherwise, the plant is anchored anew.
+     *
+     * @param world the server world the plant is in.
+     * @param pos the position of the plant.
+     * @param chanceOfGrowth the percentage chance of the plant growing on a step.
+     */
+    public static void update(World world, BlockPos pos, float chanceOfGrowth) {
+        Anchor anchor = getAnchor(world, pos);
+
+        if(anchor != null && anchor.isCurrent(getStepInterval(world), chanceOfGrowth))
+            anchor.time = world.getGameTime();
+        else anchor(world, pos, chanceOfGrowth);
+    }
+
+    /**
+     * Called when the stage of a plant changes on the server. Moves the
+     * anchor of the plant forward if the change is what its schedule
+     * predicted for clients, and anchors the plant anew otherwise.
+     *
+     * @param world the server world the plant is in.
+     * @param pos the position of the plant.
+     * @param oldStage the stage of the plant before the change.
+     * @param newStage the stage of the plant after the change.
+     * @param cap the highest stage clients predict the plant reaching.
+     * @param chanceOfGrowth the percentage chance of the plant growing on a step.
+     */
+    public static void onStageChanged(World world, BlockPos pos, int oldStage, int newStage,
+                                      int cap, float chanceOfGrowth) {
+        Anchor anchor = getAnchor(world, pos);
+
+        if(anchor != null && anchor.predictStage(oldStage, world.getGameTime(), cap) == newStage)
+            update(world, pos, chanceOfGrowth);
+        else anchor(world, pos, chanceOfGrowth);
+    }
+
+    /**
+     * Removes the anchor of the plant, telling clients to stop
+     * advancing it. Called when the plant is removed.
+     *
+     * @param world the world the plant was in.
+     * @param pos the position of the plant.
+     */
+    public static void remove(World world, BlockPos pos) {
+        Anchors anchors = SERVER.get(world);
+
+        if(anchors != null && anchors.remove(pos.asLong()) != null)
+            PENDING.computeIfAbsent(world, w -> new LongOpenHashSet()).add(pos.asLong());
+    }
+
+    /**
+     * @return the number of game ticks between growth steps in the
+     * world, given its random tick speed game rule.
+     */
+    public static int getStepInterval(World world) {
+        return PredictedGrowth.stepInterval(world.getGameRules().getInt(GameRules.RULE_RANDOMTICKING));
+    }
+
+    /**
+     * Sends the anchors of the plants in the chunk to the player,
+     * anchoring any plants that haven't been anchored yet.
+     */
+    private static void sendChunk(World world, ChunkPos chunk, PacketDistributor.PacketTarget target) {
+        List<Anchor> sent = new ArrayList<>();
+
+        ResynthIndex.forEachPlantIn(world, chunk, packed -> {
+            BlockPos pos = BlockPos.of(packed);
+            Block block = world.getBlockState(pos).getBlock();
+
+            if(getAnchor(world, pos) == null && block instanceof BlockPlant)
+                anchor(world, pos, ((BlockPlant<?>) block).getPredictedChanceOfGrowth(world, pos));
+
+            Anchor anchor = getAnchor(world, pos);
+            if(anchor != null)
+                sent.add(anchor.copy());
+        });
+
+        send(target, sent);
+    }
+
+    /**
+     * Sends the anchors changed this tick to every client
+     * watching the chunks they're in.
+     */
+    private static void flush() {
+        for(Map.Entry<World, LongSet> pending : PENDING.entrySet()) {
+            World world = pending.getKey();
+            Anchors anchors = SERVER.get(world);
+            Long2ObjectMap<List<Anchor>> byChunk = new Long2ObjectOpenHashMap<>();
+
+            for(LongIterator it = pending.getValue().iterator(); it.hasNext();) {
+                long packed = it.nextLong();
+                Anchor anchor = anchors == null ? null : anchors.get(packed);
+
+                byChunk.computeIfAbsent(Anchors.chunkOf(packed), chunk -> new ArrayList<>())
+                        .add(anchor == null ? Anchor.removed(packed) : anchor.copy());
+            }
+
+            for(Long2ObjectMap.Entry<List<Anchor>> chunk : byChunk.long2ObjectEntrySet()) {
+                int x = ChunkPos.getX(chunk.getLongKey()), z = ChunkPos.getZ(chunk.getLongKey());
+
+                if(world.hasChunk(x, z))
+                    send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunk(x, z)), chunk.getValue());
+            }
+        }
+
+        PENDING.clear();
+    }
+
+    /**
+     * Sends the anchors to the target, split over as many packets as needed.
+     */
+    private static void send(PacketDistributor.PacketTarget target, List<Anchor> anchors) {
+        for(int i = 0; i < anchors.size(); i += MAX_ANCHORS_PER_PACKET)
+            Packet.send(target, new GrowthAnchorsPacket(
+                    anchors.subList(i, Math.min(anchors.size(), i + MAX_ANCHORS_PER_PACKET))
+            ));
+    }
+
+    // ******
+    // Client
+    // ******
+
+    /**
+     * Stores the anchors sent by the server, replacing previous
+     * anchors of the same plants. Anchors without a chance of
+     * growth stop the client advancing the plant.
+     *
+     * @param anchors the anchors sent by the server.
+     */
+    public static void receive(List<Anchor> anchors) {
+        for(Anchor anchor : anchors)
+            if(anchor.interval > 0 && anchor.chance > 0)
+                CLIENT.put(anchor);
+            else CLIENT.remove(anchor.pos);
+    }
+
+    /**
+     * Advances every plant in the client world to the stage its
+     * schedule predicts, forgetting plants that are gone. Called
+     * by the client proxy.
+     *
+     * @param world the client world.
+     */
+    public static void predict(World world) {
+        long time = world.getGameTime();
+
+        CLIENT.removeIf(anchor -> {
+            BlockPos pos = BlockPos.of(anchor.pos);
+            BlockState state = world.getBlockState(pos);
+
+            if(!(state.getBlock() instanceof BlockPlant))
+                return true;
+
+            BlockPlant<?> plant = (BlockPlant<?>) state.getBlock();
+            int stage = plant.getGrowthStage(state);
+            int predicted = anchor.predictStage(stage, time, plant.getMaxGrowthStage() - 1);
+
+            //Flags as a block update from the server would
+            if(predicted != stage)
+                world.setBlock(pos, plant.getStateAtGrowthStage(state, predicted), 19);
+
+            anchor.time = time;
+            return false;
+        });
+    }
+
+    // ******
+    // Anchor
+    // ******
+
+    /**
+     * The game time the stage of a plant is known at, along
+     * with the step interval and chance of growth of its
+     * schedule.
+     */
+    public static final class Anchor {
+
+        /**
+         * The packed position of the plant.
+         */
+        private final long pos;
+
+        /**
+         * The game time the stage of the plant is known at.
+         */
+        private long time;
+
+        /**
+         * The number of game ticks between growth steps.
+         */
+        private final int interval;
+
+        /**
+         * The percentage chance of the plant growing on a step.
+         */
+        private final float chance;
+
+        /**
+         * @param pos the packed position of the plant.
+         * @param time the game time the stage of the plant is known at.
+         * @param interval the number of game ticks between growth steps.
+         * @param chance the percentage chance of the plant growing on a step.
+         */
+        public Anchor(long pos, long time, int interval, float chance) {
+            this.pos = pos;
+            this.time = time;
+            this.interval = interval;
+            this.chance = chance;
+        }
+
+        /**
+         * @return an anchor telling clients to stop advancing the plant.
+         */
+        private static Anchor removed(long pos) {
+            return new Anchor(pos, 0, 0, 0);
+        }
+
+        /**
+         * @param stage the stage of the plant at the anchor's time.
+         * @param time the game time to work out the stage at.
+         * @param cap the highest stage the plant can be predicted to reach.
+         * @return the predicted stage of the plant at the given time.
+         */
+        public int predictStage(int stage, long time, int cap) {
+            return PredictedGrowth.predictStage(
+                    PredictedGrowth.seedOf(pos), this.time, stage, time, interval, chance, cap
+            );
+        }
+
+        /**
+         * @return {@code true} if the anchor's schedule uses
+         * the given step interval and chance of growth.
+         */
+        private boolean isCurrent(int interval, float chance) {
+            return this.interval == interval && Float.compare(this.chance, chance) == 0;
+        }
+
+        /**
+         * @return a copy of the anchor, safe from later changes.
+         */
+        private Anchor copy() {
+            return new Anchor(pos, time, interval, chance);
+        }
+
+        public long getPos() {
+            return pos;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public int getInterval() {
+            return interval;
+        }
+
+        public float getChance() {
+            return chance;
+        }
+    }
+
+    /**
+     * The anchors of the plants in a world, by chunk.
+     */
+    private static final class Anchors {
+
+        private final Long2ObjectMap<Long2ObjectMap<Anchor>> chunks = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        private Anchor get(long pos) {
+            Long2ObjectMap<Anchor> chunk = chunks.get(chunkOf(pos));
+            return chunk == null ? null : chunk.get(pos);
+        }
+
+        private void put(Anchor anchor) {
+            chunks.computeIfAbsent(chunkOf(anchor.pos), chunk -> new Long2ObjectOpenHashMap<>()).put(anchor.pos, anchor);
+        }
+
+        @Nullable
+        private Anchor remove(long pos) {
+            long key = chunkOf(pos);
+            Long2ObjectMap<Anchor> chunk = chunks.get(key);
+            if(chunk == null)
+                return null;
+
+            Anchor removed = chunk.remove(pos);
+            if(chunk.isEmpty())
+                chunks.remove(key);
+            return removed;
+        }
+
+        private void removeChunk(ChunkPos chunk) {
+            chunks.remove(chunk.toLong());
+        }
+
+        private void removeIf(Predicate<Anchor> filter) {
+            for(ObjectIterator<Long2ObjectMap<Anchor>> it = chunks.values().iterator(); it.hasNext();) {
+                Long2ObjectMap<Anchor> chunk = it.next();
+                chunk.values().removeIf(filter);
+
+                if(chunk.isEmpty())
+                    it.remove();
+            }
+        }
+
+        private void clear() {
+            chunks.clear();
+        }
+
+        private static long chunkOf(long pos) {
+            return ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4);
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Sends the anchors of the plants in the chunk
+         * to the player that started watching it.
+         */
+        @SubscribeEvent
+        public static void onChunkWatch(ChunkWatchEvent.Watch event) {
+            if(isEnabled())
+                sendChunk(event.getWorld(), event.getPos(), PacketDistributor.PLAYER.with(event::getPlayer));
+        }
+
+        /**
+         * Sends the anchors changed during the tick.
+         */
+        @SubscribeEvent
+        public static void onServerTick(TickEvent.ServerTickEvent event) {
+            if(event.phase == TickEvent.Phase.END && !PENDING.isEmpty())
+                flush();
+        }
+
+        /**
+         * Forgets the anchors of the plants in the unloaded chunk.
+         */
+        @SubscribeEvent
+        public static void onChunkUnload(ChunkEvent.Unload event) {
+            if(event.getWorld() == null)
+                return;
+
+            Anchors anchors = event.getWorld().isClientSide() ? CLIENT : SERVER.get(event.getWorld());
+            if(anchors != null)
+                anchors.removeChunk(event.getChunk().getPos());
+        }
+
+        @SubscribeEvent
+        public static void onWorldUnload(WorldEvent.Unload event) {
+            if(event.getWorld().isClientSide())
+                CLIENT.clear();
+            else {
+                SERVER.remove(event.getWorld());
+                PENDING.remove(event.getWorld());
+            }
+        }
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.growth;
+
+import com.ki11erwolf.resynth.util.MathUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * A command line simulator of a Resynth farm, built on {@link PlantGrowth}.
+ *
+ * <p/>Models a farm of N plants of a single plant set, on Mineral
+ * Soil that automation pulls produce out of, over M game ticks at
+ * a given {@code randomTickSpeed}. Automation harvests a plant as
+ * soon as it has produce to pull, so plants are harvested the
+ * moment they reach maturity. Reports the distribution of the
+ * time it takes a freshly planted seed to reach maturity, as well
+ * as the produce the farm yields per hour.
+ *
+ * <p/>Each plant is simulated independently, event by event, with
+ * its own seeded source of randomness - so large farms are simulated
+ * on a parallel stream while still giving the same results for the
+ * same seed.
+ *
+ * <p/>Usage: {@code GrowthSimulator [--option value]...}, see
+ * {@link #printUsage()} or pass {@code --help}.
+ */
+public final class GrowthSimulator {
+
+    /**
+     * The number of game ticks in an hour.
+     */
+    private static final int TICKS_PER_HOUR = 20 * 60 * 60;
+
+    /**
+     * The number of blocks in a chunk section, from
+     * which random tick positions are picked.
+     */
+    private static final int BLOCKS_PER_SECTION = 16 * 16 * 16;
+
+    /**
+     * The number of plants at which the farm is
+     * simulated on a parallel stream.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * The percentiles of the time to maturity that are reported.
+     */
+    private static final int[] PERCENTILES = {10, 25, 50, 75, 90, 99};
+
+    /**
+     * The number of buckets in the time to maturity histogram.
+     */
+    private static final int HISTOGRAM_BUCKETS = 10;
+
+    /**
+     * The width, in characters, of the longest histogram bar.
+     */
+    private static final int HISTOGRAM_WIDTH = 40;
+
+    /**
+     * The growth behaviour of each plant set type.
+     */
+    enum SetType {
+
+        /**
+         * Crystalline plants: 7 stages, reset to 0 when harvested.
+         */
+        CRYSTALLINE(7, 0),
+
+        /**
+         * Metallic plants: 8 stages, reset to 5 when harvested.
+         */
+        METALLIC(8, 5),
+
+        /**
+         * Biochemical plants: 7 stages, reset to 3 when harvested.
+         */
+        BIOCHEMICAL(7, 3);
+
+        /**
+         * The final growth stage of the plant type.
+         */
+        final int maxGrowthStage;
+
+        /**
+         * The growth stage the plant is reset to after a harvest.
+         */
+        final int postHarvestGrowthStage;
+
+        SetType(int maxGrowthStage, int postHarvestGrowthStage) {
+            this.maxGrowthStage = maxGrowthStage;
+            this.postHarvestGrowthStage = postHarvestGrowthStage;
+        }
+    }
+
+    // *************
+    // Configuration
+    // *************
+
+    private SetType type = SetType.CRYSTALLINE;
+    private double baseGrowth = 10;
+    private int yield = 1;
+    private int plants = 64;
+    private long ticks = TICKS_PER_HOUR;
+    private int randomTickSpeed = 3;
+    private double soil = 50;
+    private double enhancer = 0;
+    private boolean lightDependent = true;
+    private int lightLevel = 15;
+    private int zeroPoint = PlantGrowth.DEFAULT_LIGHT_LEVEL_ZERO_POINT;
+    private double worth = PlantGrowth.DEFAULT_WORTH_PER_LIGHT_LEVEL;
+    private double interest = PlantGrowth.DEFAULT_INTEREST_PER_LIGHT_LEVEL;
+    private long bonemealInterval = 0;
+    private long seed = System.nanoTime();
+
+    /**
+     * The percentage chance a plant in the farm grows on a random
+     * tick - the same for every plant. Set by {@link #run()}.
+     */
+    private double chanceOfGrowth;
+
+    //Created from main.
+    private GrowthSimulator(){}
+
+    /**
+     * Runs the simulator from the command line.
+     *
+     * @param args the simulator options, see {@link #printUsage()}.
+     */
+    public static void main(String[] args) {
+        GrowthSimulator simulator = new GrowthSimulator();
+
+        try {
+            if(!simulator.parse(args)) {
+                printUsage();
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        simulator.run();
+    }
+
+    /**
+     * Reads the simulator options from the given command line arguments.
+     *
+     * @return {@code false} if help was requested.
+     * @throws IllegalArgumentException if an option is unknown or invalid.
+     */
+    private boolean parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+
+        for(int i = 0; i < args.length; i++) {
+            String arg = args[i];
+
+            if(arg.equals("--help") || arg.equals("-h"))
+                return false;
+            if(arg.equals("--no-light")) {
+                options.put(arg, "true");
+                continue;
+            }
+
+            if(!arg.startsWith("--") || i + 1 >= args.length)
+                throw new IllegalArgumentException("Expected '--option value' but got: " + arg);
+            options.put(arg, args[++i]);
+        }
+
+        for(Map.Entry<String, String> option : options.entrySet()) {
+            String value = option.getValue();
+
+            try {
+                switch (option.getKey()) {
+                    case "--type": type = SetType.valueOf(value.toUpperCase(Locale.ROOT)); break;
+                    case "--growth": baseGrowth = Double.parseDouble(value); break;
+                    case "--yield": yield = Integer.parseInt(value); break;
+                    case "--plants": plants = Integer.parseInt(value); break;
+                    case "--ticks": ticks = Long.parseLong(value); break;
+                    case "--hours": ticks = (long) (Double.parseDouble(value) * TICKS_PER_HOUR); break;
+                    case "--random-tick-speed": randomTickSpeed = Integer.parseInt(value); break;
+                    case "--soil": soil = Double.parseDouble(value); break;
+                    case "--enhancer": enhancer = Double.parseDouble(value); break;
+                    case "--light": lightLevel = Integer.parseInt(value); break;
+                    case "--no-light": lightDependent = false; break;
+                    case "--zero-point": zeroPoint = Integer.parseInt(value); break;
+                    case "--worth": worth = Double.parseDouble(value); break;
+                    case "--interest": interest = Double.parseDouble(value); break;
+                    case "--bonemeal-every": bonemealInterval = Long.parseLong(value); break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    default: throw new IllegalArgumentException("Unknown option: " + option.getKey());
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + option.getKey() + ": " + value);
+            }
+        }
+
+        if(plants < 1 || ticks < 1 || randomTickSpeed < 0 || yield < 0 || bonemealInterval < 0)
+            throw new IllegalArgumentException("Plants and ticks must be positive, other counts may not be negative");
+
+        return true;
+    }
+
+    /**
+     * Prints the simulator options and their defaults.
+     */
+    private static void printUsage() {
+        System.out.println(String.join(System.lineSeparator(),
+                "Simulates a Resynth farm of a single plant set, harvested by automation as plants mature.",
+                "",
+                "Options:",
+                "  --type <crystalline|metallic|biochemical>  plant set type (crystalline)",
+                "  --growth <percent>            base growth chance of the plant set (10)",
+                "  --yield <count>               produce per harvest (1)",
+                "  --plants <N>                  number of plants in the farm (64)",
+                "  --ticks <M> | --hours <h>     length of the simulation (1 hour)",
+                "  --random-tick-speed <n>       the randomTickSpeed game rule (3)",
+                "  --soil <percent>              mineral content of the soil (50)",
+                "  --enhancer <percent>          mineral increase of the enhancer (0)",
+                "  --light <level>               light level on the plants (15)",
+                "  --no-light                    growth isn't affected by light",
+                "  --zero-point <level>          light level zero point (" + PlantGrowth.DEFAULT_LIGHT_LEVEL_ZERO_POINT + ")",
+                "  --worth <n>                   worth per light level (" + PlantGrowth.DEFAULT_WORTH_PER_LIGHT_LEVEL + ")",
+                "  --interest <n>                interest per light level (" + PlantGrowth.DEFAULT_INTEREST_PER_LIGHT_LEVEL + ")",
+                "  --bonemeal-every <ticks>      bonemeal each plant every n ticks (never)",
+                "  --seed <n>                    random seed, for repeatable runs (random)"
+        ));
+    }
+
+    // **********
+    // Simulation
+    // **********
+
+    /**
+     * Simulates the farm and prints the report.
+     */
+    private void run() {
+        double lightModifier = lightDependent
+                ? PlantGrowth.lightLevelToGrowthMultiplier(lightLevel, zeroPoint, worth, interest) : 1D;
+        chanceOfGrowth = PlantGrowth.chanceOfGrowth(baseGrowth, soil / 100, enhancer / 100, lightModifier);
+
+        long start = System.nanoTime();
+        IntStream farm = IntStream.range(0, plants);
+        PlantResult[] results = (plants >= PARALLEL_THRESHOLD ? farm.parallel() : farm)
+                .mapToObj(this::simulatePlant)
+                .toArray(PlantResult[]::new);
+        long elapsed = System.nanoTime() - start;
+
+        report(results, lightModifier, elapsed);
+    }
+
+    /**
+     * Simulates a single plant, from seed, over the length of the simulation.
+     *
+     * <p/>Rather than checking every tick, the simulation jumps straight
+     * from one event (a random tick or bonemeal) to the next. Every game
+     * tick, {@code randomTickSpeed} blocks in each chunk section are picked
+     * at random, so the number of picks between random ticks on a plant
+     * is geometrically distributed.
+     *
+     * @param index the index of the plant in the farm.
+     * @return the result of the plant.
+     */
+    private PlantResult simulatePlant(int index) {
+        Random random = new Random(new SplittableRandom(seed + index).nextLong());
+        PlantResult result = new PlantResult();
+        int stage = 0;
+
+        long pick = nextRandomTick(-1, random);
+        long bonemeal = bonemealInterval > 0 ? bonemealInterval : Long.MAX_VALUE;
+
+        while(true) {
+            long tick = randomTickSpeed == 0 ? Long.MAX_VALUE : pick / randomTickSpeed;
+            int increase = 0;
+            boolean fromBonemeal = bonemeal <= tick;
+
+            if(fromBonemeal)
+                tick = bonemeal;
+            if(tick >= ticks)
+                break;
+
+            if(fromBonemeal) {
+                bonemeal += bonemealInterval;
+
+                increase = PlantGrowth.bonemealGrowth(random);
+            } else {
+                pick = nextRandomTick(pick, random);
+
+                if(PlantGrowth.rollGrowth(chanceOfGrowth, random))
+                    increase = 1;
+            }
+
+            if(increase != 0)
+                stage = grow(stage, increase, tick, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Grows the plant the same way the plant blocks do, once it has
+     * been given the chance to grow, and harvests it if it matures.
+     *
+     * @return the new growth stage of the plant.
+     */
+    private int grow(int stage, int increase, long tick, PlantResult result) {
+        stage = PlantGrowth.grow(stage, increase, type.maxGrowthStage);
+        if(stage < type.maxGrowthStage)
+            return stage;
+
+        if(result.maturity < 0)
+            result.maturity = tick;
+
+        //Pulled out by automation as soon as it's fully grown.
+        result.harvests++;
+        return type.postHarvestGrowthStage;
+    }
+
+    /**
+     * @param pick the index of the random tick pick
+     *             the plant was last picked in.
+     * @return the index of the next random tick pick the plant is picked in.
+     */
+    private long nextRandomTick(long pick, Random random) {
+        return pick + 1 + MathUtil.sampleGeometric(random, 1D / BLOCKS_PER_SECTION);
+    }
+
+    // ******
+    // Report
+    // ******
+
+    /**
+     * Prints the time to maturity distribution and the produce of the farm.
+     */
+    private void report(PlantResult[] results, double lightModifier, long elapsedNanos) {
+        long[] maturity = Arrays.stream(results).mapToLong(r -> r.maturity).filter(t -> t >= 0).sorted().toArray();
+        long harvests = Arrays.stream(results).mapToLong(r -> r.harvests).sum();
+        double hours = (double) ticks / TICKS_PER_HOUR;
+
+        System.out.println(String.format(Locale.ROOT,
+                "Simulated %d %s plants for %d ticks (%.2f hours) in %d ms, seed %d",
+                plants, type.name().toLowerCase(Locale.ROOT), ticks, hours, elapsedNanos / 1_000_000, seed
+        ));
+        System.out.println(String.format(Locale.ROOT,
+                "Chance of growth: %.4f%% per random tick (light multiplier %.3f), randomTickSpeed %d",
+                chanceOfGrowth, lightModifier, randomTickSpeed
+        ));
+        System.out.println();
+
+        System.out.println(String.format(Locale.ROOT, "Time to maturity (%d of %d plants matured):",
+                maturity.length, plants));
+        if(maturity.length != 0) {
+            System.out.println(String.format(Locale.ROOT, "  mean  %s", formatTicks(
+                    (long) Arrays.stream(maturity).average().orElse(0))));
+            System.out.println(String.format(Locale.ROOT, "  min   %s", formatTicks(maturity[0])));
+            for(int percentile : PERCENTILES)
+                System.out.println(String.format(Locale.ROOT, "  p%-4d %s", percentile,
+                        formatTicks(maturity[(int) Math.ceil(percentile / 100D * maturity.length) - 1])));
+            System.out.println(String.format(Locale.ROOT, "  max   %s", formatTicks(maturity[maturity.length - 1])));
+            printHistogram(maturity);
+        }
+        System.out.println();
+
+        System.out.println("Produce:");
+        System.out.println(String.format(Locale.ROOT, "  harvests    %d (%d produce)", harvests, harvests * yield));
+        System.out.println(String.format(Locale.ROOT, "  per hour    %.2f", harvests * yield / hours));
+        System.out.println(String.format(Locale.ROOT, "  per plant   %.4f per hour", harvests * yield / hours / plants));
+    }
+
+    /**
+     * Prints a histogram of the (sorted) times to maturity.
+     */
+    private static void printHistogram(long[] maturity) {
+        long min = maturity[0], max = maturity[maturity.length - 1];
+        long width = Math.max(1, (max - min + HISTOGRAM_BUCKETS) / HISTOGRAM_BUCKETS);
+        int[] buckets = new int[HISTOGRAM_BUCKETS];
+
+        for(long time : maturity)
+            buckets[(int) Math.min(HISTOGRAM_BUCKETS - 1, (time - min) / width)]++;
+
+        int largest = Arrays.stream(buckets).max().orElse(1);
+        System.out.println();
+        for(int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            char[] bar = new char[(int) ((long) buckets[i] * HISTOGRAM_WIDTH / largest)];
+            Arrays.fill(bar, '#');
+            System.out.println(String.format(Locale.ROOT, "  %9s | %-" + HISTOGRAM_WIDTH + "s %d",
+                    formatTicks(min + i * width), new String(bar), buckets[i]));
+        }
+    }
+
+    /**
+     * @return the given number of game ticks
+     * in minutes and seconds.
+     */
+    private static String formatTicks(long ticks) {
+        long seconds = ticks / 20;
+        return String.format(Locale.ROOT, "%dm %02ds", seconds / 60, seconds % 60);
+    }
+
+    /**
+     * The outcome of simulating a single plant.
+     */
+    private static final class PlantResult {
+
+        /**
+         * The tick the plant first reached maturity,
+         * or {@code -1} if it never did.
+         */
+        long maturity = -1;
+
+        /**
+         * The number of times the plant was harvested.
+         */
+        long harvests;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.growth;
+
+import com.ki11erwolf.resynth.util.MathUtil;
+
+import java.util.Random;
+
+/**
+ * The growth math of every Resynth plant, in plain Java.
+ *
+ * <p/>This is the one implementation of how likely a plant is to
+ * grow on a random tick (base chance, soil, enhancer and light),
+ * and how much it grows by when it does (random ticks and bonemeal).
+ * It's used by the plant blocks in-game, as well as by the {@link
+ * GrowthSimulator}, so must never depend on Minecraft classes.
+ */
+public final class PlantGrowth {
+
+    /**
+     * The default light level at which light neither
+     * increases nor decreases the growth of a plant.
+     */
+    public static final int DEFAULT_LIGHT_LEVEL_ZERO_POINT = 11;
+
+    /**
+     * The default worth of each light level
+     * above or below the zero point.
+     */
+    public static final double DEFAULT_WORTH_PER_LIGHT_LEVEL = 0.04;
+
+    /**
+     * The default interest added to the worth of
+     * each light level above or below the zero point.
+     */
+    public static final double DEFAULT_INTEREST_PER_LIGHT_LEVEL = 0.01;
+
+    /**
+     * The soil mineral content (as a fraction) a plant needs
+     * before an enhancer below the soil has any effect.
+     */
+    public static final double ENHANCER_THRESHOLD = 0.50;
+
+    /**
+     * The minimum number of stages bonemeal grows a plant by.
+     */
+    public static final int MIN_BONEMEAL_GROWTH = 1;
+
+    /**
+     * The maximum number of stages bonemeal grows a plant by.
+     */
+    public static final int MAX_BONEMEAL_GROWTH = 3;
+
+    //Static class.
+    private PlantGrowth(){}
+
+    // ***************
+    // Chance of Growth
+    // ***************
+
+    /**
+     * Combines the individual growth modifiers of a plant
+     * into the percentage chance it grows on a random tick.
+     *
+     * @param baseGrowth the base percentage chance of the plant type.
+     * @param soilModifier the soils mineral content, as a fraction.
+     * @param enhancerModifier the enhancers mineral content, as a fraction.
+     * @param lightModifier the light multiplier, {@code 1} if growth
+     *                      isn't light dependent.
+     * @return the percentage chance of the plant growing.
+     */
+    public static double chanceOfGrowth(double baseGrowth, double soilModifier,
+                                        double enhancerModifier, double lightModifier) {
+        // Combine soil, enhancer & plant into single probability
+        double growthRate = applyEnhancerModifier(soilModifier, enhancerModifier) * baseGrowth;
+
+        // and return the probability with lighting modifier
+        return lightModifier * growthRate;
+    }
+
+    /**
+     * Adds the mineral content of an enhancer to the mineral content
+     * of the soil, if (and only if) the soil is at or above the
+     * {@link #ENHANCER_THRESHOLD}.
+     *
+     * @param soilModifier the soils mineral content, as a fraction.
+     * @param enhancerModifier the enhancers mineral content, as a fraction.
+     * @return the combined mineral content, as a fraction.
+     */
+    public static double applyEnhancerModifier(double soilModifier, double enhancerModifier) {
+        if(soilModifier >= ENHANCER_THRESHOLD && enhancerModifier != 0)
+            return enhancerModifier + soilModifier;
+        else return soilModifier;
+    }
+
+    /**
+     * Turns the light level of a plant into a growth multiplier.
+     * Each light level above the zero point adds its worth to the
+     * multiplier, and each level below takes its worth away - with
+     * the worth growing by the interest for every level.
+     *
+     * @param lightLevel the light level on the plant.
+     * @param zeroPoint the light level at which the multiplier is {@code 1}.
+     * @param cost the worth of a single light level.
+     * @param interest the amount added to the worth for each light level.
+     * @return the growth multiplier, never less than {@code 0}.
+     */
+    public static double lightLevelToGrowthMultiplier(int lightLevel, int zeroPoint, double cost, double interest) {
+        double multiplier = 1D;
+        int difference;
+
+        if ((difference = lightLevel - zeroPoint) > 0)
+            while(difference != 0) {
+                cost += interest;
+                multiplier += cost;
+                difference--;
+            }
+
+        if (difference < 0)
+            while(difference != 0) {
+                cost += interest;
+                multiplier -= cost;
+                difference++;
+            }
+
+        return Math.max(multiplier, 0D);
+    }
+
+    // ******
+    // Growth
+    // ******
+
+    /**
+     * Gives a plant its single chance at growing on a random tick.
+     *
+     * @param chanceOfGrowth the percentage chance of the plant growing.
+     * @param random the source of randomness.
+     * @return {@code true} if the plant should grow.
+     */
+    public static boolean rollGrowth(double chanceOfGrowth, Random random) {
+        double probability = chanceOfGrowth / 100;
+
+        if(probability <= 0.0D)
+            return false;
+        else if(probability >= 1.0D)
+            return true;
+
+        return random.nextFloat() < probability;
+    }
+
+    /**
+     * @param random the source of randomness.
+     * @return the number of growth stages a plant grows
+     * by when given bonemeal. In the range of {@link
+     * #MIN_BONEMEAL_GROWTH} to {@link #MAX_BONEMEAL_GROWTH}.
+     */
+    public static int bonemealGrowth(Random random) {
+        return MathUtil.getRandomIntegerInRange(random, MIN_BONEMEAL_GROWTH, MAX_BONEMEAL_GROWTH);
+    }
+
+    /**
+     * @param growthStage the current growth stage of the plant.
+     * @param increase the number of stages to grow the plant by.
+     * @param maxGrowthStage the final growth stage of the plant.
+     * @return the new growth stage of the plant, capped at its final stage.
+     */
+    public static int grow(int growthStage, int increase, int maxGrowthStage) {
+        return Math.min(growthStage + increase, maxGrowthStage);
+    }
+}
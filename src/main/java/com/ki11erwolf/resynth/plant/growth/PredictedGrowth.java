@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.growth;
+
+/**
+ * The growth schedule of plants whose growth is predicted rather
+ * than rolled on random ticks, in plain Java.
+ *
+ * <p/>Each plant gets a fixed schedule of growth steps, worked out from
+ * a seed given by its position. Steps fall on a grid of game times,
+ * one interval apart, offset by a phase picked from the seed - and
+ * whether the plant grows on a step is a roll made from the seed and
+ * the step number alone. As a result, the stage of a plant at any game
+ * time can be worked out from any earlier time and the stage it had
+ * then (its anchor), and gives the same answer regardless of which
+ * anchor is used. This is what allows the client to advance plants
+ * itself, while the server only catches up when it needs to.
+ *
+ * <p/>Used by both the server and the client, so must never
+ * depend on Minecraft classes.
+ */
+public final class PredictedGrowth {
+
+    /**
+     * The number of blocks in a chunk section, which each
+     * random tick picks a single block from.
+     */
+    private static final int BLOCKS_PER_SECTION = 16 * 16 * 16;
+
+    //Static class.
+    private PredictedGrowth(){}
+
+    /**
+     * @param packedPos the {@code BlockPos#asLong() packed} position of the plant.
+     * @return the seed that the growth schedule of the plant is worked out from.
+     */
+    public static long seedOf(long packedPos) {
+        return mix(packedPos ^ 0x5DEECE66DL);
+    }
+
+    /**
+     * @param randomTickSpeed the random tick speed game rule.
+     * @return the number of game ticks between growth steps, which is the
+     * average time between random ticks on a single block. {@code 0}
+     * if plants don't get random ticks at all.
+     */
+    public static int stepInterval(int randomTickSpeed) {
+        if(randomTickSpeed <= 0)
+            return 0;
+
+        return Math.max(1, Math.round((float) BLOCKS_PER_SECTION / randomTickSpeed));
+    }
+
+    /**
+     * Works out the stage of a plant at the given game time, from the
+     * stage it had at an earlier time.
+     *
+     * @param seed the seed of the plant ({@link #seedOf(long)}).
+     * @param anchorTime the earlier game time.
+     * @param anchorStage the growth stage of the plant at the earlier time.
+     * @param time the game time to work out the stage at.
+     * @param interval the number of game ticks between growth steps.
+     * @param chanceOfGrowth the percentage chance of the plant growing on a step.
+     * @param cap the highest stage the plant can be predicted to reach.
+     * @return the predicted stage of the plant, never less than the
+     * stage at the earlier time, nor more than the cap.
+     */
+    public static int predictStage(long seed, long anchorTime, int anchorStage, long time,
+                                   int interval, double chanceOfGrowth, int cap) {
+        double probability = chanceOfGrowth / 100;
+        if(interval <= 0 || probability <= 0 || anchorStage >= cap || time <= anchorTime)
+            return anchorStage;
+
+        //Steps fall at (step * interval + phase)
+        long phase = Math.floorMod(seed, (long) interval);
+        long first = Math.floorDiv(anchorTime - phase, interval) + 1;
+        long last = Math.floorDiv(time - phase, interval);
+
+        int stage = anchorStage;
+        for(long step = first; step <= last && stage < cap; step++)
+            if(probability >= 1 || rollStep(seed, step) < probability)
+                stage++;
+
+        return stage;
+    }
+
+    /**
+     * @return the roll of the plant with the given seed
+     * on the given step, in the range {@code [0, 1)}.
+     */
+    private static double rollStep(long seed, long step) {
+        return (mix(seed + step * 0x9E3779B97F4A7C15L) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * The SplitMix64 finalizer. Spreads the bits of
+     * the input evenly over the output.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -134,6 +134,6 @@ public class ItemBulb extends ResynthItem<ItemBulb> {
     @Override
     public void appendHoverText(ItemStack stack, World worldIn, List<ITextComponent> tooltip,
                                ITooltipFlag flagIn){
-        addPlantItemTooltips(tooltip, PREFIX, parentSet);
+        addPlantItemTooltips(tooltip, this, PREFIX, parentSet);
     }
 }
@@ -58,6 +58,13 @@ public class ItemSeeds extends ResynthItem<ItemSeeds> implements IPlantable {
         this.parentSet = plantSet;
     }
 
+    /**
+     * @return the plant set these seeds belong to.
+     */
+    public PlantSet<?, ?> getPlantSet(){
+        return parentSet;
+    }
+
     /**
      * Handles placing the plant type (plant block
      * instance) in the world.
@@ -106,7 +113,7 @@ public class ItemSeeds extends ResynthItem<ItemSeeds> implements IPlantable {
      */
     @Override
     public void appendHoverText(ItemStack stack, @Nullable World worldIn, List<ITextComponent> tooltip, ITooltipFlag flagIn){
-        addPlantItemTooltips(tooltip, String.format("%s_%s", parentSet.getSetTypeName(), PREFIX), parentSet);
+        addPlantItemTooltips(tooltip, this, String.format("%s_%s", parentSet.getSetTypeName(), PREFIX), parentSet);
     }
 
     /**
@@ -51,6 +51,6 @@ public class ItemShard extends ResynthItem<ItemShard> {
     @Override
     public void appendHoverText(ItemStack stack, @Nullable World worldIn, List<ITextComponent> tooltip,
                                ITooltipFlag flagIn){
-        addPlantItemTooltips(tooltip, PREFIX, parentSet);
+        addPlantItemTooltips(tooltip, this, PREFIX, parentSet);
     }
 }
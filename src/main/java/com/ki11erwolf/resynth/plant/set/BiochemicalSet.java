@@ -15,6 +15,7 @@
  */
 package com.ki11erwolf.resynth.plant.set;
 
+import com.ki11erwolf.resynth.metrics.Metric;
 import com.ki11erwolf.resynth.plant.block.BlockBiochemicalPlant;
 import com.ki11erwolf.resynth.plant.item.ItemBulb;
 import com.ki11erwolf.resynth.plant.item.ItemSeeds;
@@ -41,7 +42,7 @@ abstract class BiochemicalSet extends PlantSet<BlockBiochemicalPlant, EntityType
     /**
      * The name of the plant set type.
      */
-    private static final String SET_TYPE_NAME = "biochemical";
+    static final String SET_TYPE_NAME = "biochemical";
 
     /**
      * The static seed hooks instance.
@@ -117,8 +118,8 @@ abstract class BiochemicalSet extends PlantSet<BlockBiochemicalPlant, EntityType
                         continue;
 
                     //and spawn seeds if lucky
-                    dropSeeds(set.getSeedsItem(), event.getEntity().level,
-                            new BlockPos(event.getEntity().position())
+                    dropSeeds(set, event.getEntity().level,
+                            new BlockPos(event.getEntity().position()), Metric.SEEDS_FROM_MOB
                     );
                 }
             }
@@ -147,8 +148,8 @@ abstract class BiochemicalSet extends PlantSet<BlockBiochemicalPlant, EntityType
                         if (!event.getEntity().level.isClientSide) {
                             //Spawn seeds if lucky
                             dropSeeds(
-                                    plantSet.getSeedsItem(), event.getEntity().level,
-                                    new BlockPos(event.getEntity().position())
+                                    plantSet, event.getEntity().level,
+                                    new BlockPos(event.getEntity().position()), Metric.SEEDS_FROM_BULB
                             );
                         }
                     }
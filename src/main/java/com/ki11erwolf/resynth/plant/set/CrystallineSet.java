@@ -15,6 +15,7 @@
  */
 package com.ki11erwolf.resynth.plant.set;
 
+import com.ki11erwolf.resynth.metrics.Metric;
 import com.ki11erwolf.resynth.plant.block.BlockCrystallinePlant;
 import com.ki11erwolf.resynth.plant.item.ItemSeeds;
 import com.ki11erwolf.resynth.plant.item.ItemShard;
@@ -44,7 +45,7 @@ abstract class CrystallineSet extends PlantSet<BlockCrystallinePlant, Block> {
     /**
      * The name of this plant set type.
      */
-    private static final String SET_TYPE_NAME = "crystalline";
+    static final String SET_TYPE_NAME = "crystalline";
 
     /**
      * The single SeedHooks instance for this plant set type.
@@ -117,7 +118,7 @@ abstract class CrystallineSet extends PlantSet<BlockCrystallinePlant, Block> {
 
                 //Spawn
                 if(MathUtil.Probability.newPercentageProbability(spawnChance).randomResult().isTrue()){
-                    dropSeeds(crystallineSet.seedsItem, (World) world, event.getPos());
+                    dropSeeds(crystallineSet, (World) world, event.getPos(), Metric.SEEDS_FROM_ORE);
                     event.setCanceled(true);
                     world.setBlock(event.getPos(), Blocks.AIR.defaultBlockState(), 2);
                 }
@@ -156,12 +157,11 @@ abstract class CrystallineSet extends PlantSet<BlockCrystallinePlant, Block> {
                 if(spawnChance < 0)
                     continue;
 
-                //Spawn
-                for(int j = 0; j < count; j++){
-                    if(MathUtil.Probability.newPercentageProbability(spawnChance).randomResult().isTrue()){
-                        dropSeeds(set.getSeedsItem(), world, pos);
-                    }
-                }
+                //Spawn - one roll for the whole stack
+                dropSeeds(
+                        set, world, pos, Metric.SEEDS_FROM_SHARD,
+                        MathUtil.Probability.newPercentageProbability(spawnChance).randomSuccesses(count)
+                );
                 return;
             }
         }
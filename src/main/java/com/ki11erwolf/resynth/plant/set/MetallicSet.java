@@ -15,6 +15,9 @@
  */
 package com.ki11erwolf.resynth.plant.set;
 
+import com.ki11erwolf.resynth.metrics.Metric;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvent;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
 import com.ki11erwolf.resynth.plant.block.BlockMetallicPlant;
 import com.ki11erwolf.resynth.plant.block.BlockOrganicOre;
 import com.ki11erwolf.resynth.plant.item.ItemSeeds;
@@ -42,7 +45,7 @@ abstract class MetallicSet extends PlantSet<BlockMetallicPlant, Block> {
     /**
      * The name of the plant set type.
      */
-    private static final String SET_TYPE_NAME = "metallic";
+    static final String SET_TYPE_NAME = "metallic";
 
     /**
      * Static seed hooks instance.
@@ -99,6 +102,7 @@ abstract class MetallicSet extends PlantSet<BlockMetallicPlant, Block> {
         @SubscribeEvent
         public void onExplosion(ExplosionEvent.Detonate detonateEvent){
             World world = detonateEvent.getWorld();
+            ResynthEvent event = ResynthEvents.beginSeedHook();
 
             //For each block
             for(BlockPos pos : detonateEvent.getAffectedBlocks()){
@@ -122,10 +126,15 @@ abstract class MetallicSet extends PlantSet<BlockMetallicPlant, Block> {
 
                     //Spawn item.
                     if(MathUtil.Probability.newPercentageProbability(chance).randomResult().isTrue()) {
-                        dropSeeds(set.getSeedsItem(), world, pos);
+                        dropSeeds(set, world, pos, Metric.SEEDS_FROM_EXPLOSION);
                     }
                 }
             }
+
+            if(event != null) ResynthEvents.end(
+                    event, null, new BlockPos(detonateEvent.getExplosion().getPosition()),
+                    "explosion", detonateEvent.getAffectedBlocks().size()
+            );
         }
     }
 }
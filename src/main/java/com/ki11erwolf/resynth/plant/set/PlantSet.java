@@ -22,6 +22,7 @@ import com.ki11erwolf.resynth.plant.block.BlockPlant;
 import com.ki11erwolf.resynth.plant.item.ItemSeeds;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractPlantSetProperties;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractProduceProperties;
+import com.ki11erwolf.resynth.util.TooltipCache;
 import net.minecraft.util.IItemProvider;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 import org.apache.logging.log4j.Logger;
@@ -56,6 +57,12 @@ public abstract class PlantSet<P extends BlockPlant<?>, S extends IForgeRegistry
      */
     private final String setTypeName;
 
+    /**
+     * The name of the textures used by the plant set (e.g. copper).
+     * Defaults to the set name.
+     */
+    private String textureName;
+
     /**
      * The properties for this plant set.
      */
@@ -100,6 +107,7 @@ public abstract class PlantSet<P extends BlockPlant<?>, S extends IForgeRegistry
     PlantSet(String setTypeName, String setName, PlantSetSeedHooks seedHooks, AbstractPlantSetProperties properties){
         this.setTypeName = Objects.requireNonNull(setTypeName);
         this.setName = Objects.requireNonNull(setName);
+        this.textureName = setName;
         this.basicPlantSetProperties = Objects.requireNonNull(properties);
         seedHooks.register();
     }
@@ -208,6 +216,7 @@ public abstract class PlantSet<P extends BlockPlant<?>, S extends IForgeRegistry
             return;
         else isFailure = true;
 
+        TooltipCache.invalidate();
         ResynthAnalytics.send(new PlantSetFailureEvent(setName));
     }
 
@@ -239,6 +248,19 @@ public abstract class PlantSet<P extends BlockPlant<?>, S extends IForgeRegistry
         return this.setName;
     }
 
+    /**
+     * @return The name of the textures used by the plant set (e.g.
+     * copper). Plant sets from different mods for the same resource
+     * share the same textures and models.
+     */
+    public String getTextureName(){
+        return this.textureName;
+    }
+
+    void setTextureName(String textureName){
+        this.textureName = Objects.requireNonNull(textureName);
+    }
+
     /**
      * @return the specific plant block instance
      * in the set.
@@ -285,18 +307,22 @@ public abstract class PlantSet<P extends BlockPlant<?>, S extends IForgeRegistry
 
     protected void setServerPlantSetProperties(AbstractPlantSetProperties serverPlantSetProperties) {
         this.serverPlantSetProperties = Optional.of(serverPlantSetProperties);
+        TooltipCache.invalidate();
     }
 
     protected void setServerPlantSetProduceProperties(AbstractProduceProperties serverPlantSetProduceProperties) {
         this.serverPlantSetProduceProperties = Optional.of(serverPlantSetProduceProperties);
+        TooltipCache.invalidate();
     }
 
     protected void clearServerPlantSetProperties() {
         this.serverPlantSetProperties = Optional.empty();
+        TooltipCache.invalidate();
     }
 
     protected void clearServerPlantSetProduceProperties() {
         this.serverPlantSetProduceProperties = Optional.empty();
+        TooltipCache.invalidate();
     }
 
     /**
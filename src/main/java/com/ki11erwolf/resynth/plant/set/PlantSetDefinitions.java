@@ -0,0 +1,330 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.ResynthPlants;
+import com.ki11erwolf.resynth.plant.set.properties.BiochemicalProperties;
+import com.ki11erwolf.resynth.plant.set.properties.CrystallineProperties;
+import com.ki11erwolf.resynth.plant.set.properties.MetallicProperties;
+import com.ki11erwolf.resynth.plant.set.properties.ProduceProperties;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.ModList;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates plant sets from the Json definition files shipped in the mod
+ * jar, rather than from hard-coded definitions, so that only the plant
+ * sets for installed mods ever get created.
+ *
+ * <p/>Definitions are grouped into one file per mod, named after the mod
+ * id, at {@code data/resynth/plant_sets/<modid>.json}. Only the files of
+ * mods that are actually loaded are read. Each file holds a {@code sets}
+ * object, which maps each set name to its definition:
+ *
+ * <pre>
+ * "sets": {
+ *   "ruby": {
+ *     "type": "crystalline",            // crystalline, metallic or biochemical
+ *     "output": "ruby_gem",             // the item the produce smelts into
+ *     "seed_sources": ["ruby_ore"],     // the blocks (or entities) that drop seeds
+ *     "requires": ["othermod"],         // optional, additional required mods
+ *     "texture": "aluminium",           // optional, the textures to use, if not named after the set
+ *     "properties": { ... },            // the default plant set properties
+ *     "produce": { ... }                // optional, the default produce properties
+ *   }
+ * }
+ * </pre>
+ *
+ * IDs without a namespace belong to the mod the file is for. A plant set
+ * is only created if the mod of every ID it references is loaded, which
+ * is checked by the {@link PlantSetFactory}.
+ */
+public final class PlantSetDefinitions {
+
+    /**
+     * The logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The path, inside the mod jar, of the definition file for a mod.
+     */
+    private static final String DEFINITION_PATH = "/data/" + ResynthMod.MODID + "/plant_sets/%s.json";
+
+    /**Private constructor.*/
+    private PlantSetDefinitions(){}
+
+    /**
+     * Creates and registers the plant sets defined for each of the
+     * given mods. The definition files of mods that aren't loaded
+     * are skipped without being read.
+     *
+     * @param modIDs the mod ids of the mods to create plant sets for.
+     * @return the number of plant sets created.
+     */
+    public static int createAndRegisterSets(String... modIDs) {
+        long start = System.nanoTime();
+        int filesRead = 0, setsCreated = 0;
+
+        for(String modID : modIDs) {
+            if(!ModList.get().isLoaded(modID))
+                continue;
+
+            JsonObject definitions = readDefinitions(modID);
+            if(definitions == null)
+                continue;
+
+            filesRead++;
+            setsCreated += createAndRegisterSets(modID, definitions);
+        }
+
+        LOG.info(String.format(
+                "Created %s plant sets from %s of %s plant set definition files in %.2fms",
+                setsCreated, filesRead, modIDs.length, (System.nanoTime() - start) / 1_000_000D
+        ));
+
+        return setsCreated;
+    }
+
+    /**
+     * Creates and registers every plant set defined in a single definition file.
+     *
+     * @return the number of plant sets created.
+     */
+    private static int createAndRegisterSets(String modID, JsonObject definitions) {
+        int created = 0;
+
+        for(Map.Entry<String, JsonElement> definition : JSONUtils.getAsJsonObject(definitions, "sets").entrySet()) {
+            try {
+                JsonObject json = JSONUtils.convertToJsonObject(definition.getValue(), definition.getKey());
+                PlantSet<?, ?> set = createSet(new ResourceLocation(modID, definition.getKey()), json);
+
+                if(set != null) {
+                    if(json.has("texture"))
+                        set.setTextureName(JSONUtils.getAsString(json, "texture"));
+
+                    set.register();
+                    created++;
+                }
+            } catch (JsonParseException | IllegalArgumentException e) {
+                LOG.error(String.format(
+                        "Invalid definition for the plant set '%s' from mod '%s'", definition.getKey(), modID
+                ), e);
+            }
+        }
+
+        return created;
+    }
+
+    /**
+     * Creates a single plant set from its definition.
+     *
+     * @param id the ID of the plant set, made up of the mod id and set name.
+     * @param definition the Json definition of the plant set.
+     * @return the created plant set, or {@code null} if a required
+     * mod isn't loaded.
+     */
+    private static PlantSet<?, ?> createSet(ResourceLocation id, JsonObject definition) {
+        if(definition.has("requires")) {
+            for(JsonElement required : JSONUtils.getAsJsonArray(definition, "requires")) {
+                String requiredModID = JSONUtils.convertToString(required, "requires");
+
+                if(!ModList.get().isLoaded(requiredModID)) {
+                    LOG.info(String.format(
+                            "Skipping plant set '%s' because the required mod '%s' is not present.",
+                            id, requiredModID
+                    ));
+                    return null;
+                }
+            }
+        }
+
+        String type = JSONUtils.getAsString(definition, "type");
+        ResourceLocation output = getID(id, JSONUtils.getAsString(definition, "output"));
+        ResourceLocation[] seedSources = getIDs(id, JSONUtils.getAsJsonArray(definition, "seed_sources"));
+        JsonObject properties = JSONUtils.getAsJsonObject(definition, "properties");
+        ProduceProperties produce = getProduceProperties(definition);
+
+        switch (type) {
+            case CrystallineSet.SET_TYPE_NAME:
+                return PlantSetFactory.makeCrystallineSet(
+                        id, getCrystallineProperties(properties), produce, output, seedSources
+                );
+            case MetallicSet.SET_TYPE_NAME:
+                return PlantSetFactory.makeMetallicSet(
+                        id, getMetallicProperties(properties), produce, output, seedSources
+                );
+            case BiochemicalSet.SET_TYPE_NAME:
+                return PlantSetFactory.makeBiochemicalSet(
+                        id, getBiochemicalProperties(properties), output, produce, seedSources
+                );
+            default:
+                throw new JsonParseException("Unknown plant set type: " + type);
+        }
+    }
+
+    /**
+     * Reads the definition of every plant set defined for each of the
+     * given mods, whether the mods are loaded or not. Nothing is created.
+     * Used by the integration tests to check the resources of plant sets
+     * from mods that aren't loaded.
+     *
+     * @param modIDs the mod ids of the mods to read the definitions of.
+     * @return the Json definition of each plant set, by plant set ID.
+     */
+    static Map<ResourceLocation, JsonObject> readAllDefinitions(String... modIDs) {
+        Map<ResourceLocation, JsonObject> all = new LinkedHashMap<>();
+
+        for(String modID : modIDs) {
+            JsonObject definitions = readDefinitions(modID);
+            if(definitions == null)
+                continue;
+
+            for(Map.Entry<String, JsonElement> definition : JSONUtils.getAsJsonObject(definitions, "sets").entrySet())
+                all.put(
+                        new ResourceLocation(modID, definition.getKey()),
+                        JSONUtils.convertToJsonObject(definition.getValue(), definition.getKey())
+                );
+        }
+
+        return all;
+    }
+
+    // **********
+    // Properties
+    // **********
+
+    /**
+     * @return the crystalline set properties from the given Json properties.
+     */
+    private static CrystallineProperties getCrystallineProperties(JsonObject properties) {
+        return new CrystallineProperties(
+                JSONUtils.getAsBoolean(properties, "can_bonemeal", false),
+                JSONUtils.getAsFloat(properties, "growth_chance"),
+                JSONUtils.getAsInt(properties, "produce_drops"),
+                JSONUtils.getAsFloat(properties, "seed_chance_from_ore"),
+                JSONUtils.getAsFloat(properties, "seed_chance_from_shard"),
+                JSONUtils.getAsInt(properties, "resources_per_seeds", 2)
+        );
+    }
+
+    /**
+     * @return the metallic set properties from the given Json properties.
+     */
+    private static MetallicProperties getMetallicProperties(JsonObject properties) {
+        return new MetallicProperties(
+                JSONUtils.getAsBoolean(properties, "can_bonemeal", false),
+                JSONUtils.getAsFloat(properties, "growth_chance"),
+                JSONUtils.getAsFloat(properties, "seed_chance_from_ore"),
+                JSONUtils.getAsFloat(properties, "seed_chance_from_organic_ore")
+        );
+    }
+
+    /**
+     * @return the biochemical set properties from the given Json properties.
+     */
+    private static BiochemicalProperties getBiochemicalProperties(JsonObject properties) {
+        return new BiochemicalProperties(
+                JSONUtils.getAsBoolean(properties, "can_bonemeal", false),
+                JSONUtils.getAsFloat(properties, "growth_chance"),
+                JSONUtils.getAsInt(properties, "produce_drops"),
+                JSONUtils.getAsFloat(properties, "seed_chance_from_mob"),
+                JSONUtils.getAsFloat(properties, "seed_chance_from_bulb")
+        );
+    }
+
+    /**
+     * @return the produce properties from the plant set definition,
+     * or the default produce properties if it doesn't define any.
+     */
+    private static ProduceProperties getProduceProperties(JsonObject definition) {
+        if(!definition.has("produce"))
+            return ResynthPlants.DEFAULT_PRODUCE_PROPERTIES;
+
+        JsonObject produce = JSONUtils.getAsJsonObject(definition, "produce");
+        return new ProduceProperties(
+                JSONUtils.getAsInt(produce, "resource_count", 1),
+                JSONUtils.getAsInt(produce, "smelting_time", 200),
+                JSONUtils.getAsFloat(produce, "experience", 2.0F)
+        );
+    }
+
+    // ****
+    // Util
+    // ****
+
+    /**
+     * @return the given ID, in the namespace of the plant
+     * set if the ID doesn't specify a namespace.
+     */
+    private static ResourceLocation getID(ResourceLocation setID, String id) {
+        return id.indexOf(':') == -1 ? new ResourceLocation(setID.getNamespace(), id) : new ResourceLocation(id);
+    }
+
+    /**
+     * @return every ID in the given Json array, in the namespace
+     * of the plant set if an ID doesn't specify a namespace.
+     */
+    private static ResourceLocation[] getIDs(ResourceLocation setID, JsonArray ids) {
+        if(ids.size() == 0)
+            throw new JsonParseException("Expected at least one seed source");
+
+        ResourceLocation[] locations = new ResourceLocation[ids.size()];
+        for(int i = 0; i < locations.length; i++)
+            locations[i] = getID(setID, JSONUtils.convertToString(ids.get(i), "seed_sources"));
+
+        return locations;
+    }
+
+    /**
+     * Reads the plant set definition file for a mod from the mod jar.
+     *
+     * @return the contents of the definition file, or {@code null}
+     * if the mod has no definition file or it can't be read.
+     */
+    private static JsonObject readDefinitions(String modID) {
+        String path = String.format(DEFINITION_PATH, modID);
+        InputStream stream = PlantSetDefinitions.class.getResourceAsStream(path);
+
+        if(stream == null) {
+            LOG.warn("No plant set definition file found for mod: " + modID);
+            return null;
+        }
+
+        try(Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return Objects.requireNonNull(new JsonParser().parse(reader).getAsJsonObject());
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Failed to read plant set definition file: " + path, e);
+            return null;
+        }
+    }
+}
@@ -283,7 +283,7 @@ public class PlantSetFactory {
     private static PlantSet<? extends BlockCrystallinePlant, Block> createCrystallineSet(
             ResourceLocation id, CrystallineProperties config, ProduceProperties produceConfig,
             ResourceLocation outputItemID, ResourceLocation... oreBlockIDs) {
-        String setName = isVanilla(id) ? id.getPath() : combine(id, '_');
+        String setName = getSetName(id);
 
         //Check for additional required mod
         if(!isParentLoaded(outputItemID)) {
@@ -323,7 +323,7 @@ public class PlantSetFactory {
     @SuppressWarnings("DuplicatedCode")
     private static PlantSet<? extends BlockCrystallinePlant, Block> createCrystallineSet(
             ResourceLocation id, CrystallineProperties config, ResourceLocation... oreBlockIDs) {
-        String setName = isVanilla(id) ? id.getPath() : combine(id, '_');
+        String setName = getSetName(id);
         String parentModID = id.getNamespace();
 
         //Check for required mods
@@ -344,7 +344,9 @@ public class PlantSetFactory {
 
         //Create & return new crystalline set
         LOG.info(String.format("Creating Crystalline plant set: '%s' for mod: '%s'.", setName, parentModID));
-        return createNewCrystallineSet(setName, properties, oreBlockIDs);
+        PlantSet<? extends BlockCrystallinePlant, Block> plantSet = createNewCrystallineSet(setName, properties, oreBlockIDs);
+        plantSet.setTextureName(id.getPath());
+        return plantSet;
     }
 
     private static AbstractCrystallineProperties getCrystallineProperties(ResourceLocation id, CrystallineProperties config) {
@@ -383,7 +385,7 @@ public class PlantSetFactory {
     private static PlantSet<? extends BlockMetallicPlant, Block> createMetallicSet(
             ResourceLocation id, MetallicProperties config, ProduceProperties produceConfig,
             ResourceLocation outputItemID, ResourceLocation... oreBlockIDs) {
-        String setName = isVanilla(id) ? id.getPath() : combine(id, '_');
+        String setName = getSetName(id);
 
         //Check for additional required mod
         if(!isParentLoaded(outputItemID)) {
@@ -411,7 +413,7 @@ public class PlantSetFactory {
     @SuppressWarnings("DuplicatedCode")
     private static PlantSet<? extends BlockMetallicPlant, Block> createMetallicSet(
             ResourceLocation id, MetallicProperties config, ResourceLocation... oreBlockIDs) {
-        String setName = isVanilla(id) ? id.getPath() : combine(id, '_');
+        String setName = getSetName(id);
         String parentModID = id.getNamespace();
 
         //Check for required mods
@@ -432,7 +434,9 @@ public class PlantSetFactory {
 
         //Create & return new crystalline set
         LOG.info(String.format("Creating Metallic plant set: '%s' for mod: '%s'.", setName, parentModID));
-        return createNewMetallicSet(setName, properties, oreBlockIDs);
+        PlantSet<? extends BlockMetallicPlant, Block> plantSet = createNewMetallicSet(setName, properties, oreBlockIDs);
+        plantSet.setTextureName(id.getPath());
+        return plantSet;
     }
 
     private static AbstractMetallicProperties getMetallicProperties(ResourceLocation id, MetallicProperties config) {
@@ -472,7 +476,7 @@ public class PlantSetFactory {
     private static PlantSet<? extends BlockBiochemicalPlant, EntityType<?>> createBiochemicalSet(
             ResourceLocation id, BiochemicalProperties config, ResourceLocation outputItemID,
             ProduceProperties produceConfig, ResourceLocation... entityIDs) {
-        String setName = isVanilla(id) ? id.getPath() : combine(id, '_');
+        String setName = getSetName(id);
 
         //Check for additional required mod
         if(!isParentLoaded(outputItemID)) {
@@ -500,7 +504,7 @@ public class PlantSetFactory {
     @SuppressWarnings("DuplicatedCode")
     private static PlantSet<? extends BlockBiochemicalPlant, EntityType<?>> createBiochemicalSet(
             ResourceLocation id, BiochemicalProperties config, ResourceLocation... entityIDs) {
-        String setName = isVanilla(id) ? id.getPath() : combine(id, '_');
+        String setName = getSetName(id);
         String parentModID = id.getNamespace();
 
         //Check for required mods
@@ -521,7 +525,10 @@ public class PlantSetFactory {
 
         //Create & return new crystalline set
         LOG.info(String.format("Creating Biochemical plant set: '%s' for mod: '%s'.", setName, parentModID));
-        return createNewBiochemicalSet(setName, properties, entityIDs);
+        PlantSet<? extends BlockBiochemicalPlant, EntityType<?>> plantSet
+                = createNewBiochemicalSet(setName, properties, entityIDs);
+        plantSet.setTextureName(id.getPath());
+        return plantSet;
     }
 
     private static BiochemicalPropertiesConfig getBiochemicalProperties(ResourceLocation id, BiochemicalProperties config) {
@@ -633,6 +640,10 @@ public class PlantSetFactory {
         return id;
     }
 
+    static String getSetName(ResourceLocation id) {
+        return isVanilla(id) ? id.getPath() : combine(id, '_');
+    }
+
     private static String combine(ResourceLocation id, char separator) {
         return Objects.requireNonNull(id).getNamespace() + separator + id.getPath();
     }
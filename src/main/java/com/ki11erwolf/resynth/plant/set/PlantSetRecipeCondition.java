@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.set;
+
+import com.google.gson.JsonObject;
+import com.ki11erwolf.resynth.ResynthMod;
+import net.minecraft.item.crafting.IRecipeSerializer;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.crafting.CraftingHelper;
+import net.minecraftforge.common.crafting.conditions.ICondition;
+import net.minecraftforge.common.crafting.conditions.IConditionSerializer;
+import net.minecraftforge.event.RegistryEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * A recipe condition attached to plant set recipes generated at build time.
+ * The generated recipe is only loaded if the plant set still defines the
+ * recipe exactly as it was generated; plant set recipes depend on the
+ * config, so when the user changes a recipe value, the generated recipe
+ * is skipped and the recipe is created and injected at runtime instead.
+ */
+class PlantSetRecipeCondition implements ICondition {
+
+    /**
+     * The ID of this condition type.
+     */
+    private static final ResourceLocation ID = new ResourceLocation(ResynthMod.MODID, "plant_set_recipe");
+
+    /**
+     * The ID of the recipe the condition is attached to.
+     */
+    private final ResourceLocation recipeID;
+
+    /**
+     * The description of the recipe definition at generation time.
+     */
+    private final String definition;
+
+    /**
+     * @param recipeID the ID of the recipe the condition is attached to.
+     * @param definition the description of the recipe definition at generation time.
+     */
+    PlantSetRecipeCondition(ResourceLocation recipeID, String definition) {
+        this.recipeID = recipeID;
+        this.definition = definition;
+    }
+
+    @Override
+    public ResourceLocation getID() {
+        return ID;
+    }
+
+    /**
+     * @return {@code true} if the generated recipe should be loaded.
+     */
+    @Override
+    public boolean test() {
+        return PlantSetRecipes.INSTANCE.isGeneratedRecipeCurrent(recipeID, definition);
+    }
+
+    @Override
+    public String toString() {
+        return ID + "(" + recipeID + ": " + definition + ")";
+    }
+
+    // **********
+    // Serializer
+    // **********
+
+    /**
+     * Reads and writes {@link PlantSetRecipeCondition}s from and to recipe json.
+     */
+    enum Serializer implements IConditionSerializer<PlantSetRecipeCondition> {
+
+        /**
+         * Singleton instance of the serializer.
+         */
+        INSTANCE;
+
+        @Override
+        public void write(JsonObject json, PlantSetRecipeCondition value) {
+            json.addProperty("recipe", value.recipeID.toString());
+            json.addProperty("definition", value.definition);
+        }
+
+        @Override
+        public PlantSetRecipeCondition read(JsonObject json) {
+            return new PlantSetRecipeCondition(
+                    new ResourceLocation(JSONUtils.getAsString(json, "recipe")),
+                    JSONUtils.getAsString(json, "definition")
+            );
+        }
+
+        @Override
+        public ResourceLocation getID() {
+            return ID;
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
+    private static class Hooks {
+
+        /**
+         * Registers the condition serializer alongside recipe serializers.
+         */
+        @SubscribeEvent
+        public static void onRegisterRecipeSerializers(RegistryEvent.Register<IRecipeSerializer<?>> event) {
+            CraftingHelper.register(Serializer.INSTANCE);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.ShapelessRecipe;
 import net.minecraft.util.IItemProvider;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.crafting.conditions.ICondition;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.logging.log4j.Logger;
 
@@ -51,6 +52,12 @@ enum PlantSetRecipes implements ResynthRecipes.RecipeProvider {
 
     private Queue<RecipeDefinition<?>> recipeDefinitions = new ArrayDeque<>();
 
+    /**
+     * Every recipe definition ever added, by recipe ID. Unlike {@link
+     * #recipeDefinitions}, kept after the recipes are finalized.
+     */
+    private final Map<ResourceLocation, RecipeDefinition<?>> definitionsByID = new LinkedHashMap<>();
+
     private IRecipe<?>[] finalRecipes;
 
     // ###################
@@ -63,6 +70,7 @@ enum PlantSetRecipes implements ResynthRecipes.RecipeProvider {
         );
 
         recipeDefinitions.add(Objects.requireNonNull(recipe));
+        definitionsByID.put(recipe.getRecipeID(), recipe);
     }
 
     void addCrystallineSeedsRecipe(PlantSet<? extends BlockCrystallinePlant, Block> set, ResourceLocation outputItemID, int count) {
@@ -74,6 +82,14 @@ enum PlantSetRecipes implements ResynthRecipes.RecipeProvider {
         ));
     }
 
+    /**
+     * Adds the furnace recipe that smelts the produce of the given plant set.
+     *
+     * <p/>Every plant set gets its own recipe, even though furnaces match
+     * each one in turn. Vanilla furnaces read the result and cook time of
+     * a recipe without passing the input, and award experience by recipe
+     * ID, so a single recipe can't stand in for the produce of every set.
+     */
     void addProduceRecipe(PlantSet<?, ?> set, ResourceLocation outputItemID, AbstractProduceProperties properties) {
         addProduceRecipe(set, outputItemID, properties.produceYield(), properties.timePerYield(), properties.experiencePoints());
     }
@@ -104,6 +120,56 @@ enum PlantSetRecipes implements ResynthRecipes.RecipeProvider {
         return getFinalRecipes();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return the recipes of every plant set whose items come
+     * only from Minecraft and Resynth. Recipes of sets that depend
+     * on other mods are only ever created at runtime.
+     */
+    @Override
+    public IRecipe<?>[] getGenerated() {
+        List<IRecipe<?>> recipes = new ArrayList<>();
+
+        for(RecipeDefinition<?> definition : definitionsByID.values()) {
+            if(definition.isModDependent())
+                continue;
+
+            try {
+                recipes.add(definition.getRecipe());
+            } catch (MissingResourceException e) {
+                LOG.error("Failed to create recipe for generation", e);
+            }
+        }
+
+        return recipes.toArray(new IRecipe<?>[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a {@link PlantSetRecipeCondition} that only loads the generated
+     * recipe while it still matches its definition, as the definition can
+     * change with the config.
+     */
+    @Override
+    public ICondition getGeneratedCondition(IRecipe<?> recipe) {
+        RecipeDefinition<?> definition = definitionsByID.get(recipe.getId());
+        return definition == null ? null : new PlantSetRecipeCondition(recipe.getId(), definition.describe());
+    }
+
+    /**
+     * @param recipeID the ID of a generated recipe.
+     * @param description the {@link RecipeDefinition#describe() description}
+     *                    of the recipe definition at generation time.
+     * @return {@code true} if the recipe is still defined and its definition
+     * is unchanged since the recipe was generated.
+     */
+    boolean isGeneratedRecipeCurrent(ResourceLocation recipeID, String description) {
+        RecipeDefinition<?> definition = definitionsByID.get(recipeID);
+        return definition != null && definition.describe().equals(description);
+    }
+
     private IRecipe<?>[] getFinalRecipes() {
         if(recipeDefinitions == null)
             return finalRecipes;
@@ -218,6 +284,17 @@ enum PlantSetRecipes implements ResynthRecipes.RecipeProvider {
         public ResourceLocation getRecipeID() {
             return this.id;
         }
+
+        @Override
+        public String describe() {
+            return "crafting " + Arrays.toString(inputItemIDs) + " -> " + outputItemID + " x" + count;
+        }
+
+        @Override
+        public boolean isModDependent() {
+            return RecipeDefinition.isFromOtherMod(outputItemID) || Arrays.stream(inputItemIDs)
+                    .anyMatch(RecipeDefinition::isFromOtherMod);
+        }
     }
 
     private static class FurnaceRecipeDefinition implements RecipeDefinition<FurnaceRecipe> {
@@ -275,6 +352,17 @@ enum PlantSetRecipes implements ResynthRecipes.RecipeProvider {
         public ResourceLocation getRecipeID() {
             return this.id;
         }
+
+        @Override
+        public String describe() {
+            return "smelting " + inputItemID + " -> " + outputItemID + " x" + count
+                    + ", " + experience + "xp, " + time + " ticks";
+        }
+
+        @Override
+        public boolean isModDependent() {
+            return RecipeDefinition.isFromOtherMod(inputItemID) || RecipeDefinition.isFromOtherMod(outputItemID);
+        }
     }
 
     private interface RecipeDefinition<T extends IRecipe<?>> {
@@ -285,6 +373,22 @@ enum PlantSetRecipes implements ResynthRecipes.RecipeProvider {
 
         ResourceLocation getRecipeID();
 
+        /**
+         * @return a description of every value the recipe is created from.
+         * Two definitions with the same description create the same recipe.
+         */
+        String describe();
+
+        /**
+         * @return {@code true} if any item used by the recipe
+         * comes from a mod other than Minecraft or Resynth.
+         */
+        boolean isModDependent();
+
+        static boolean isFromOtherMod(ResourceLocation itemID) {
+            return !itemID.getNamespace().equals("minecraft") && !itemID.getNamespace().equals(ResynthMod.MODID);
+        }
+
         static IItemProvider getItem(ResourceLocation itemID) {
             IItemProvider provider;
 
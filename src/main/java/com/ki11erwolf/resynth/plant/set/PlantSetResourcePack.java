@@ -0,0 +1,467 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.set;
+
+import com.google.common.io.ByteStreams;
+import com.ki11erwolf.resynth.ResynthMod;
+import net.minecraft.resources.IPackFinder;
+import net.minecraft.resources.IPackNameDecorator;
+import net.minecraft.resources.IResourcePack;
+import net.minecraft.resources.ResourcePackInfo;
+import net.minecraft.resources.ResourcePackType;
+import net.minecraft.resources.data.IMetadataSectionSerializer;
+import net.minecraft.resources.data.PackMetadataSection;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.text.StringTextComponent;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A built-in client resource pack that generates the blockstates and
+ * models of every registered plant set in memory, rather than shipping
+ * near-identical static Json files for each plant, seeds and produce.
+ *
+ * <p/>Resources are generated from a small set of templates, one set per
+ * plant set type, at {@code assets/resynth/plant_templates/<type>/}. Each
+ * template is the text of a single resource, with {@code ${texture}} and
+ * {@code ${stage}} placeholders, and is only used if the plant set type
+ * has a template of that name. The {@link PlantSet#getTextureName()
+ * texture name} of a plant set decides which textures it uses.
+ *
+ * <p/>The pack is always enabled, hidden from the resource pack screen,
+ * and placed below every other pack, so resource packs can still replace
+ * any generated resource. A new pack instance is opened on every
+ * resource reload, and it generates its resources on first use.
+ */
+public final class PlantSetResourcePack implements IResourcePack {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The unique ID of the pack.
+     */
+    private static final String PACK_ID = ResynthMod.MODID + "_plant_sets";
+
+    /**
+     * The resource pack format version of Minecraft 1.16.5.
+     */
+    private static final int PACK_FORMAT = 6;
+
+    /**
+     * The path, inside the mod jar, of a template for a plant set type.
+     */
+    private static final String TEMPLATE_PATH = "/assets/" + ResynthMod.MODID + "/plant_templates/%s/%s.json";
+
+    /**
+     * The number of growth stages that have their own plant model.
+     * Metallic plants have an additional blooming stage.
+     */
+    private static final int MODELED_GROWTH_STAGES = 8;
+
+    /**
+     * The generated resources, mapped by their path within the
+     * {@code resynth} namespace. {@code null} until first used.
+     */
+    private Map<String, byte[]> resources;
+
+    /**
+     * Private constructor. Opened by the {@link #register(Consumer) registered}
+     * pack finder on every resource reload.
+     */
+    private PlantSetResourcePack(){}
+
+    /**
+     * Registers the pack finder that adds this pack to the game.
+     *
+     * @param packFinders the function that takes the pack finder,
+     * e.g. {@code ResourcePackList::addPackFinder}.
+     */
+    public static void register(Consumer<IPackFinder> packFinders) {
+        packFinders.accept((packs, factory) -> {
+            ResourcePackInfo pack = ResourcePackInfo.create(
+                    PACK_ID, true, PlantSetResourcePack::new, factory,
+                    ResourcePackInfo.Priority.BOTTOM, IPackNameDecorator.BUILT_IN
+            );
+
+            if(pack != null)
+                packs.accept(pack);
+            else LOG.error("Failed to create the plant set resource pack");
+        });
+    }
+
+    // *********
+    // Resources
+    // *********
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getResource(ResourcePackType type, ResourceLocation location) throws IOException {
+        byte[] resource = hasResource(type, location) ? getGenerated().get(location.getPath()) : null;
+
+        if(resource == null)
+            throw new FileNotFoundException(location.toString());
+
+        return new ByteArrayInputStream(resource);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasResource(ResourcePackType type, ResourceLocation location) {
+        return type == ResourcePackType.CLIENT_RESOURCES
+                && ResynthMod.MODID.equals(location.getNamespace())
+                && getGenerated().containsKey(location.getPath());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<ResourceLocation> getResources(ResourcePackType type, String namespace, String path,
+                                                     int maxDepth, Predicate<String> filter) {
+        if(type != ResourcePackType.CLIENT_RESOURCES || !ResynthMod.MODID.equals(namespace))
+            return Collections.emptyList();
+
+        String directory = path.endsWith("/") ? path : path + "/";
+        List<ResourceLocation> found = new ArrayList<>();
+
+        for(String resource : getGenerated().keySet()) {
+            if(!resource.startsWith(directory))
+                continue;
+
+            String relative = resource.substring(directory.length());
+            String[] parts = relative.split("/");
+
+            if(parts.length <= maxDepth && filter.test(parts[parts.length - 1]))
+                found.add(new ResourceLocation(namespace, resource));
+        }
+
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getNamespaces(ResourcePackType type) {
+        return type == ResourcePackType.CLIENT_RESOURCES
+                ? Collections.singleton(ResynthMod.MODID) : Collections.emptySet();
+    }
+
+    // ****
+    // Pack
+    // ****
+
+    /**
+     * The pack has no root resources (e.g. {@code pack.png}).
+     */
+    @Override
+    public InputStream getRootResource(String fileName) throws IOException {
+        throw new FileNotFoundException(fileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getMetadataSection(IMetadataSectionSerializer<T> deserializer) {
+        if(deserializer != PackMetadataSection.SERIALIZER)
+            return null;
+
+        return (T) new PackMetadataSection(new StringTextComponent("Resynth plant set resources"), PACK_FORMAT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return PACK_ID;
+    }
+
+    /**
+     * Hides the pack from the resource pack screen,
+     * as it can't be disabled anyway.
+     */
+    @Override
+    public boolean isHidden() {
+        return true;
+    }
+
+    /**
+     * Does nothing. The pack holds nothing that needs closing.
+     */
+    @Override
+    public void close() {}
+
+    // **********
+    // Generation
+    // **********
+
+    /**
+     * @return the generated resources, generating them if this is the
+     * first use. Resources are not kept if no plant sets have been
+     * registered yet, so a pack used too early doesn't stay empty.
+     */
+    private synchronized Map<String, byte[]> getGenerated() {
+        if(resources != null)
+            return resources;
+
+        Map<String, byte[]> generated = generate();
+        if(!generated.isEmpty())
+            resources = generated;
+
+        return generated;
+    }
+
+    /**
+     * Generates the resources of every registered plant set.
+     *
+     * @return the generated resources, mapped by their path.
+     */
+    private static Map<String, byte[]> generate() {
+        return generate(PlantSetRegistry.streamPlantSets().map(SetNames::of).collect(Collectors.toList()));
+    }
+
+    /**
+     * Generates the resources of the plant sets with the given names.
+     * Package-private so the integration tests can check the resources
+     * of plant sets that aren't registered.
+     *
+     * @param sets the names of each plant set to generate the resources of.
+     * @return the generated resources, mapped by their path.
+     */
+    static Map<String, byte[]> generate(Collection<SetNames> sets) {
+        long start = System.nanoTime();
+        Map<String, byte[]> generated = new HashMap<>();
+        Map<String, Optional<String>> templates = new HashMap<>();
+
+        for(SetNames set : sets) {
+            for(Template template : Template.values()) {
+                Optional<String> text = templates.computeIfAbsent(
+                        set.setType + "/" + template.fileName,
+                        key -> readTemplate(set.setType, template)
+                );
+
+                text.ifPresent(t -> template.generate(set, t, generated));
+            }
+        }
+
+        if(!generated.isEmpty()) LOG.info(String.format(
+                "Generated %s plant set resources in %.2fms", generated.size(), (System.nanoTime() - start) / 1_000_000D
+        ));
+
+        return generated;
+    }
+
+    /**
+     * Reads a template for a plant set type from the mod jar.
+     *
+     * @return the text of the template, or an empty optional if the
+     * plant set type doesn't have the template, or it can't be read.
+     */
+    private static Optional<String> readTemplate(String setType, Template template) {
+        String path = String.format(TEMPLATE_PATH, setType, template.fileName);
+
+        try(InputStream stream = PlantSetResourcePack.class.getResourceAsStream(path)) {
+            if(stream == null)
+                return Optional.empty();
+
+            return Optional.of(new String(ByteStreams.toByteArray(stream), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.error("Failed to read plant set resource template: " + path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The templates a plant set type can have, and
+     * where each generated resource is placed.
+     */
+    private enum Template {
+
+        /**
+         * The blockstate of the plant block.
+         */
+        PLANT_BLOCKSTATE("plant_blockstate", set -> "blockstates/" + set.plantBlock),
+
+        /**
+         * The block model of each growth stage of the plant block.
+         */
+        PLANT_MODEL("plant_model", set -> "models/block/plant/" + set.textureName + "/plant_${stage}", true),
+
+        /**
+         * The block model of the blooming stage of metallic plants.
+         */
+        BLOOMING_PLANT_MODEL("blooming_plant_model", set -> "models/block/plant/" + set.textureName
+                + "/plant_" + MODELED_GROWTH_STAGES),
+
+        /**
+         * The item model of the seeds.
+         */
+        SEEDS_ITEM_MODEL("seeds_item_model", set -> "models/item/" + set.seedsItem),
+
+        /**
+         * The blockstate of the produce, if it's a block (e.g. organic ore).
+         */
+        PRODUCE_BLOCKSTATE("produce_blockstate", set -> "blockstates/" + set.produceItem),
+
+        /**
+         * The block model of the produce, if it's a block (e.g. organic ore).
+         */
+        PRODUCE_MODEL("produce_model", set -> "models/block/organic_ore/" + set.textureName),
+
+        /**
+         * The item model of the produce.
+         */
+        PRODUCE_ITEM_MODEL("produce_item_model", set -> "models/item/" + set.produceItem);
+
+        /**
+         * The file name of the template.
+         */
+        private final String fileName;
+
+        /**
+         * Gets the path of the generated resource, without the file extension.
+         */
+        private final Function<SetNames, String> path;
+
+        /**
+         * {@code true} if a resource is generated for each modeled growth stage.
+         */
+        private final boolean staged;
+
+        Template(String fileName, Function<SetNames, String> path) {
+            this(fileName, path, false);
+        }
+
+        Template(String fileName, Function<SetNames, String> path, boolean staged) {
+            this.fileName = fileName;
+            this.path = path;
+            this.staged = staged;
+        }
+
+        /**
+         * Generates the resources for this template for the given plant set.
+         *
+         * @param set the names of the plant set.
+         * @param template the text of the template.
+         * @param generated the map the generated resources are put in.
+         */
+        private void generate(SetNames set, String template, Map<String, byte[]> generated) {
+            String path = this.path.apply(set) + ".json";
+            String text = template.replace("${texture}", set.textureName);
+
+            if(!staged) {
+                generated.put(path, text.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            for(int stage = 0; stage < MODELED_GROWTH_STAGES; stage++) {
+                String stageName = Integer.toString(stage);
+                generated.put(
+                        path.replace("${stage}", stageName),
+                        text.replace("${stage}", stageName).getBytes(StandardCharsets.UTF_8)
+                );
+            }
+        }
+
+    }
+
+    /**
+     * The names the resources of a single plant set are generated from:
+     * its type and texture name, and the registry names of its plant,
+     * seeds and produce, all in the {@code resynth} namespace.
+     */
+    static final class SetNames {
+
+        /**
+         * The name of the plant set type, which decides the templates used.
+         */
+        private final String setType;
+
+        /**
+         * The name of the textures the plant set uses.
+         */
+        private final String textureName;
+
+        /**
+         * The registry name path of the plant block.
+         */
+        private final String plantBlock;
+
+        /**
+         * The registry name path of the seeds item.
+         */
+        private final String seedsItem;
+
+        /**
+         * The registry name path of the produce item or block.
+         */
+        private final String produceItem;
+
+        /**
+         * @param setType the name of the plant set type.
+         * @param textureName the name of the textures the plant set uses.
+         * @param plantBlock the registry name path of the plant block.
+         * @param seedsItem the registry name path of the seeds item.
+         * @param produceItem the registry name path of the produce item or block.
+         */
+        SetNames(String setType, String textureName, String plantBlock, String seedsItem, String produceItem) {
+            this.setType = Objects.requireNonNull(setType);
+            this.textureName = Objects.requireNonNull(textureName);
+            this.plantBlock = Objects.requireNonNull(plantBlock);
+            this.seedsItem = Objects.requireNonNull(seedsItem);
+            this.produceItem = Objects.requireNonNull(produceItem);
+        }
+
+        /**
+         * @return the names of the given registered plant set.
+         */
+        static SetNames of(PlantSet<?, ?> set) {
+            return new SetNames(
+                    set.getSetTypeName(), set.getTextureName(), getPath(set.getPlantBlock().getRegistryName()),
+                    getPath(set.getSeedsItem().getRegistryName()), getPath(set.getProduceItem().asItem().getRegistryName())
+            );
+        }
+
+        /**
+         * @return the path of the given registry name.
+         */
+        private static String getPath(@Nullable ResourceLocation registryName) {
+            return Objects.requireNonNull(registryName, "Plant set object not registered").getPath();
+        }
+    }
+}
@@ -15,10 +15,15 @@
  */
 package com.ki11erwolf.resynth.plant.set;
 
+import com.ki11erwolf.resynth.metrics.Metric;
+import com.ki11erwolf.resynth.metrics.ResynthMetrics;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvent;
+import com.ki11erwolf.resynth.metrics.jfr.ResynthEvents;
 import com.ki11erwolf.resynth.packet.ClientAVEffectPacket;
 import com.ki11erwolf.resynth.packet.Packet;
-import com.ki11erwolf.resynth.util.MinecraftUtil;
+import com.ki11erwolf.resynth.util.DropBuffer;
 import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
@@ -65,20 +70,47 @@ class PlantSetSeedHooks {
      * Handles spawning plant seeds in the world in a given position.
      * This will also spawn the particle and sound effects.
      *
-     * @param seeds the seeds item to spawn.
+     * @param set the plant set whose seeds to spawn.
      * @param world the world to spawn the seeds in.
      * @param pos the position in the world to spawn the seeds in.
+     * @param source the metric representing where the seeds came
+     *               from (e.g. {@link Metric#SEEDS_FROM_ORE}).
      */
-    static void dropSeeds(Item seeds, World world, BlockPos pos){
-        spawnSeedsStack(seeds, world, pos);
+    static void dropSeeds(PlantSet<?, ?> set, World world, BlockPos pos, Metric source){
+        dropSeeds(set, world, pos, source, 1);
+    }
+
+    /**
+     * Handles spawning a number of plant seeds in the world in a
+     * given position, as a single stack. The particle and sound
+     * effects are only spawned once, regardless of the amount.
+     *
+     * @param set the plant set whose seeds to spawn.
+     * @param world the world to spawn the seeds in.
+     * @param pos the position in the world to spawn the seeds in.
+     * @param source the metric representing where the seeds came
+     *               from (e.g. {@link Metric#SEEDS_FROM_ORE}).
+     * @param amount the number of seeds to spawn. Nothing is
+     *               spawned if {@code 0} or less.
+     */
+    static void dropSeeds(PlantSet<?, ?> set, World world, BlockPos pos, Metric source, int amount){
+        if(amount <= 0)
+            return;
+
+        ResynthEvent event = ResynthEvents.beginSeedHook();
+        spawnSeedsStack(set.getSeedsItem(), amount, world, pos);
         playEffects(pos, world);
+        ResynthMetrics.count(source, set.getSetTypeName(), world, amount);
+
+        ResynthEvents.end(event, set.getSetName(), pos, source.getDisplayName(), amount);
     }
 
     /**
-     * Spawns the given item in the world at the given position.
+     * Drops the given amount of the given item in the world at
+     * the given position, through the {@link DropBuffer}.
      */
-    private static void spawnSeedsStack(Item seeds, World world, BlockPos pos){
-        MinecraftUtil.spawnItemInWorld(seeds, world, pos);
+    private static void spawnSeedsStack(Item seeds, int amount, World world, BlockPos pos){
+        DropBuffer.drop(new ItemStack(seeds, amount), world, pos);
     }
 
     /**
@@ -50,7 +50,7 @@ public class PlantSetTooltips {
             return;
 
         //Spacing
-        new ExpandingTooltip().setCondition(CommonRKeys.SHIFT.rKey.query() || CommonRKeys.CONTROL.rKey.query())
+        new ExpandingTooltip().setCondition(CommonRKeys.SHIFT.isPressed() || CommonRKeys.CONTROL.isPressed())
                 .setExpandedTooltip(Tooltip::addBlankLine).setCollapsedTooltip((collapsedTooltip) -> {})
                 .write(tooltip);
 
@@ -18,9 +18,17 @@ package com.ki11erwolf.resynth.proxy;
 import com.ki11erwolf.resynth.ResynthMod;
 import com.ki11erwolf.resynth.block.ResynthBlocks;
 import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import com.ki11erwolf.resynth.plant.growth.GrowthPrediction;
 import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import com.ki11erwolf.resynth.plant.set.PlantSetResourcePack;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.RenderTypeLookup;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import org.apache.logging.log4j.Logger;
@@ -35,7 +43,16 @@ public class ClientProxy extends ServerProxy {
      */
     private static final Logger LOG = ResynthMod.getNewLogger();
 
+    /**
+     * The number of game ticks between the client advancing its predicted plants.
+     */
+    private static final int GROWTH_PREDICTION_INTERVAL = 20;
+
     public ClientProxy() {
+        //Null when running data generators
+        if(Minecraft.getInstance() != null)
+            PlantSetResourcePack.register(Minecraft.getInstance().getResourcePackRepository()::addPackFinder);
+
         LOG.info("Resynth ClientProxy initialized!");
     }
 
@@ -60,4 +77,24 @@ public class ClientProxy extends ServerProxy {
             return null;
         });
     }
-}
\ No newline at end of file
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+    private static class Hooks {
+
+        /**
+         * Advances the predicted plants in the client world.
+         */
+        @SubscribeEvent
+        public static void onClientTick(TickEvent.ClientTickEvent event) {
+            ClientWorld world = Minecraft.getInstance().level;
+
+            if(event.phase == TickEvent.Phase.END && world != null
+                    && world.getGameTime() % GROWTH_PREDICTION_INTERVAL == 0)
+                GrowthPrediction.predict(world);
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import com.ki11erwolf.resynth.features.ResynthFeatures;
 import com.ki11erwolf.resynth.packet.Packet;
+import com.ki11erwolf.resynth.util.MathUtil;
+import com.ki11erwolf.resynth.world.ResynthIndex;
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
 import net.minecraft.util.RegistryKey;
@@ -55,10 +57,26 @@ public class ServerProxy implements Proxy {
         ResynthAnalytics.init();
         Packet.init();
         ResynthFeatures.init();
+        ResynthIndex.init();
 
+        applyRandomSeed();
         printItemAndBlockRegisters();
     }
 
+    /**
+     * Makes Resynth's randomness deterministic if a seed is given in
+     * the config - and not already given as a system property.
+     */
+    private void applyRandomSeed(){
+        int seed = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getDeterministicRandomSeed();
+
+        if(seed == 0 || System.getProperty(MathUtil.SEED_PROPERTY) != null)
+            return;
+
+        MathUtil.setSeed(seed);
+        LOG.info("Using deterministic randomness with the seed: " + seed);
+    }
+
     /**
      * Prints every registered block and item to the console
      * if the debug setting is enabled. This helps with adding
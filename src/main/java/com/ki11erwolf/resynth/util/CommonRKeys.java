@@ -16,6 +16,10 @@
 package com.ki11erwolf.resynth.util;
 
 import com.ki11erwolf.resynth.ResynthMod;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 import org.apache.logging.log4j.Logger;
 
 /**
@@ -26,6 +30,12 @@ import org.apache.logging.log4j.Logger;
  * which will return the enums RKey pointing to the key/keys the enum
  * says it does. TLDR; CommonKeys enums each hold an RKey for itself,
  * the key.
+ *
+ * <p/>Each enum also holds the pressed state of its key, polled
+ * once per frame, which can be read with {@link #isPressed()}.
+ * This is considerably cheaper than querying the RKey directly,
+ * and guarantees every tooltip drawn in a frame sees the same
+ * key state.
  */
 public enum CommonRKeys {
 
@@ -60,6 +70,12 @@ public enum CommonRKeys {
      */
     public final RKey rKey;
 
+    /**
+     * The pressed state of {@link #rKey} as of the start of
+     * the current frame.
+     */
+    private boolean pressed;
+
     /**
      * Creates a new RKey holding enum basically.
      *
@@ -82,4 +98,44 @@ public enum CommonRKeys {
     CommonRKeys(RKey.Mode mode, CommonRKeys left, CommonRKeys right){
         this(new RKey(mode, left.rKey.getKeyCodes()[0], right.rKey.getKeyCodes()[0]));
     }
+
+    /**
+     * @return {@code true} if the key/keys referenced by this
+     * enums {@link #rKey} were pressed at the start of the
+     * current frame. Only ever {@code true} on the client.
+     */
+    public boolean isPressed(){
+        return pressed;
+    }
+
+    /**
+     * @return the pressed state of the {@link #SHIFT}, {@link
+     * #CONTROL} and {@link #ALT} keys, packed into the first
+     * three bits of an integer in that order.
+     */
+    public static int getModifierState(){
+        return (SHIFT.pressed ? 1 : 0) | (CONTROL.pressed ? 2 : 0) | (ALT.pressed ? 4 : 0);
+    }
+
+    /**
+     * Queries and stores the pressed state of every CommonRKey.
+     */
+    private static void poll(){
+        for(CommonRKeys commonRKey : CommonRKeys.values())
+            commonRKey.pressed = commonRKey.rKey.query();
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onRenderTick(TickEvent.RenderTickEvent event){
+            if(event.phase == TickEvent.Phase.START)
+                poll();
+        }
+    }
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.util;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.DropBufferConfig;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Collects the items dropped by plants and seed sources during a tick,
+ * and spawns them together at the end of the tick - rather than each
+ * drop spawning its own item entity as soon as it's dropped.
+ *
+ * <p/>Identical items dropped close together (within the same 2x2x2
+ * cell of blocks) are merged, and spawned as a single item entity per
+ * full stack. Farms and mob grinders that drop a lot of the same item
+ * in the same place then create far fewer item entities.
+ *
+ * <p/>If a chunk already has too many item entities, new drops in that
+ * chunk are first added to matching item entities already there. Any
+ * left over are held back and tried again next tick, until the chunk
+ * has room or the drop has been held back for too long, at which point
+ * it's spawned anyway.
+ *
+ * <p/>When the server stops, or a world unloads, every drop still
+ * buffered or held back is spawned right away, regardless of how
+ * many item entities the chunk has, so none are lost.
+ */
+public final class DropBuffer {
+
+    /**
+     * The logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * Configuration settings for the drop buffer.
+     */
+    private static final DropBufferConfig CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(DropBufferConfig.class);
+
+    /**
+     * The number of bits block positions are shifted by
+     * to get the cell drops are merged within.
+     */
+    private static final int CELL_SHIFT = 1;
+
+    /**
+     * The buffered drops of each world. Only ever
+     * used from the server thread.
+     */
+    private static final Map<IWorld, Long2ObjectMap<List<Drop>>> BUFFERS = new WeakHashMap<>();
+
+    /**Private constructor.*/
+    private DropBuffer(){}
+
+    /**
+     * Drops the given item stack in the world at the given position.
+     * The stack is spawned at the end of the tick, merged with
+     * any identical stacks dropped close by.
+     *
+     * <p/>On the client, or when the drop buffer is disabled,
+     * the stack is spawned right away instead.
+     *
+     * @param stack the item stack to drop. Not modified.
+     * @param world the world to drop the stack in.
+     * @param pos the position to drop the stack at.
+     */
+    public static void drop(ItemStack stack, World world, BlockPos pos) {
+        if(stack.isEmpty())
+            return;
+
+        if(!(world instanceof ServerWorld) || !CONFIG.isEnabled()) {
+            MinecraftUtil.spawnItemStackInWorld(stack.copy(), world, pos);
+            return;
+        }
+
+        long cell = BlockPos.asLong(pos.getX() >> CELL_SHIFT, pos.getY() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+        List<Drop> drops = BUFFERS.computeIfAbsent(world, w -> new Long2ObjectLinkedOpenHashMap<>())
+                .computeIfAbsent(cell, c -> new ArrayList<>(2));
+
+        for(Drop drop : drops) {
+            if(drop.matches(stack)) {
+                drop.count += stack.getCount();
+                return;
+            }
+        }
+
+        drops.add(new Drop(stack, pos.immutable()));
+    }
+
+    /**
+     * Spawns the buffered drops of the given world, holding back
+     * drops in chunks that already have too many item entities.
+     *
+     * @param world the world to spawn the drops in.
+     */
+    private static void flush(ServerWorld world) {
+        Long2ObjectMap<List<Drop>> buffer = BUFFERS.get(world);
+        if(buffer == null || buffer.isEmpty())
+            return;
+
+        //The item entities in each chunk drops are spawned in, queried at most once per tick.
+        Long2ObjectMap<List<ItemEntity>> chunks = new Long2ObjectOpenHashMap<>();
+        int maxEntities = CONFIG.getMaxItemEntitiesPerChunk(), maxDeferred = CONFIG.getMaxDeferredTicks();
+
+        for(Iterator<List<Drop>> cells = buffer.values().iterator(); cells.hasNext();) {
+            List<Drop> drops = cells.next();
+
+            for(Iterator<Drop> iterator = drops.iterator(); iterator.hasNext();) {
+                Drop drop = iterator.next();
+                ChunkPos chunkPos = new ChunkPos(drop.pos);
+                List<ItemEntity> entities = chunks.computeIfAbsent(
+                        chunkPos.toLong(), chunk -> getItemEntities(world, chunkPos)
+                );
+
+                if(entities.size() >= maxEntities) {
+                    drop.count = addToExisting(drop, entities);
+
+                    if(drop.count > 0 && ++drop.age < maxDeferred)
+                        continue;
+                }
+
+                spawn(drop, world, entities);
+                iterator.remove();
+            }
+
+            if(drops.isEmpty())
+                cells.remove();
+        }
+    }
+
+    /**
+     * Spawns every buffered drop of the given world right away,
+     * including drops being held back, ignoring the limit on item
+     * entities per chunk. The world's buffer is then discarded.
+     * Used before the drops would be lost, or when the item entities
+     * of an area are about to be removed.
+     *
+     * @param world the world to spawn the drops in.
+     * @return the number of items that could not be spawned.
+     */
+    public static int spawnAll(ServerWorld world) {
+        Long2ObjectMap<List<Drop>> buffer = BUFFERS.remove(world);
+        if(buffer == null)
+            return 0;
+
+        List<ItemEntity> spawned = new ArrayList<>();
+        int lost = 0;
+
+        for(List<Drop> drops : buffer.values())
+            for(Drop drop : drops)
+                lost += spawn(drop, world, spawned);
+
+        return lost;
+    }
+
+    /**
+     * Spawns a drop as one item entity per full stack.
+     *
+     * @return the number of items that could not be spawned.
+     */
+    private static int spawn(Drop drop, ServerWorld world, List<ItemEntity> entities) {
+        int maxStackSize = drop.stack.getMaxStackSize();
+        int lost = 0;
+
+        while(drop.count > 0) {
+            ItemStack stack = drop.stack.copy();
+            stack.setCount(Math.min(drop.count, maxStackSize));
+            drop.count -= stack.getCount();
+
+            ItemEntity entity = new ItemEntity(world, drop.pos.getX(), drop.pos.getY(), drop.pos.getZ(), stack);
+            if(world.addFreshEntity(entity))
+                entities.add(entity);
+            else lost += stack.getCount();
+        }
+
+        return lost;
+    }
+
+    /**
+     * Adds as much of a drop as possible to matching
+     * item entities that are already in the world.
+     *
+     * @return the amount of the drop left over.
+     */
+    private static int addToExisting(Drop drop, List<ItemEntity> entities) {
+        int remaining = drop.count;
+
+        for(ItemEntity entity : entities) {
+            if(remaining == 0)
+                break;
+
+            ItemStack existing = entity.getItem();
+            if(!entity.isAlive() || !drop.matches(existing))
+                continue;
+
+            int added = Math.min(remaining, existing.getMaxStackSize() - existing.getCount());
+            if(added <= 0)
+                continue;
+
+            ItemStack grown = existing.copy();
+            grown.grow(added);
+            entity.setItem(grown);
+            remaining -= added;
+        }
+
+        return remaining;
+    }
+
+    /**
+     * @return every item entity in the given chunk.
+     */
+    private static List<ItemEntity> getItemEntities(ServerWorld world, ChunkPos chunk) {
+        return world.getEntitiesOfClass(ItemEntity.class, new AxisAlignedBB(
+                chunk.getMinBlockX(), 0, chunk.getMinBlockZ(),
+                chunk.getMaxBlockX() + 1, world.getMaxBuildHeight(), chunk.getMaxBlockZ() + 1
+        ));
+    }
+
+    /**
+     * A single buffered drop: an amount of an item stack dropped
+     * at a position, possibly merged from many smaller drops.
+     */
+    private static class Drop {
+
+        /**
+         * The dropped item stack. Its count is unused.
+         */
+        private final ItemStack stack;
+
+        /**
+         * The position the drop is spawned at.
+         */
+        private final BlockPos pos;
+
+        /**
+         * The total amount of the item stack dropped.
+         */
+        private int count;
+
+        /**
+         * The number of ticks the drop has been held back for.
+         */
+        private int age;
+
+        /**
+         * @param stack the dropped item stack.
+         * @param pos the position the drop is spawned at.
+         */
+        private Drop(ItemStack stack, BlockPos pos) {
+            this.stack = stack.copy();
+            this.pos = pos;
+            this.count = stack.getCount();
+        }
+
+        /**
+         * @return {@code true} if the given stack is the same
+         * item, with the same NBT, as this drop.
+         */
+        private boolean matches(ItemStack other) {
+            return ItemStack.isSame(stack, other) && ItemStack.tagMatches(stack, other);
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onWorldTick(TickEvent.WorldTickEvent event) {
+            if(event.phase == TickEvent.Phase.END && event.world instanceof ServerWorld)
+                flush((ServerWorld) event.world);
+        }
+
+        /**
+         * Spawns every buffered drop while the worlds
+         * are still to be saved.
+         */
+        @SubscribeEvent
+        public static void onServerStopping(FMLServerStoppingEvent event) {
+            for(ServerWorld world : event.getServer().getAllLevels())
+                spawnAll(world);
+        }
+
+        @SubscribeEvent
+        public static void onWorldUnload(WorldEvent.Unload event) {
+            if(!(event.getWorld() instanceof ServerWorld)) {
+                BUFFERS.remove(event.getWorld());
+                return;
+            }
+
+            int lost = spawnAll((ServerWorld) event.getWorld());
+            if(lost > 0)
+                LOG.warn(String.format(
+                        "Could not spawn %s buffered items because the world is unloading.", lost
+                ));
+        }
+    }
+}
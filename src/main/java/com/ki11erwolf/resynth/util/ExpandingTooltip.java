@@ -85,7 +85,7 @@ public class ExpandingTooltip {
      * @return {@code this;}
      */
     public ExpandingTooltip setConditionToShiftDown(){
-        this.conditionMet = CommonRKeys.SHIFT.rKey.query();
+        this.conditionMet = CommonRKeys.SHIFT.isPressed();
         return this;
     }
 
@@ -97,7 +97,7 @@ public class ExpandingTooltip {
      * @return {@code this;}
      */
     public ExpandingTooltip setConditionToControlDown(){
-        this.conditionMet = CommonRKeys.CONTROL.rKey.query();
+        this.conditionMet = CommonRKeys.CONTROL.isPressed();
         return this;
     }
 
@@ -109,7 +109,7 @@ public class ExpandingTooltip {
      * @return {@code this;}
      */
     public ExpandingTooltip setConditionToAltDown(){
-        this.conditionMet = CommonRKeys.ALT.rKey.query();
+        this.conditionMet = CommonRKeys.ALT.isPressed();
         return this;
     }
 
@@ -156,7 +156,7 @@ public class ExpandingTooltip {
      * @return {@code this;}
      */
     public ExpandingTooltip setCtrlForDescription(Tooltip expanded){
-        boolean isFiring = CommonRKeys.CONTROL.rKey.query();
+        boolean isFiring = CommonRKeys.CONTROL.isPressed();
 
         setCondition(isFiring && Tooltip.areTooltipsEnabled())
                 .setCollapsedTooltip(Tooltip.areTooltipsEnabled() ? CommonTooltips.CTRL_FOR_DESCRIPTION : CommonTooltips.NULL)
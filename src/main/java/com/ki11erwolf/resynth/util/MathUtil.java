@@ -18,6 +18,8 @@ package com.ki11erwolf.resynth.util;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 /**
@@ -28,14 +30,113 @@ import java.util.function.Function;
 public final class MathUtil {
 
     /**
-     * Static final instance of {@link Random} to
-     * prevent unneeded object creation.
+     * The system property that, when set to a number, turns on
+     * deterministic randomness using the number as the seed.
+     * Meant for benchmarks and tests.
      */
-    private static final Random RANDOM_INSTANCE = new Random();
+    public static final String SEED_PROPERTY = "resynth.random.seed";
+
+    /**
+     * Each threads own source of randomness. Keeps threads (such as the
+     * client and server threads) from contending over a single shared
+     * {@link Random}.
+     */
+    private static final ThreadLocal<ThreadRandom> RANDOM = ThreadLocal.withInitial(ThreadRandom::new);
+
+    /**
+     * The number of trials at or below which {@link #sampleBinomial(Random,
+     * int, double)} rolls each trial, which is cheaper than the logarithms
+     * needed to skip over trials.
+     */
+    private static final int SMALL_TRIALS = 16;
+
+    /**
+     * Incremented every time the seed changes, so every
+     * thread knows to recreate its source of randomness.
+     */
+    private static volatile int generation;
+
+    /**
+     * {@code true} if randomness is currently deterministic.
+     */
+    private static volatile boolean deterministic;
+
+    /**
+     * The seed used while randomness is deterministic.
+     */
+    private static volatile long seed;
+
+    static {
+        String property = System.getProperty(SEED_PROPERTY);
+
+        if(property != null && !property.trim().isEmpty())
+            setSeed(Long.parseLong(property.trim()));
+    }
 
     //Static class.
     private MathUtil(){}
 
+    // **********
+    // Randomness
+    // **********
+
+    /**
+     * Gets the calling threads own source of randomness. The returned
+     * object must not be shared with, or passed to, other threads.
+     *
+     * <p/>If {@link #setSeed(long) deterministic}, the sequence of values
+     * a thread gets depends only on the seed and the name of the thread.
+     *
+     * @return the calling threads {@link Random}.
+     */
+    public static Random getRandom() {
+        ThreadRandom random = RANDOM.get();
+        random.update();
+        return random;
+    }
+
+    /**
+     * Makes all randomness that comes from this class
+     * deterministic, using the given seed. Every thread
+     * starts its sequence over from the new seed.
+     *
+     * @param seed the seed.
+     */
+    public static synchronized void setSeed(long seed) {
+        MathUtil.seed = seed;
+        MathUtil.deterministic = true;
+        generation++;
+    }
+
+    /**
+     * Turns off deterministic randomness, returning
+     * every thread to a randomly seeded sequence.
+     */
+    public static synchronized void clearSeed() {
+        MathUtil.deterministic = false;
+        generation++;
+    }
+
+    /**
+     * @return {@code true} if randomness has been made
+     * deterministic using {@link #setSeed(long)}.
+     */
+    public static boolean isDeterministic() {
+        return deterministic;
+    }
+
+    /**
+     * @return the seed used while randomness is
+     * {@link #isDeterministic() deterministic}.
+     */
+    public static long getSeed() {
+        return seed;
+    }
+
+    // ****
+    // Math
+    // ****
+
     /**
      * Rounds any double value (normal, half up rounding) to a certain number of
      * decimal places. Correctly shortens floating point values with too many
@@ -71,7 +172,7 @@ public final class MathUtil {
      * @return the random integer in range.
      */
     public static int getRandomIntegerInRange(int min, int max) {
-        return getRandomIntegerInRange(RANDOM_INSTANCE, min, max);
+        return getRandomIntegerInRange(getRandom(), min, max);
     }
 
     /**
@@ -92,6 +193,82 @@ public final class MathUtil {
         return random.nextInt((max - min) + 1) + min;
     }
 
+    /**
+     * Draws the number of successes out of a number of independent
+     * trials that all succeed with the same probability, in a single
+     * draw - rather than rolling each trial.
+     *
+     * <p/>The result is exact. A small number of trials is rolled
+     * directly. For anything larger, only the successes (or failures,
+     * if they're expected to be fewer) are visited, by {@link
+     * #sampleGeometric(Random, double) skipping} straight from one
+     * to the next, so rare events over many trials are cheap.
+     *
+     * @param random the source of randomness.
+     * @param trials the number of trials.
+     * @param probability the probability of a single trial succeeding.
+     * @return the number of successful trials, from {@code 0} to {@code trials}.
+     */
+    public static int sampleBinomial(Random random, int trials, double probability) {
+        if(trials <= 0 || probability <= 0)
+            return 0;
+        if(probability >= 1)
+            return trials;
+
+        int successes = 0;
+        if(trials <= SMALL_TRIALS) {
+            for(int i = 0; i < trials; i++)
+                if(random.nextDouble() < probability)
+                    successes++;
+
+            return successes;
+        }
+
+        if(probability > 0.5)
+            return trials - sampleBinomial(random, trials, 1 - probability);
+
+        double logFailure = Math.log1p(-probability);
+        long remaining = trials;
+
+        //Skip the failures, then take the success, until out of trials
+        while((remaining -= skipFailures(random, logFailure)) > 0) {
+            successes++;
+            remaining--;
+        }
+
+        return successes;
+    }
+
+    /**
+     * Draws the number of independent trials that fail before the
+     * first success, where every trial succeeds with the same probability,
+     * in a single draw - rather than rolling each trial.
+     *
+     * <p/>Used to skip straight to the next success in a run of trials.
+     *
+     * @param random the source of randomness.
+     * @param probability the probability of a single trial succeeding.
+     * @return the number of failed trials before the first success, from
+     * {@code 0} up. {@link Long#MAX_VALUE} if the probability is {@code 0}.
+     */
+    public static long sampleGeometric(Random random, double probability) {
+        if(probability >= 1)
+            return 0;
+        if(probability <= 0)
+            return Long.MAX_VALUE;
+
+        return skipFailures(random, Math.log1p(-probability));
+    }
+
+    /**
+     * {@link #sampleGeometric(Random, double)} for a probability between
+     * {@code 0} and {@code 1} (exclusive), given as {@code log(1 - probability)}
+     * so it's only calculated once for a run of draws.
+     */
+    private static long skipFailures(Random random, double logFailure) {
+        return (long) Math.floor(Math.log(1 - random.nextDouble()) / logFailure);
+    }
+
     public static double within(double in, double min, double max){
         if(in > max) return max;
         else return Math.max(in, min);
@@ -145,9 +322,21 @@ public final class MathUtil {
             else if (probability >= 1.0D)
                 return new Result(true);
             else if (probability == 0.50D)
-                return new Result(RANDOM_INSTANCE.nextBoolean());
+                return new Result(getRandom().nextBoolean());
+
+            return new Result(getRandom().nextFloat() < probability);
+        }
 
-            return new Result(RANDOM_INSTANCE.nextFloat() < probability);
+        /**
+         * Rolls this probability once for each of the given
+         * number of trials, in a single {@link #sampleBinomial(Random,
+         * int, double) draw}.
+         *
+         * @param trials the number of trials.
+         * @return the number of trials that succeeded.
+         */
+        public int randomSuccesses(int trials) {
+            return sampleBinomial(getRandom(), trials, probability);
         }
 
         public double getProbability() {
@@ -205,4 +394,73 @@ public final class MathUtil {
             }
         }
     }
+
+    /**
+     * A {@link Random} that belongs to a single thread, backed by a
+     * {@link SplittableRandom} - so no atomic operations are needed
+     * for each value.
+     */
+    private static final class ThreadRandom extends Random {
+
+        /**
+         * The {@link MathUtil#generation} the source was created for.
+         */
+        private int sourceGeneration = -1;
+
+        /**
+         * The actual source of randomness.
+         */
+        private SplittableRandom source;
+
+        /**
+         * Recreates the source of randomness if the seed has changed.
+         */
+        private void update() {
+            int current = generation;
+            if(current == sourceGeneration)
+                return;
+
+            sourceGeneration = current;
+            source = deterministic
+                    ? new SplittableRandom(seed * 31 + Thread.currentThread().getName().hashCode())
+                    : new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p/>Restarts this threads sequence from the given seed.
+         */
+        @Override
+        public void setSeed(long seed) {
+            //Called by the Random constructor, before the source exists.
+            if(source != null)
+                source = new SplittableRandom(seed);
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (source.nextLong() >>> (64 - bits));
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return source.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return source.nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return source.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return source.nextBoolean();
+        }
+    }
 }
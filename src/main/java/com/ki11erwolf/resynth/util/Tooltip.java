@@ -26,6 +26,7 @@ import net.minecraft.world.World;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * A utility class that enables creating item & block tooltips
@@ -180,22 +181,37 @@ public interface Tooltip {
         return output;
     }
 
-    static void addPlantItemOrBlockTooltips(List<ITextComponent> tooltip, PlantSet<?, ?> set, ITextComponent descriptiveTooltip){
-        //PlantSet Broken Warning
-        PlantSetTooltips.addWarningIfBroken(tooltip, set);
-
-        //Stats
-        new ExpandingTooltip().setShiftForStats(tooltips -> {
-            PlantSetTooltips.setPropertiesTooltip(tooltips, set);
-            addBlankLine(tooltips);
-        }).write(addBlankLine(tooltip));
-
-        //Description
-        new ExpandingTooltip().setCtrlForDescription(tooltips -> addBlankLine(tooltips).addAll(
-                Arrays.asList(Tooltip.formatLineFeeds(descriptiveTooltip, TextFormatting.DARK_GRAY))
-        )).write(tooltip);
-
-        //Spacing
-        addBlankLine(tooltip);
+    /**
+     * Writes the complete tooltip of a plant sets item or block: the
+     * broken warning, the expandable stats and the expandable
+     * description. The tooltip is {@link TooltipCache cached} per
+     * owner and only built when it is not already cached.
+     *
+     * @param tooltip the tooltip list to write to.
+     * @param owner the item or block the tooltip belongs to.
+     * @param set the plant set the item or block belongs to.
+     * @param descriptiveTooltip supplies the description of the item
+     *                           or block. Only called when building.
+     */
+    static void addPlantItemOrBlockTooltips(List<ITextComponent> tooltip, Object owner, PlantSet<?, ?> set,
+                                            Supplier<ITextComponent> descriptiveTooltip){
+        TooltipCache.write(tooltip, owner, cached -> {
+            //PlantSet Broken Warning
+            PlantSetTooltips.addWarningIfBroken(cached, set);
+
+            //Stats
+            new ExpandingTooltip().setShiftForStats(tooltips -> {
+                PlantSetTooltips.setPropertiesTooltip(tooltips, set);
+                addBlankLine(tooltips);
+            }).write(addBlankLine(cached));
+
+            //Description
+            new ExpandingTooltip().setCtrlForDescription(tooltips -> addBlankLine(tooltips).addAll(
+                    Arrays.asList(Tooltip.formatLineFeeds(descriptiveTooltip.get(), TextFormatting.DARK_GRAY))
+            )).write(cached);
+
+            //Spacing
+            addBlankLine(cached);
+        });
     }
 }
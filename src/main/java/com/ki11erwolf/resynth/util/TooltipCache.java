@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.util;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.LanguageMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the fully built tooltips of Resynth items and blocks.
+ *
+ * <p/>Building a descriptive tooltip means localizing, wrapping and
+ * splitting several lang entries, and the result only ever changes
+ * with the modifier keys held down. The tooltip is therefore built
+ * once per owner (normally the item or block) and {@link
+ * CommonRKeys#getModifierState() modifier key state}, and simply
+ * copied into the tooltip list afterwards.
+ *
+ * <p/>The whole cache is dropped when the language (or any
+ * language file) is reloaded, the tooltip configuration values
+ * change, or a plant sets properties are synchronized with a
+ * server - see {@link #invalidate()}.
+ */
+public final class TooltipCache {
+
+    /**
+     * The number of possible modifier key states.
+     */
+    private static final int STATES = 8;
+
+    /**
+     * The built tooltips, by owner and modifier key state.
+     */
+    private static final Map<Object, List<ITextComponent>[]> CACHE = new IdentityHashMap<>();
+
+    /**
+     * Set by {@link #invalidate()}, which may be called from
+     * any thread, so the cache is only ever cleared on the
+     * thread drawing the tooltips.
+     */
+    private static volatile boolean invalidated;
+
+    /**
+     * The language the cached tooltips were built in.
+     */
+    private static LanguageMap language;
+
+    /**
+     * The tooltip character limit the cached tooltips were built with.
+     */
+    private static int characterLimit;
+
+    /**
+     * Whether descriptive tooltips were enabled when the cached tooltips were built.
+     */
+    private static boolean tooltipsEnabled;
+
+    /**Private Constructor.*/
+    private TooltipCache() {}
+
+    /**
+     * Writes the tooltip of the given owner to the given tooltip list,
+     * building it with the given {@link Tooltip} only if it is not
+     * already cached for the current modifier key state.
+     *
+     * @param tooltip the tooltip list to write to.
+     * @param owner the object the tooltip belongs to. Compared by identity.
+     * @param builder writes the tooltip of the owner. Must only
+     *                depend on the owner, the current language,
+     *                the tooltip config and the modifier keys.
+     * @return {@code tooltip}.
+     */
+    public static List<ITextComponent> write(List<ITextComponent> tooltip, Object owner, Tooltip builder) {
+        validate();
+
+        int state = CommonRKeys.getModifierState();
+        List<ITextComponent>[] states = CACHE.get(owner);
+
+        if(states == null) {
+            //noinspection unchecked
+            CACHE.put(owner, states = new List[STATES]);
+        }
+
+        List<ITextComponent> cached = states[state];
+        if(cached == null) {
+            cached = new ArrayList<>();
+            builder.write(cached);
+            states[state] = cached = Collections.unmodifiableList(cached);
+        }
+
+        tooltip.addAll(cached);
+        return tooltip;
+    }
+
+    /**
+     * Drops every cached tooltip, causing them to be
+     * built again the next time they're needed.
+     */
+    public static void invalidate() {
+        invalidated = true;
+    }
+
+    /**
+     * Drops every cached tooltip if the cache was {@link
+     * #invalidate() invalidated}, or the language, character
+     * limit or descriptive tooltip setting changed since the
+     * tooltips were built.
+     */
+    private static void validate() {
+        GeneralConfig config = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+        LanguageMap currentLanguage = LanguageMap.getInstance();
+        int currentLimit = config.getTooltipCharacterLimit();
+        boolean currentEnabled = config.areTooltipsEnabled();
+
+        if(!invalidated && currentLanguage == language
+                && currentLimit == characterLimit && currentEnabled == tooltipsEnabled)
+            return;
+
+        invalidated = false;
+        CACHE.clear();
+        language = currentLanguage;
+        characterLimit = currentLimit;
+        tooltipsEnabled = currentEnabled;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.world;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * The positions of every Resynth plant and Mineral Soil block in a
+ * single chunk, by set ID (the plant set name, or {@link
+ * ResynthIndex#SOIL}).
+ *
+ * <p/>Positions are packed into a {@code short} relative to the
+ * chunk - 4 bits each for x and z, and 8 bits for y - and kept in
+ * a primitive set per set ID. Attached to every server chunk as a
+ * capability and saved with the chunk.
+ */
+final class ChunkIndex {
+
+    /**
+     * The NBT key holding the packed positions, by set ID.
+     */
+    private static final String POSITIONS_TAG = "positions";
+
+    /**
+     * The NBT key marking the chunk as indexed.
+     */
+    private static final String INDEXED_TAG = "indexed";
+
+    /**
+     * The packed positions in the chunk, by set ID.
+     */
+    private final Map<String, ShortOpenHashSet> positions = new Object2ObjectOpenHashMap<>(4);
+
+    /**
+     * {@code true} once the chunk has been indexed, either
+     * by scanning it or loading a saved index.
+     */
+    private boolean indexed;
+
+    /**
+     * Adds the position under the given set ID.
+     *
+     * @return {@code true} if the position wasn't already indexed under the set ID.
+     */
+    boolean add(String setId, BlockPos pos) {
+        return positions.computeIfAbsent(setId, id -> new ShortOpenHashSet()).add(pack(pos));
+    }
+
+    /**
+     * Removes the position from the given set ID.
+     *
+     * @return {@code true} if the position was indexed under the set ID.
+     */
+    boolean remove(String setId, BlockPos pos) {
+        ShortOpenHashSet setPositions = positions.get(setId);
+        if(setPositions == null || !setPositions.remove(pack(pos)))
+            return false;
+
+        if(setPositions.isEmpty())
+            positions.remove(setId);
+        return true;
+    }
+
+    /**
+     * Removes every position from the index.
+     */
+    void clear() {
+        positions.clear();
+    }
+
+    /**
+     * Passes every position indexed under the given set ID
+     * (or every set ID if {@code null}), except those under
+     * the excluded set ID, to the consumer as {@link
+     * BlockPos#asLong() packed} block positions.
+     */
+    void forEach(ChunkPos chunk, String setId, String excludedSetId, LongConsumer action) {
+        for(Map.Entry<String, ShortOpenHashSet> entry : positions.entrySet()) {
+            if((setId != null && !setId.equals(entry.getKey())) || entry.getKey().equals(excludedSetId))
+                continue;
+
+            for(ShortIterator iterator = entry.getValue().iterator(); iterator.hasNext();)
+                action.accept(unpack(chunk, iterator.nextShort()));
+        }
+    }
+
+    /**
+     * Passes the number of positions under each set ID to the consumer.
+     */
+    void forEachCount(CountConsumer action) {
+        for(Map.Entry<String, ShortOpenHashSet> entry : positions.entrySet())
+            action.accept(entry.getKey(), entry.getValue().size());
+    }
+
+    boolean isIndexed() {
+        return indexed;
+    }
+
+    void setIndexed() {
+        this.indexed = true;
+    }
+
+    // ***
+    // NBT
+    // ***
+
+    /**
+     * @return the index as NBT, to be saved with the chunk.
+     */
+    CompoundNBT save() {
+        CompoundNBT tag = new CompoundNBT();
+        if(!indexed)
+            return tag;
+
+        CompoundNBT positionsTag = new CompoundNBT();
+        for(Map.Entry<String, ShortOpenHashSet> entry : positions.entrySet()) {
+            int[] packed = new int[entry.getValue().size()];
+            int i = 0;
+
+            for(ShortIterator iterator = entry.getValue().iterator(); iterator.hasNext();)
+                packed[i++] = iterator.nextShort() & 0xFFFF;
+
+            positionsTag.putIntArray(entry.getKey(), packed);
+        }
+
+        tag.putBoolean(INDEXED_TAG, true);
+        tag.put(POSITIONS_TAG, positionsTag);
+        return tag;
+    }
+
+    /**
+     * Replaces the index with the one saved in the given NBT. Chunks
+     * saved without an index are left unindexed, to be scanned.
+     */
+    void load(CompoundNBT tag) {
+        positions.clear();
+        indexed = tag.getBoolean(INDEXED_TAG);
+
+        CompoundNBT positionsTag = tag.getCompound(POSITIONS_TAG);
+        for(String setId : positionsTag.getAllKeys()) {
+            int[] packed = positionsTag.getIntArray(setId);
+            ShortOpenHashSet setPositions = new ShortOpenHashSet(packed.length);
+
+            for(int position : packed)
+                setPositions.add((short) position);
+
+            if(!setPositions.isEmpty())
+                positions.put(setId, setPositions);
+        }
+    }
+
+    // *******
+    // Packing
+    // *******
+
+    /**
+     * @return the position packed relative to its chunk.
+     */
+    private static short pack(BlockPos pos) {
+        return (short) ((pos.getY() & 0xFF) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15));
+    }
+
+    /**
+     * @return the packed position as an absolute {@link BlockPos#asLong() packed} block position.
+     */
+    private static long unpack(ChunkPos chunk, short packed) {
+        return BlockPos.asLong(
+                chunk.getMinBlockX() + (packed & 15), (packed >> 8) & 0xFF, chunk.getMinBlockZ() + ((packed >> 4) & 15)
+        );
+    }
+
+    /**
+     * Consumes the number of positions under a set ID.
+     */
+    @FunctionalInterface
+    interface CountConsumer {
+        void accept(String setId, int count);
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2018-2022 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.world;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.block.ResynthBlocks;
+import com.ki11erwolf.resynth.plant.block.BlockPlant;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.util.Direction;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * A per-chunk index of every Resynth plant and Mineral Soil block
+ * in the loaded server worlds, so they can be found without
+ * scanning blocks.
+ *
+ * <p/>Positions are indexed by set ID - the name of the plant set
+ * a plant belongs to (e.g. diamond), or {@link #SOIL} for Mineral
+ * Soil. The index is kept up to date as plants and soil are placed
+ * and removed, saved with the chunk, and built by scanning the chunk
+ * the first time a chunk without a saved index is loaded (e.g. from
+ * before the index existed).
+ *
+ * <p/>Only server worlds are indexed. Queries on client worlds, or
+ * chunks that aren't loaded, find nothing. Only used from the server
+ * thread.
+ */
+public final class ResynthIndex {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The set ID Mineral Soil blocks are indexed under.
+     */
+    public static final String SOIL = "mineral_soil";
+
+    /**
+     * The ID of the chunk capability holding the index.
+     */
+    private static final ResourceLocation CAPABILITY_ID = new ResourceLocation(ResynthMod.MODID, "index");
+
+    /**
+     * The chunk capability holding the index.
+     */
+    @CapabilityInject(ChunkIndex.class)
+    private static Capability<ChunkIndex> CHUNK_INDEX = null;
+
+    /**
+     * The index of every loaded chunk, by world.
+     */
+    private static final Map<IWorld, Long2ObjectMap<ChunkIndex>> LOADED = new WeakHashMap<>();
+
+    //Static class.
+    private ResynthIndex(){}
+
+    /**
+     * Registers the chunk capability holding the index.
+     */
+    public static void init() {
+        CapabilityManager.INSTANCE.register(ChunkIndex.class, new Capability.IStorage<ChunkIndex>() {
+            @Override
+            public INBT writeNBT(Capability<ChunkIndex> capability, ChunkIndex instance, Direction side) {
+                return instance.save();
+            }
+
+            @Override
+            public void readNBT(Capability<ChunkIndex> capability, ChunkIndex instance, Direction side, INBT nbt) {
+                if(nbt instanceof CompoundNBT)
+                    instance.load((CompoundNBT) nbt);
+            }
+        }, ChunkIndex::new);
+    }
+
+    // *******
+    // Queries
+    // *******
+
+    /**
+     * @param world the world.
+     * @param chunk the position of the chunk.
+     * @return the {@link BlockPos#asLong() packed} positions of every
+     * Resynth plant in the chunk. An empty set if the chunk isn't loaded.
+     */
+    public static LongSet plantsIn(World world, ChunkPos chunk) {
+        LongSet plants = new LongOpenHashSet();
+        forEachPlantIn(world, chunk, plants::add);
+        return LongSets.unmodifiable(plants);
+    }
+
+    /**
+     * @param world the world.
+     * @param chunk the position of the chunk.
+     * @return the {@link BlockPos#asLong() packed} positions of every
+     * Mineral Soil block in the chunk. An empty set if the chunk isn't loaded.
+     */
+    public static LongSet soilIn(World world, ChunkPos chunk) {
+        LongSet soil = new LongOpenHashSet();
+        forEachIn(world, chunk, SOIL, soil::add);
+        return LongSets.unmodifiable(soil);
+    }
+
+    /**
+     * Passes the {@link BlockPos#asLong() packed} position of every Resynth
+     * plant in the chunk to the consumer, without creating a set.
+     *
+     * @param world the world.
+     * @param chunk the position of the chunk.
+     * @param action the consumer.
+     */
+    public static void forEachPlantIn(World world, ChunkPos chunk, LongConsumer action) {
+        ChunkIndex index = getLoaded(world, chunk);
+        if(index != null)
+            index.forEach(chunk, null, SOIL, action);
+    }
+
+    /**
+     * Passes the {@link BlockPos#asLong() packed} position of every block
+     * indexed under the set ID in the chunk to the consumer.
+     *
+     * @param world the world.
+     * @param chunk the position of the chunk.
+     * @param setId the name of a plant set, or {@link #SOIL}.
+     * @param action the consumer.
+     */
+    public static void forEachIn(World world, ChunkPos chunk, String setId, LongConsumer action) {
+        ChunkIndex index = getLoaded(world, chunk);
+        if(index != null)
+            index.forEach(chunk, setId, null, action);
+    }
+
+    /**
+     * @param world the world.
+     * @return the number of plants of each plant set, as well as the
+     * number of Mineral Soil blocks ({@link #SOIL}), in the loaded
+     * chunks of the world.
+     */
+    public static Object2IntMap<String> countBySet(World world) {
+        Long2ObjectMap<ChunkIndex> chunks = LOADED.get(world);
+        if(chunks == null)
+            return Object2IntMaps.emptyMap();
+
+        Object2IntOpenHashMap<String> counts = new Object2IntOpenHashMap<>();
+        for(ChunkIndex index : chunks.values())
+            index.forEachCount(counts::addTo);
+
+        return Object2IntMaps.unmodifiable(counts);
+    }
+
+    /**
+     * @return the number of loaded chunks that are indexed in the world.
+     */
+    public static int getIndexedChunkCount(World world) {
+        Long2ObjectMap<ChunkIndex> chunks = LOADED.get(world);
+        return chunks == null ? 0 : chunks.size();
+    }
+
+    // ***********
+    // Maintenance
+    // ***********
+
+    /**
+     * Adds the position to the index. Called when a plant
+     * or Mineral Soil block is placed.
+     *
+     * @param world the world the block was placed in.
+     * @param pos the position of the block.
+     * @param setId the name of the plant set, or {@link #SOIL}.
+     */
+    public static void add(World world, BlockPos pos, String setId) {
+        ChunkIndex index = getLoaded(world, new ChunkPos(pos));
+        if(index != null)
+            index.add(setId, pos);
+    }
+
+    /**
+     * Removes the position from the index. Called when
+     * a plant or Mineral Soil block is removed.
+     *
+     * @param world the world the block was removed from.
+     * @param pos the position of the block.
+     * @param setId the name of the plant set, or {@link #SOIL}.
+     */
+    public static void remove(World world, BlockPos pos, String setId) {
+        ChunkIndex index = getLoaded(world, new ChunkPos(pos));
+        if(index != null)
+            index.remove(setId, pos);
+    }
+
+    /**
+     * @return the index of the chunk, if it's loaded and indexed.
+     */
+    @Nullable
+    private static ChunkIndex getLoaded(World world, ChunkPos chunk) {
+        if(world.isClientSide || LOADED.isEmpty())
+            return null;
+
+        Long2ObjectMap<ChunkIndex> chunks = LOADED.get(world);
+        return chunks == null ? null : chunks.get(chunk.toLong());
+    }
+
+    /**
+     * Rebuilds the index of the chunk from its blocks. Sections
+     * whose palettes can't contain a plant or soil are skipped.
+     */
+    private static void scan(Chunk chunk, ChunkIndex index) {
+        index.clear();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for(ChunkSection section : chunk.getSections()) {
+            if(ChunkSection.isEmpty(section) || !section.maybeHas(state -> getSetId(state) != null))
+                continue;
+
+            for(int y = 0; y < 16; y++)
+                for(int z = 0; z < 16; z++)
+                    for(int x = 0; x < 16; x++) {
+                        String setId = getSetId(section.getBlockState(x, y, z));
+                        if(setId != null)
+                            index.add(setId, pos.set(
+                                    chunk.getPos().getMinBlockX() + x, section.bottomBlockY() + y,
+                                    chunk.getPos().getMinBlockZ() + z
+                            ));
+                    }
+        }
+
+        index.setIndexed();
+    }
+
+    /**
+     * @return the set ID the block is indexed under,
+     * or {@code null} if it isn't indexed.
+     */
+    @Nullable
+    private static String getSetId(BlockState state) {
+        Block block = state.getBlock();
+
+        if(block instanceof BlockPlant)
+            return ((BlockPlant<?>) block).getSetName();
+        if(block == ResynthBlocks.BLOCK_MINERAL_SOIL)
+            return SOIL;
+
+        return null;
+    }
+
+    // ********
+    // Provider
+    // ********
+
+    /**
+     * Attaches, and saves, the index of a single chunk.
+     */
+    private static final class Provider implements ICapabilitySerializable<CompoundNBT> {
+
+        private final ChunkIndex index = new ChunkIndex();
+
+        private final LazyOptional<ChunkIndex> optional = LazyOptional.of(() -> index);
+
+        @Nonnull
+        @Override
+        public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> capability, @Nullable Direction side) {
+            return capability == CHUNK_INDEX ? optional.cast() : LazyOptional.empty();
+        }
+
+        @Override
+        public CompoundNBT serializeNBT() {
+            return index.save();
+        }
+
+        @Override
+        public void deserializeNBT(CompoundNBT tag) {
+            index.load(tag);
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Attaches an index to every server chunk.
+         */
+        @SubscribeEvent
+        public static void onAttachCapabilities(AttachCapabilitiesEvent<Chunk> event) {
+            if(!event.getObject().getLevel().isClientSide)
+                event.addCapability(CAPABILITY_ID, new Provider());
+        }
+
+        /**
+         * Tracks the index of the loaded chunk, scanning
+         * the chunk if it has no saved index.
+         */
+        @SubscribeEvent
+        public static void onChunkLoad(ChunkEvent.Load event) {
+            if(!(event.getChunk() instanceof Chunk) || event.getWorld() == null || event.getWorld().isClientSide())
+                return;
+
+            Chunk chunk = (Chunk) event.getChunk();
+            chunk.getCapability(CHUNK_INDEX).ifPresent(index -> {
+                if(!index.isIndexed()) {
+                    scan(chunk, index);
+                    LOG.debug("Indexed Resynth blocks in chunk " + chunk.getPos());
+                }
+
+                LOADED.computeIfAbsent(event.getWorld(), world -> new Long2ObjectOpenHashMap<>())
+                        .put(chunk.getPos().toLong(), index);
+            });
+        }
+
+        /**
+         * Stops tracking the index of the unloaded chunk. The
+         * index itself stays with the chunk until it's saved.
+         */
+        @SubscribeEvent
+        public static void onChunkUnload(ChunkEvent.Unload event) {
+            Long2ObjectMap<ChunkIndex> chunks = LOADED.get(event.getWorld());
+            if(chunks == null)
+                return;
+
+            chunks.remove(event.getChunk().getPos().toLong());
+            if(chunks.isEmpty())
+                LOADED.remove(event.getWorld());
+        }
+
+        @SubscribeEvent
+        public static void onWorldUnload(WorldEvent.Unload event) {
+            LOADED.remove(event.getWorld());
+        }
+    }
+}
@@ -36,12 +36,25 @@ public class GoogleAnalyticsV4_7_2 implements IGoogleAnalyticsURLBuilder{
 	public static final String URL_PREFIX = "http://www.google-analytics.com/__utm.gif";
 
 	private AnalyticsConfigData config;
+	private final String urlPrefix;
 	private Random random = new Random((long)(Math.random()*Long.MAX_VALUE));
 	private int cookie1;
 	private int cookie2;
 	
 	public GoogleAnalyticsV4_7_2(AnalyticsConfigData argConfig){
+		this(argConfig, URL_PREFIX);
+	}
+
+	/**
+	 * Creates a builder that sends requests to the given endpoint
+	 * instead of the default Google Analytics gif.
+	 *
+	 * @param argConfig the client config data
+	 * @param argUrlPrefix the endpoint url, without any query string
+	 */
+	public GoogleAnalyticsV4_7_2(AnalyticsConfigData argConfig, String argUrlPrefix){
 		config = argConfig;
+		urlPrefix = (argUrlPrefix != null) ? argUrlPrefix : URL_PREFIX;
 		resetSession();
 	}
 
@@ -57,7 +70,7 @@ public class GoogleAnalyticsV4_7_2 implements IGoogleAnalyticsURLBuilder{
 	 */
 	public String buildURL(AnalyticsRequestData argData) {
 		StringBuilder sb = new StringBuilder();
-		sb.append(URL_PREFIX);
+		sb.append(urlPrefix);
 		
 		long now = System.currentTimeMillis();
 		 